@@ -0,0 +1,145 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson.processor;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Jackson metadata of a single class, as collected at compile-time by the {@link TypeMetadataCollector}.
+ */
+final class CollectedTypeMetadata {
+
+    private final String targetTypeName;
+    private String classDescription;
+    private final Map<String, String> propertyNameOverrides = new TreeMap<>();
+    private final Map<String, String> propertyDescriptions = new TreeMap<>();
+    private final Set<String> backReferences = new TreeSet<>();
+    private Set<String> includedPropertyNames;
+    private final Set<String> ignoredPropertyNames = new TreeSet<>();
+    private String enumJsonValueMethodName;
+
+    /**
+     * Constructor.
+     *
+     * @param targetTypeName canonical name of the class the metadata is being collected for
+     */
+    CollectedTypeMetadata(String targetTypeName) {
+        this.targetTypeName = targetTypeName;
+    }
+
+    /**
+     * Getter for the canonical name of the class the metadata was collected for.
+     *
+     * @return target class name
+     */
+    String getTargetTypeName() {
+        return this.targetTypeName;
+    }
+
+    /**
+     * Getter for the value of the {@code JsonClassDescription} annotation.
+     *
+     * @return class description (or {@code null})
+     */
+    String getClassDescription() {
+        return this.classDescription;
+    }
+
+    /**
+     * Setter for the value of the {@code JsonClassDescription} annotation.
+     *
+     * @param classDescription class description (may be {@code null})
+     */
+    void setClassDescription(String classDescription) {
+        this.classDescription = classDescription;
+    }
+
+    /**
+     * Getter for the alternative property names by declared field name.
+     *
+     * @return (modifiable) alternative property names
+     */
+    Map<String, String> getPropertyNameOverrides() {
+        return this.propertyNameOverrides;
+    }
+
+    /**
+     * Getter for the property descriptions by declared field name.
+     *
+     * @return (modifiable) property descriptions
+     */
+    Map<String, String> getPropertyDescriptions() {
+        return this.propertyDescriptions;
+    }
+
+    /**
+     * Getter for the declared names of back reference fields.
+     *
+     * @return (modifiable) back reference field names
+     */
+    Set<String> getBackReferences() {
+        return this.backReferences;
+    }
+
+    /**
+     * Getter for the internal names of the properties jackson would detect under its default configuration.
+     *
+     * @return included properties' names (or {@code null} if they could not be determined)
+     */
+    Set<String> getIncludedPropertyNames() {
+        return this.includedPropertyNames;
+    }
+
+    /**
+     * Setter for the internal names of the properties jackson would detect under its default configuration.
+     *
+     * @param includedPropertyNames included properties' names (may be {@code null} if they could not be determined)
+     */
+    void setIncludedPropertyNames(Set<String> includedPropertyNames) {
+        this.includedPropertyNames = includedPropertyNames == null ? null : new TreeSet<>(includedPropertyNames);
+    }
+
+    /**
+     * Getter for the names of the properties being explicitly ignored via {@code JsonIgnoreProperties}.
+     *
+     * @return (modifiable) ignored properties' names
+     */
+    Set<String> getIgnoredPropertyNames() {
+        return this.ignoredPropertyNames;
+    }
+
+    /**
+     * Getter for the name of the enum's {@code JsonValue} annotated method.
+     *
+     * @return method name (or {@code null} if the enum values should not be determined via generated code)
+     */
+    String getEnumJsonValueMethodName() {
+        return this.enumJsonValueMethodName;
+    }
+
+    /**
+     * Setter for the name of the enum's {@code JsonValue} annotated method.
+     *
+     * @param enumJsonValueMethodName method name (may be {@code null})
+     */
+    void setEnumJsonValueMethodName(String enumJsonValueMethodName) {
+        this.enumJsonValueMethodName = enumJsonValueMethodName;
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor generating a {@code GeneratedTypeMetadata} implementation for each class with any of the jackson annotations being
+ * considered by the {@code JacksonModule} (on the class itself or any of its members). The generated classes are being registered for the
+ * {@link java.util.ServiceLoader} in the respective {@code META-INF/services} file, from where they are being picked-up via
+ * {@code JacksonModule.withGeneratedMetadata()}.
+ * <br>
+ * Classes that cannot be referenced from a generated class in the same package (e.g. private nested classes) are being skipped, i.e. they are
+ * still being handled via reflection at runtime.
+ */
+public class JacksonMetadataProcessor extends AbstractProcessor {
+
+    static final String GENERATED_CLASS_SUFFIX = "_JacksonMetadata";
+    static final String SERVICE_FILE = "META-INF/services/" + MetadataSourceWriter.METADATA_INTERFACE;
+
+    private final Set<String> processedTypes = new HashSet<>();
+    private final Set<String> generatedClassNames = new TreeSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(TypeMetadataCollector.JSON_BACK_REFERENCE, TypeMetadataCollector.JSON_CLASS_DESCRIPTION,
+                TypeMetadataCollector.JSON_IGNORE, TypeMetadataCollector.JSON_IGNORE_PROPERTIES, TypeMetadataCollector.JSON_PROPERTY,
+                TypeMetadataCollector.JSON_PROPERTY_DESCRIPTION, TypeMetadataCollector.JSON_VALUE));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            this.writeServiceFile();
+            return false;
+        }
+        Set<TypeElement> targetTypes = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element annotatedElement : roundEnv.getElementsAnnotatedWith(annotation)) {
+                TypeElement targetType = JacksonMetadataProcessor.findTargetType(annotatedElement);
+                if (targetType != null && this.processedTypes.add(targetType.getQualifiedName().toString())) {
+                    targetTypes.add(targetType);
+                }
+            }
+        }
+        TypeMetadataCollector collector = new TypeMetadataCollector(this.processingEnv.getElementUtils(), this.processingEnv.getTypeUtils());
+        for (TypeElement targetType : targetTypes) {
+            this.generateMetadataClass(targetType, collector.collect(targetType));
+        }
+        // the jackson annotations are not being claimed, i.e. other processors may still handle them
+        return false;
+    }
+
+    /**
+     * Look-up the class for which metadata should be generated, due to the given element being annotated.
+     *
+     * @param annotatedElement annotated class, field, method or parameter
+     * @return class to generate metadata for (or {@code null} if it cannot be referenced from a generated class in the same package)
+     */
+    private static TypeElement findTargetType(Element annotatedElement) {
+        Element element = annotatedElement;
+        while (element != null && !(element instanceof TypeElement)) {
+            element = element.getEnclosingElement();
+        }
+        if (element == null || element.getKind() == ElementKind.ANNOTATION_TYPE) {
+            return null;
+        }
+        for (Element typeElement = element; typeElement instanceof TypeElement; typeElement = typeElement.getEnclosingElement()) {
+            NestingKind nestingKind = ((TypeElement) typeElement).getNestingKind();
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE) || nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS) {
+                return null;
+            }
+        }
+        return (TypeElement) element;
+    }
+
+    /**
+     * Generate the metadata class for the given target class, named after the target class (including its enclosing classes' names) with the
+     * suffix {@value #GENERATED_CLASS_SUFFIX}.
+     *
+     * @param targetType class to generate the metadata class for
+     * @param metadata collected metadata of the target class
+     */
+    private void generateMetadataClass(TypeElement targetType, CollectedTypeMetadata metadata) {
+        String packageName = this.processingEnv.getElementUtils().getPackageOf(targetType).getQualifiedName().toString();
+        String targetTypeName = targetType.getQualifiedName().toString();
+        String nestedTypeName = packageName.isEmpty() ? targetTypeName : targetTypeName.substring(packageName.length() + 1);
+        String simpleClassName = nestedTypeName.replace('.', '_') + GENERATED_CLASS_SUFFIX;
+        String className = packageName.isEmpty() ? simpleClassName : packageName + '.' + simpleClassName;
+        try {
+            JavaFileObject sourceFile = this.processingEnv.getFiler().createSourceFile(className, targetType);
+            try (Writer writer = sourceFile.openWriter()) {
+                new MetadataSourceWriter(this.processingEnv.getElementUtils()).write(packageName, simpleClassName, metadata, writer);
+            }
+            this.generatedClassNames.add(className);
+        } catch (IOException ex) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate jackson metadata class " + className + ": " + ex.getMessage(), targetType);
+        }
+    }
+
+    /**
+     * Register all generated metadata classes in the {@code META-INF/services} file, including those registered by a previous (incremental)
+     * compilation.
+     */
+    private void writeServiceFile() {
+        if (this.generatedClassNames.isEmpty()) {
+            return;
+        }
+        Filer filer = this.processingEnv.getFiler();
+        Set<String> registeredClassNames = new TreeSet<>(this.generatedClassNames);
+        try {
+            FileObject existingFile = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Reader reader = existingFile.openReader(true); BufferedReader bufferedReader = new BufferedReader(reader)) {
+                bufferedReader.lines()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .forEach(registeredClassNames::add);
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            // there is no previous service file
+        }
+        try {
+            FileObject serviceFile = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = serviceFile.openWriter()) {
+                for (String className : registeredClassNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + SERVICE_FILE + ": " + ex.getMessage());
+        }
+    }
+}
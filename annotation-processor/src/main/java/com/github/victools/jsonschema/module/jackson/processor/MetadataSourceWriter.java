@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Map;
+import javax.lang.model.util.Elements;
+
+/**
+ * Writer of the source code for a single generated {@code GeneratedTypeMetadata} implementation. All type references are fully qualified, in
+ * order to avoid any conflicts with the target class' package.
+ */
+final class MetadataSourceWriter {
+
+    static final String METADATA_INTERFACE = "com.github.victools.jsonschema.module.jackson.GeneratedTypeMetadata";
+
+    private final Elements elements;
+
+    /**
+     * Constructor.
+     *
+     * @param elements utility methods for operating on program elements (used for creating string literals)
+     */
+    MetadataSourceWriter(Elements elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Write the source code of the generated class, only overriding those interface methods for which there is some metadata.
+     *
+     * @param packageName package of the generated class (and its target class)
+     * @param simpleClassName simple name of the generated class
+     * @param metadata collected metadata to represent
+     * @param writer writer to write the source code to
+     * @throws IOException if writing fails
+     */
+    void write(String packageName, String simpleClassName, CollectedTypeMetadata metadata, Writer writer) throws IOException {
+        String targetType = metadata.getTargetTypeName();
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Jackson metadata of {@link ").append(targetType).append("}, generated by the jsonschema-module-jackson-processor.\n */\n")
+                .append("public final class ").append(simpleClassName).append(" implements ").append(METADATA_INTERFACE).append(" {\n\n")
+                .append("    @Override\n    public java.lang.Class<?> getTargetType() {\n        return ").append(targetType).append(".class;\n    }\n");
+        if (metadata.getClassDescription() != null) {
+            source.append("\n    @Override\n    public java.lang.String getClassDescription() {\n        return ")
+                    .append(this.literal(metadata.getClassDescription())).append(";\n    }\n");
+        }
+        this.appendMap(source, "getPropertyNameOverrides", metadata.getPropertyNameOverrides());
+        this.appendMap(source, "getPropertyDescriptions", metadata.getPropertyDescriptions());
+        this.appendSet(source, "getBackReferences", metadata.getBackReferences());
+        if (metadata.getIncludedPropertyNames() != null) {
+            this.appendSet(source, "getIncludedPropertyNames", metadata.getIncludedPropertyNames());
+            this.appendSet(source, "getIgnoredPropertyNames", metadata.getIgnoredPropertyNames());
+        }
+        if (metadata.getEnumJsonValueMethodName() != null) {
+            source.append("\n    @Override\n    public java.util.List<java.lang.Object> getEnumJsonValues() {\n")
+                    .append("        ").append(targetType).append("[] constants = ").append(targetType).append(".values();\n")
+                    .append("        if (constants.length == 0) {\n            return null;\n        }\n")
+                    .append("        java.util.List<java.lang.Object> values = new java.util.ArrayList<>(constants.length);\n")
+                    .append("        for (").append(targetType).append(" constant : constants) {\n")
+                    .append("            values.add(constant.").append(metadata.getEnumJsonValueMethodName()).append("());\n        }\n")
+                    .append("        return values;\n    }\n");
+        }
+        source.append("}\n");
+        writer.write(source.toString());
+    }
+
+    /**
+     * Append the override of a method returning the given string map, unless it is empty.
+     *
+     * @param source source code to extend
+     * @param methodName name of the method to override
+     * @param values entries to be returned by the method
+     */
+    private void appendMap(StringBuilder source, String methodName, Map<String, String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        source.append("\n    @Override\n    public java.util.Map<java.lang.String, java.lang.String> ").append(methodName).append("() {\n")
+                .append("        java.util.Map<java.lang.String, java.lang.String> values = new java.util.HashMap<>();\n");
+        values.forEach((key, value) -> source.append("        values.put(").append(this.literal(key)).append(", ")
+                .append(this.literal(value)).append(");\n"));
+        source.append("        return values;\n    }\n");
+    }
+
+    /**
+     * Append the override of a method returning the given string set, unless it is empty.
+     *
+     * @param source source code to extend
+     * @param methodName name of the method to override
+     * @param values elements to be returned by the method
+     */
+    private void appendSet(StringBuilder source, String methodName, Collection<String> values) {
+        if (values.isEmpty() && !"getIncludedPropertyNames".equals(methodName)) {
+            return;
+        }
+        source.append("\n    @Override\n    public java.util.Set<java.lang.String> ").append(methodName).append("() {\n")
+                .append("        java.util.Set<java.lang.String> values = new java.util.HashSet<>();\n");
+        values.forEach(value -> source.append("        values.add(").append(this.literal(value)).append(");\n"));
+        source.append("        return values;\n    }\n");
+    }
+
+    /**
+     * Create the java string literal for the given value.
+     *
+     * @param value string to represent
+     * @return quoted and escaped string literal
+     */
+    private String literal(String value) {
+        return this.elements.getConstantExpression(value);
+    }
+}
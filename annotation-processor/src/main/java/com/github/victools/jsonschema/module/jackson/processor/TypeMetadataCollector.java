@@ -0,0 +1,703 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson.processor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Compile-time equivalent of the reflective look-ups performed by the {@code JacksonModule}, based on the {@code javax.lang.model} API.
+ * <br>
+ * The included properties are being determined by mirroring jackson's default property detection (i.e. without mix-ins, config overrides or
+ * non-default visibility/naming settings) for a supported subset of jackson annotations. If any other jackson annotation is present in the class
+ * hierarchy, the included properties are not being determined at compile-time, leaving it to jackson's introspection at runtime.
+ */
+final class TypeMetadataCollector {
+
+    private static final String JACKSON_ANNOTATION_PACKAGE = "com.fasterxml.jackson.annotation.";
+    static final String JSON_BACK_REFERENCE = JACKSON_ANNOTATION_PACKAGE + "JsonBackReference";
+    static final String JSON_CLASS_DESCRIPTION = JACKSON_ANNOTATION_PACKAGE + "JsonClassDescription";
+    static final String JSON_IGNORE = JACKSON_ANNOTATION_PACKAGE + "JsonIgnore";
+    static final String JSON_IGNORE_PROPERTIES = JACKSON_ANNOTATION_PACKAGE + "JsonIgnoreProperties";
+    static final String JSON_MANAGED_REFERENCE = JACKSON_ANNOTATION_PACKAGE + "JsonManagedReference";
+    static final String JSON_PROPERTY = JACKSON_ANNOTATION_PACKAGE + "JsonProperty";
+    static final String JSON_PROPERTY_DESCRIPTION = JACKSON_ANNOTATION_PACKAGE + "JsonPropertyDescription";
+    static final String JSON_VALUE = JACKSON_ANNOTATION_PACKAGE + "JsonValue";
+
+    /**
+     * Jackson annotations whose effect on the included properties is being mirrored (or which don't have any such effect).
+     */
+    private static final Set<String> SUPPORTED_ANNOTATIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(JSON_BACK_REFERENCE,
+            JSON_CLASS_DESCRIPTION, JSON_IGNORE, JSON_IGNORE_PROPERTIES, JSON_MANAGED_REFERENCE, JSON_PROPERTY, JSON_PROPERTY_DESCRIPTION, JSON_VALUE,
+            JACKSON_ANNOTATION_PACKAGE + "JsonInclude", JACKSON_ANNOTATION_PACKAGE + "JsonPropertyOrder")));
+    /**
+     * Supported jackson annotations that make an otherwise invisible field or method visible (and mark it as explicitly included).
+     */
+    private static final Set<String> VISIBILITY_MARKERS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(JSON_BACK_REFERENCE,
+            JSON_MANAGED_REFERENCE, JSON_PROPERTY)));
+    /**
+     * Non-jackson annotations being considered by jackson, whose effect is not being mirrored.
+     */
+    private static final Set<String> UNSUPPORTED_JDK_ANNOTATIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "java.beans.ConstructorProperties", "java.beans.Transient")));
+
+    private final Elements elements;
+    private final Types types;
+
+    /**
+     * Constructor.
+     *
+     * @param elements utility methods for operating on program elements
+     * @param types utility methods for operating on types
+     */
+    TypeMetadataCollector(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    /**
+     * Collect the jackson metadata for the given class.
+     *
+     * @param type class to collect the metadata for
+     * @return collected metadata
+     */
+    CollectedTypeMetadata collect(TypeElement type) {
+        CollectedTypeMetadata metadata = new CollectedTypeMetadata(type.getQualifiedName().toString());
+        AnnotationMirror classDescription = TypeMetadataCollector.findAnnotation(type, JSON_CLASS_DESCRIPTION);
+        if (classDescription != null) {
+            metadata.setClassDescription((String) this.getAnnotationValue(classDescription, "value"));
+        }
+        this.collectFieldMetadata(type, metadata);
+        Set<TypeElement> hierarchy = this.collectHierarchy(type);
+        if (type.getKind() == ElementKind.ENUM) {
+            metadata.setEnumJsonValueMethodName(this.findEnumJsonValueMethodName(type, hierarchy));
+        } else if (type.getKind() == ElementKind.CLASS || type.getKind() == ElementKind.INTERFACE) {
+            metadata.setIncludedPropertyNames(this.collectIncludedPropertyNames(hierarchy));
+            metadata.getIgnoredPropertyNames().addAll(this.collectIgnoredPropertyNames(type, hierarchy));
+        }
+        return metadata;
+    }
+
+    /**
+     * Collect the alternative names, descriptions and back reference markers of the given class' declared fields, considering the annotations on
+     * the field itself first and on its getter method second (in the same way as the {@code JacksonModule} does at runtime).
+     *
+     * @param type class declaring the fields
+     * @param metadata collected metadata to extend
+     */
+    private void collectFieldMetadata(TypeElement type, CollectedTypeMetadata metadata) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            String fieldName = field.getSimpleName().toString();
+            ExecutableElement getter = this.findGetter(type, fieldName);
+            AnnotationMirror propertyAnnotation = TypeMetadataCollector.findAnnotationOnFieldOrGetter(field, getter, JSON_PROPERTY);
+            if (propertyAnnotation != null) {
+                String nameOverride = (String) this.getAnnotationValue(propertyAnnotation, "value");
+                if (!nameOverride.isEmpty() && !nameOverride.equals(fieldName)) {
+                    metadata.getPropertyNameOverrides().put(fieldName, nameOverride);
+                }
+            }
+            AnnotationMirror descriptionAnnotation = TypeMetadataCollector.findAnnotationOnFieldOrGetter(field, getter, JSON_PROPERTY_DESCRIPTION);
+            if (descriptionAnnotation != null) {
+                metadata.getPropertyDescriptions().put(fieldName, (String) this.getAnnotationValue(descriptionAnnotation, "value"));
+            }
+            if (TypeMetadataCollector.findAnnotationOnFieldOrGetter(field, getter, JSON_BACK_REFERENCE) != null) {
+                metadata.getBackReferences().add(fieldName);
+            }
+        }
+    }
+
+    /**
+     * Look-up the getter for the field with the given name, in the same way as the schema generator does: a public, non-static and argument-free
+     * method named "get" or "is" followed by the capitalized field name.
+     *
+     * @param type class declaring the field
+     * @param fieldName name of the field
+     * @return getter method (or {@code null})
+     */
+    private ExecutableElement findGetter(TypeElement type, String fieldName) {
+        String capitalizedFieldName = fieldName.substring(0, 1).toUpperCase() + fieldName.substring(1);
+        String getterName = "get" + capitalizedFieldName;
+        String isGetterName = "is" + capitalizedFieldName;
+        for (ExecutableElement method : ElementFilter.methodsIn(this.elements.getAllMembers(type))) {
+            String methodName = method.getSimpleName().toString();
+            if ((methodName.equals(getterName) || methodName.equals(isGetterName)) && method.getParameters().isEmpty()
+                    && method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Collect the given class and its super types (except {@link Object}) in the same order as jackson does: the class itself, its interfaces
+     * (and their super interfaces) and then its super class (along with its interfaces and super class).
+     *
+     * @param type class to start from
+     * @return hierarchy of the given class (or {@code null} if a super type cannot be resolved)
+     */
+    private Set<TypeElement> collectHierarchy(TypeElement type) {
+        Set<TypeElement> hierarchy = new LinkedHashSet<>();
+        return this.addToHierarchy(type.asType(), hierarchy) ? hierarchy : null;
+    }
+
+    /**
+     * Add the given type and its super types to the given hierarchy.
+     *
+     * @param type type to add
+     * @param hierarchy collected hierarchy to extend
+     * @return whether all super types could be resolved
+     */
+    private boolean addToHierarchy(TypeMirror type, Set<TypeElement> hierarchy) {
+        if (type.getKind() == TypeKind.NONE) {
+            return true;
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (typeElement.getQualifiedName().contentEquals(Object.class.getName()) || !hierarchy.add(typeElement)) {
+            return true;
+        }
+        for (TypeMirror interfaceType : typeElement.getInterfaces()) {
+            if (!this.addToHierarchy(interfaceType, hierarchy)) {
+                return false;
+            }
+        }
+        return this.addToHierarchy(typeElement.getSuperclass(), hierarchy);
+    }
+
+    /**
+     * Determine the internal names of the properties jackson would detect for the class with the given hierarchy under its default configuration.
+     *
+     * @param hierarchy class and its super types, as per {@link #collectHierarchy(TypeElement)}
+     * @return included properties' names (or {@code null} if they cannot be determined at compile-time)
+     */
+    private Set<String> collectIncludedPropertyNames(Set<TypeElement> hierarchy) {
+        if (hierarchy == null || !hierarchy.stream().allMatch(this::isSupportedForPropertyDetection)) {
+            return null;
+        }
+        Map<String, PropertyCandidate> candidates = new LinkedHashMap<>();
+        for (TypeElement hierarchyType : hierarchy) {
+            if (hierarchyType.getKind() == ElementKind.INTERFACE) {
+                continue;
+            }
+            for (VariableElement field : ElementFilter.fieldsIn(hierarchyType.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    this.addField(field, candidates);
+                }
+            }
+        }
+        for (MemberMethod method : this.collectMemberMethods(hierarchy)) {
+            if (method.element.getParameters().isEmpty()) {
+                this.addGetter(method, candidates);
+            } else if (method.element.getParameters().size() == 1) {
+                this.addSetter(method, candidates);
+            }
+        }
+        Set<String> includedNames = new TreeSet<>();
+        Set<String> externalNames = new HashSet<>();
+        for (PropertyCandidate candidate : candidates.values()) {
+            if (!candidate.visible) {
+                continue;
+            }
+            if (candidate.ignored) {
+                if (candidate.explicitlyIncluded) {
+                    // jackson would only remove the ignored accessors, which is not being mirrored here
+                    return null;
+                }
+                continue;
+            }
+            if (candidate.explicitNames.size() > 1) {
+                // jackson would split this into multiple properties
+                return null;
+            }
+            String externalName = candidate.explicitNames.isEmpty() ? candidate.internalName : candidate.explicitNames.iterator().next();
+            if (!externalNames.add(externalName)) {
+                // jackson would merge the renamed properties
+                return null;
+            }
+            includedNames.add(candidate.internalName);
+        }
+        return includedNames;
+    }
+
+    /**
+     * Check whether the given class and its members only carry annotations whose effect on jackson's property detection is being mirrored here.
+     * JDK classes are not supported either (except for interfaces), as their private members might not be available at compile-time.
+     *
+     * @param type class to check
+     * @return whether the property detection for the given class can be performed at compile-time
+     */
+    private boolean isSupportedForPropertyDetection(TypeElement type) {
+        if (type.getKind() != ElementKind.INTERFACE && TypeMetadataCollector.isJdkType(type)) {
+            return false;
+        }
+        if (!this.hasOnlySupportedAnnotations(type)) {
+            return false;
+        }
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.FIELD || member.getKind() == ElementKind.METHOD) {
+                if (!this.hasOnlySupportedAnnotations(member)) {
+                    return false;
+                }
+            } else if (member.getKind() == ElementKind.CONSTRUCTOR && this.hasJacksonAnnotations(member)) {
+                // creators are not being mirrored here
+                return false;
+            }
+            if (member instanceof ExecutableElement
+                    && ((ExecutableElement) member).getParameters().stream().anyMatch(this::hasJacksonAnnotations)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the given class is part of the JDK.
+     *
+     * @param type class to check
+     * @return whether the class' name starts with {@code "java."} or {@code "javax."}
+     */
+    private static boolean isJdkType(TypeElement type) {
+        String typeName = type.getQualifiedName().toString();
+        return typeName.startsWith("java.") || typeName.startsWith("javax.");
+    }
+
+    /**
+     * Check whether the given element only carries annotations whose effect on jackson's property detection is being mirrored here.
+     *
+     * @param element class, field or method to check
+     * @return whether all annotations are supported
+     */
+    private boolean hasOnlySupportedAnnotations(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            String annotationName = TypeMetadataCollector.getAnnotationName(annotation);
+            if (UNSUPPORTED_JDK_ANNOTATIONS.contains(annotationName)) {
+                return false;
+            }
+            if (this.isJacksonAnnotation(annotation) && (!SUPPORTED_ANNOTATIONS.contains(annotationName)
+                    || JSON_PROPERTY.equals(annotationName) && !"AUTO".equals(this.getAnnotationValue(annotation, "access").toString()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether the given element carries any annotation being considered by jackson.
+     *
+     * @param element element to check
+     * @return whether there is any relevant annotation
+     */
+    private boolean hasJacksonAnnotations(Element element) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(annotation -> this.isJacksonAnnotation(annotation)
+                        || UNSUPPORTED_JDK_ANNOTATIONS.contains(TypeMetadataCollector.getAnnotationName(annotation)));
+    }
+
+    /**
+     * Check whether the given annotation is a jackson annotation (or a bundle of those).
+     *
+     * @param annotation annotation to check
+     * @return whether the annotation is considered by jackson
+     */
+    private boolean isJacksonAnnotation(AnnotationMirror annotation) {
+        Element annotationType = annotation.getAnnotationType().asElement();
+        return TypeMetadataCollector.getAnnotationName(annotation).startsWith("com.fasterxml.jackson.")
+                || TypeMetadataCollector.findAnnotation(annotationType, JACKSON_ANNOTATION_PACKAGE + "JacksonAnnotation") != null
+                || TypeMetadataCollector.findAnnotation(annotationType, JACKSON_ANNOTATION_PACKAGE + "JacksonAnnotationsInside") != null;
+    }
+
+    /**
+     * Register the given field as property accessor, as per jackson's default field visibility (i.e. public or explicitly annotated).
+     *
+     * @param field non-static field to register
+     * @param candidates property candidates by internal name (to be extended)
+     */
+    private void addField(VariableElement field, Map<String, PropertyCandidate> candidates) {
+        Map<String, AnnotationMirror> annotations = TypeMetadataCollector.collectAnnotations(field);
+        if (this.isJsonValue(annotations)) {
+            return;
+        }
+        boolean marked = annotations.keySet().stream().anyMatch(VISIBILITY_MARKERS::contains);
+        boolean visible = marked || field.getModifiers().contains(Modifier.PUBLIC) && !field.getModifiers().contains(Modifier.TRANSIENT);
+        this.addAccessor(field.getSimpleName().toString(), annotations, marked, visible, candidates);
+    }
+
+    /**
+     * Register the given argument-free method as property accessor, if it is a getter as per jackson's default settings.
+     *
+     * @param method argument-free member method
+     * @param candidates property candidates by internal name (to be extended)
+     */
+    private void addGetter(MemberMethod method, Map<String, PropertyCandidate> candidates) {
+        if (method.element.getReturnType().getKind() == TypeKind.VOID || this.isJsonValue(method.annotations)) {
+            return;
+        }
+        String methodName = method.element.getSimpleName().toString();
+        String implicitName = TypeMetadataCollector.manglePropertyName(methodName, "get");
+        if (implicitName == null && this.isBooleanType(method.element.getReturnType())) {
+            implicitName = TypeMetadataCollector.manglePropertyName(methodName, "is");
+        }
+        boolean marked = method.annotations.keySet().stream().anyMatch(VISIBILITY_MARKERS::contains);
+        if (marked) {
+            this.addAccessor(implicitName == null ? methodName : implicitName, method.annotations, true, true, candidates);
+        } else if (implicitName != null) {
+            boolean visible = method.element.getModifiers().contains(Modifier.PUBLIC);
+            this.addAccessor(implicitName, method.annotations, false, visible, candidates);
+        }
+    }
+
+    /**
+     * Register the given single-argument method as property accessor, if it is a setter as per jackson's default settings (which are visible
+     * regardless of their modifiers).
+     *
+     * @param method single-argument member method
+     * @param candidates property candidates by internal name (to be extended)
+     */
+    private void addSetter(MemberMethod method, Map<String, PropertyCandidate> candidates) {
+        String methodName = method.element.getSimpleName().toString();
+        String implicitName = TypeMetadataCollector.manglePropertyName(methodName, "set");
+        boolean marked = method.annotations.keySet().stream().anyMatch(VISIBILITY_MARKERS::contains);
+        if (marked || implicitName != null) {
+            this.addAccessor(implicitName == null ? methodName : implicitName, method.annotations, marked, true, candidates);
+        }
+    }
+
+    /**
+     * Register a single property accessor.
+     *
+     * @param implicitName internal name of the property
+     * @param annotations accessor's annotations by their qualified type name
+     * @param marked whether the accessor has been marked explicitly via an annotation
+     * @param visible whether the accessor is visible
+     * @param candidates property candidates by internal name (to be extended)
+     */
+    private void addAccessor(String implicitName, Map<String, AnnotationMirror> annotations, boolean marked, boolean visible,
+            Map<String, PropertyCandidate> candidates) {
+        PropertyCandidate candidate = candidates.computeIfAbsent(implicitName, PropertyCandidate::new);
+        candidate.visible |= visible;
+        candidate.explicitlyIncluded |= marked;
+        AnnotationMirror ignoreAnnotation = annotations.get(JSON_IGNORE);
+        candidate.ignored |= ignoreAnnotation != null && (Boolean) this.getAnnotationValue(ignoreAnnotation, "value");
+        AnnotationMirror propertyAnnotation = annotations.get(JSON_PROPERTY);
+        if (propertyAnnotation != null) {
+            String explicitName = (String) this.getAnnotationValue(propertyAnnotation, "value");
+            if (!explicitName.isEmpty()) {
+                candidate.explicitNames.add(explicitName);
+            }
+        }
+    }
+
+    /**
+     * Check whether the given annotations include a {@code JsonValue} annotation with {@code value = true}.
+     *
+     * @param annotations annotations by their qualified type name
+     * @return whether the annotated field/method provides the object's serialized value
+     */
+    private boolean isJsonValue(Map<String, AnnotationMirror> annotations) {
+        AnnotationMirror jsonValueAnnotation = annotations.get(JSON_VALUE);
+        return jsonValueAnnotation != null && (Boolean) this.getAnnotationValue(jsonValueAnnotation, "value");
+    }
+
+    /**
+     * Check whether the given type is {@code boolean} or {@link Boolean}.
+     *
+     * @param type type to check
+     * @return whether the given type is a boolean
+     */
+    private boolean isBooleanType(TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN
+                || type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) this.types.asElement(type)).getQualifiedName().contentEquals(Boolean.class.getName());
+    }
+
+    /**
+     * Collect the non-static methods with up to two parameters from the given hierarchy, merging the annotations of overridden methods into the
+     * overriding ones, in the same way as jackson does.
+     *
+     * @param hierarchy class and its super types, as per {@link #collectHierarchy(TypeElement)}
+     * @return member methods
+     */
+    private List<MemberMethod> collectMemberMethods(Set<TypeElement> hierarchy) {
+        Map<String, MemberMethod> methods = new LinkedHashMap<>();
+        for (TypeElement hierarchyType : hierarchy) {
+            for (ExecutableElement method : ElementFilter.methodsIn(hierarchyType.getEnclosedElements())) {
+                if (method.getModifiers().contains(Modifier.STATIC) || method.getParameters().size() > 2) {
+                    continue;
+                }
+                String signature = method.getSimpleName() + method.getParameters().stream()
+                        .map(parameter -> this.types.erasure(parameter.asType()).toString())
+                        .collect(Collectors.joining(",", "(", ")"));
+                MemberMethod existingMethod = methods.get(signature);
+                if (existingMethod == null) {
+                    methods.put(signature, new MemberMethod(method));
+                } else {
+                    existingMethod.merge(method);
+                }
+            }
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    /**
+     * Collect the names of the properties being explicitly ignored via the {@code JsonIgnoreProperties} annotation closest to the given class.
+     *
+     * @param type class to collect the ignored properties for
+     * @param hierarchy class and its super types, as per {@link #collectHierarchy(TypeElement)}
+     * @return explicitly ignored properties' names
+     */
+    private Set<String> collectIgnoredPropertyNames(TypeElement type, Set<TypeElement> hierarchy) {
+        for (TypeElement hierarchyType : hierarchy == null ? Collections.singleton(type) : hierarchy) {
+            AnnotationMirror ignorePropertiesAnnotation = TypeMetadataCollector.findAnnotation(hierarchyType, JSON_IGNORE_PROPERTIES);
+            if (ignorePropertiesAnnotation != null) {
+                @SuppressWarnings("unchecked")
+                List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) this.getAnnotationValue(ignorePropertiesAnnotation, "value");
+                return values.stream()
+                        .map(value -> (String) value.getValue())
+                        .collect(Collectors.toCollection(TreeSet::new));
+            }
+        }
+        return Collections.emptySet();
+    }
+
+    /**
+     * Look-up the name of the given enum's {@code JsonValue} annotated method, if the serialized values can be determined by invoking it directly.
+     * This requires the same conditions as the reflective look-up at runtime: there must be exactly one such method (with {@code value = true} and
+     * without arguments), which must be accessible from the {@code JacksonModule}, i.e. both the method and the enum must be public.
+     *
+     * @param enumType enum to look-up the method for
+     * @param hierarchy enum and its super types, as per {@link #collectHierarchy(TypeElement)}
+     * @return method name (or {@code null})
+     */
+    private String findEnumJsonValueMethodName(TypeElement enumType, Set<TypeElement> hierarchy) {
+        if (hierarchy == null || !TypeMetadataCollector.isPubliclyAccessible(enumType)) {
+            return null;
+        }
+        List<ExecutableElement> jsonValueMethods = new ArrayList<>();
+        for (TypeElement hierarchyType : hierarchy) {
+            for (ExecutableElement method : ElementFilter.methodsIn(hierarchyType.getEnclosedElements())) {
+                if (method.getParameters().isEmpty() && !method.getModifiers().contains(Modifier.STATIC)
+                        && this.isJsonValue(TypeMetadataCollector.collectAnnotations(method))) {
+                    jsonValueMethods.add(method);
+                }
+            }
+        }
+        if (jsonValueMethods.size() != 1) {
+            return null;
+        }
+        ExecutableElement jsonValueMethod = jsonValueMethods.get(0);
+        if (jsonValueMethod.getEnclosingElement() != enumType || !jsonValueMethod.getModifiers().contains(Modifier.PUBLIC)
+                || jsonValueMethod.getReturnType().getKind() == TypeKind.VOID) {
+            return null;
+        }
+        return jsonValueMethod.getSimpleName().toString();
+    }
+
+    /**
+     * Check whether the given class is public and only nested in public classes.
+     *
+     * @param type class to check
+     * @return whether the class is accessible from any other package
+     */
+    static boolean isPubliclyAccessible(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Derive the property name from an accessor method's name in the same way as jackson does by default: lower-casing all leading upper-case
+     * characters after the prefix (e.g. "getURL" results in "url", while "getUrlValue" results in "urlValue").
+     *
+     * @param methodName name of the accessor method
+     * @param prefix expected accessor prefix, i.e. "get", "is" or "set"
+     * @return property name (or {@code null} if the method name does not start with the prefix or there is nothing after it)
+     */
+    static String manglePropertyName(String methodName, String prefix) {
+        int prefixLength = prefix.length();
+        int length = methodName.length();
+        if (!methodName.startsWith(prefix) || length == prefixLength) {
+            return null;
+        }
+        StringBuilder propertyName = new StringBuilder(length - prefixLength);
+        for (int index = prefixLength; index < length; index++) {
+            char character = methodName.charAt(index);
+            char lowerCaseCharacter = Character.toLowerCase(character);
+            if (character == lowerCaseCharacter) {
+                propertyName.append(methodName, index, length);
+                break;
+            }
+            propertyName.append(lowerCaseCharacter);
+        }
+        return propertyName.toString();
+    }
+
+    /**
+     * Look-up the value of the given annotation's attribute, considering its default value.
+     *
+     * @param annotation annotation to look-up the attribute value from
+     * @param attributeName name of the attribute
+     * @return attribute value (e.g. a {@link String}, {@link Boolean}, {@link VariableElement} for enum constants or {@link List} for arrays)
+     */
+    private Object getAnnotationValue(AnnotationMirror annotation, String attributeName) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : this.elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attributeName)) {
+                return entry.getValue().getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Look-up the annotation of the given type on the field itself, falling-back on its getter method.
+     *
+     * @param field field to check first
+     * @param getter field's getter method to check second (may be {@code null})
+     * @param annotationName qualified name of the annotation type to look-up
+     * @return annotation (or {@code null})
+     */
+    private static AnnotationMirror findAnnotationOnFieldOrGetter(VariableElement field, ExecutableElement getter, String annotationName) {
+        AnnotationMirror annotation = TypeMetadataCollector.findAnnotation(field, annotationName);
+        if (annotation == null && getter != null) {
+            annotation = TypeMetadataCollector.findAnnotation(getter, annotationName);
+        }
+        return annotation;
+    }
+
+    /**
+     * Look-up the annotation of the given type directly on the given element.
+     *
+     * @param element annotated element
+     * @param annotationName qualified name of the annotation type to look-up
+     * @return annotation (or {@code null})
+     */
+    static AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (TypeMetadataCollector.getAnnotationName(annotation).equals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Collect the annotations directly on the given element.
+     *
+     * @param element annotated element
+     * @return annotations by their qualified type name
+     */
+    private static Map<String, AnnotationMirror> collectAnnotations(Element element) {
+        Map<String, AnnotationMirror> annotations = new HashMap<>();
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            annotations.putIfAbsent(TypeMetadataCollector.getAnnotationName(annotation), annotation);
+        }
+        return annotations;
+    }
+
+    /**
+     * Determine the qualified name of the given annotation's type.
+     *
+     * @param annotation annotation to determine the type name for
+     * @return qualified annotation type name
+     */
+    private static String getAnnotationName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * Member method along with the annotations of the methods it overrides, as collected by jackson.
+     */
+    private static final class MemberMethod {
+
+        ExecutableElement element;
+        final Map<String, AnnotationMirror> annotations;
+
+        /**
+         * Constructor.
+         *
+         * @param element (most specific) method declaration
+         */
+        MemberMethod(ExecutableElement element) {
+            this.element = element;
+            this.annotations = TypeMetadataCollector.collectAnnotations(element);
+        }
+
+        /**
+         * Merge the given overridden method into this one: adding its annotations (unless already present), and considering it as representative
+         * declaration if the current one is declared by an interface (while the given one isn't).
+         *
+         * @param overriddenMethod method with the same signature declared further up in the hierarchy
+         */
+        void merge(ExecutableElement overriddenMethod) {
+            TypeMetadataCollector.collectAnnotations(overriddenMethod).forEach(this.annotations::putIfAbsent);
+            if (this.element.getEnclosingElement().getKind() == ElementKind.INTERFACE
+                    && overriddenMethod.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+                this.element = overriddenMethod;
+            }
+        }
+    }
+
+    /**
+     * Property being assembled from its accessors (fields, getters and setters).
+     */
+    private static final class PropertyCandidate {
+
+        final String internalName;
+        final Set<String> explicitNames = new HashSet<>();
+        boolean visible;
+        boolean ignored;
+        boolean explicitlyIncluded;
+
+        /**
+         * Constructor.
+         *
+         * @param internalName implicit name of the property
+         */
+        PropertyCandidate(String internalName) {
+            this.internalName = internalName;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson.processor;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.github.victools.jsonschema.module.jackson.GeneratedTypeMetadata;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Test for the {@link JacksonMetadataProcessor}, compiling the sample classes under {@code src/test/resources/sources} and comparing the generated
+ * metadata with the results of jackson's introspection at runtime.
+ */
+public class JacksonMetadataProcessorTest {
+
+    private static Path outputDirectory;
+    private static URLClassLoader classLoader;
+    private static Map<String, GeneratedTypeMetadata> generatedMetadata;
+
+    @BeforeClass
+    public static void compileSampleClasses() throws IOException, URISyntaxException {
+        outputDirectory = Files.createTempDirectory("jackson-metadata-processor");
+        Path sourceDirectory = Paths.get(JacksonMetadataProcessorTest.class.getResource("/sources").toURI());
+        List<File> sourceFiles;
+        try (Stream<Path> sourcePaths = Files.walk(sourceDirectory)) {
+            sourceFiles = sourcePaths.filter(path -> path.toString().endsWith(".java")).map(Path::toFile).collect(Collectors.toList());
+        }
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    Arrays.asList("-d", outputDirectory.toString(), "-classpath", System.getProperty("java.class.path")), null,
+                    fileManager.getJavaFileObjectsFromFiles(sourceFiles));
+            task.setProcessors(Collections.singleton(new JacksonMetadataProcessor()));
+            Assert.assertTrue("compilation failed", task.call());
+        }
+        classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, JacksonMetadataProcessorTest.class.getClassLoader());
+        generatedMetadata = new HashMap<>();
+        ServiceLoader.load(GeneratedTypeMetadata.class, classLoader)
+                .forEach(metadata -> generatedMetadata.put(metadata.getTargetType().getName(), metadata));
+    }
+
+    @AfterClass
+    public static void cleanUp() throws IOException {
+        classLoader.close();
+        try (Stream<Path> paths = Files.walk(outputDirectory)) {
+            paths.sorted(Collections.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Test
+    public void testGeneratedClasses() {
+        Assert.assertEquals(new HashSet<>(Arrays.asList("com.example.AnnotatedBean", "com.example.CreatorBean", "com.example.NamedThing",
+                "com.example.Outer$Inner", "com.example.PackageStatus", "com.example.Status", "com.example.SubBean", "com.example.UnsupportedBean")),
+                generatedMetadata.keySet());
+        Assert.assertEquals("com.example.Outer_Inner_JacksonMetadata", generatedMetadata.get("com.example.Outer$Inner").getClass().getName());
+    }
+
+    @Test
+    public void testFieldMetadata() {
+        GeneratedTypeMetadata metadata = generatedMetadata.get("com.example.AnnotatedBean");
+        Assert.assertEquals("bean description", metadata.getClassDescription());
+        Map<String, String> expectedNameOverrides = new HashMap<>();
+        expectedNameOverrides.put("privateRenamedField", "renamed");
+        expectedNameOverrides.put("withOverrideOnGetter", "getter override");
+        Assert.assertEquals(expectedNameOverrides, metadata.getPropertyNameOverrides());
+        Map<String, String> expectedDescriptions = new HashMap<>();
+        expectedDescriptions.put("described", "field description with \"quotes\"\n");
+        expectedDescriptions.put("publicField", "getter description");
+        expectedDescriptions.put("withOverrideOnGetter", "getter description 2");
+        Assert.assertEquals(expectedDescriptions, metadata.getPropertyDescriptions());
+        Assert.assertEquals(Collections.singleton("parent"), metadata.getBackReferences());
+        Assert.assertNull(metadata.getEnumJsonValues());
+    }
+
+    @Test
+    public void testPropertyDetectionMatchingJackson() throws ClassNotFoundException {
+        for (String className : Arrays.asList("com.example.AnnotatedBean", "com.example.SubBean", "com.example.NamedThing", "com.example.Outer$Inner")) {
+            GeneratedTypeMetadata metadata = generatedMetadata.get(className);
+            Class<?> type = classLoader.loadClass(className);
+            SerializationConfig config = new ObjectMapper().getSerializationConfig();
+            BeanDescription beanDescription = config.introspect(config.constructType(type));
+            Set<String> expectedIncludedNames = beanDescription.findProperties().stream()
+                    .map(BeanPropertyDefinition::getInternalName)
+                    .collect(Collectors.toSet());
+            Assert.assertEquals(className, expectedIncludedNames, metadata.getIncludedPropertyNames());
+
+            JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(type, beanDescription.getClassInfo());
+            Set<String> expectedIgnoredNames = ignorals == null ? Collections.emptySet() : ignorals.getIgnored();
+            Assert.assertEquals(className, expectedIgnoredNames, metadata.getIgnoredPropertyNames());
+        }
+    }
+
+    @Test
+    public void testPropertyDetectionWithUnsupportedAnnotations() {
+        GeneratedTypeMetadata unsupportedBeanMetadata = generatedMetadata.get("com.example.UnsupportedBean");
+        Assert.assertNull(unsupportedBeanMetadata.getIncludedPropertyNames());
+        Assert.assertEquals(Collections.singletonMap("field", "renamed"), unsupportedBeanMetadata.getPropertyNameOverrides());
+        Assert.assertNull(generatedMetadata.get("com.example.CreatorBean").getIncludedPropertyNames());
+    }
+
+    @Test
+    public void testEnumJsonValues() {
+        Assert.assertEquals(Arrays.asList("active", "inactive"), generatedMetadata.get("com.example.Status").getEnumJsonValues());
+        Assert.assertNull(generatedMetadata.get("com.example.Status").getIncludedPropertyNames());
+        // not accessible via reflection from the JacksonModule either
+        Assert.assertNull(generatedMetadata.get("com.example.PackageStatus").getEnumJsonValues());
+    }
+
+    @Test
+    public void testManglePropertyName() {
+        Assert.assertEquals("url", TypeMetadataCollector.manglePropertyName("getURL", "get"));
+        Assert.assertEquals("urlValue", TypeMetadataCollector.manglePropertyName("getUrlValue", "get"));
+        Assert.assertEquals("value", TypeMetadataCollector.manglePropertyName("isValue", "is"));
+        Assert.assertEquals("x", TypeMetadataCollector.manglePropertyName("setX", "set"));
+        Assert.assertNull(TypeMetadataCollector.manglePropertyName("get", "get"));
+        Assert.assertNull(TypeMetadataCollector.manglePropertyName("value", "get"));
+    }
+}
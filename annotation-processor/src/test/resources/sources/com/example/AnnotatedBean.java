@@ -0,0 +1,114 @@
+package com.example;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonClassDescription;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+
+@JsonClassDescription("bean description")
+@JsonIgnoreProperties({"ignoredOnClass"})
+public class AnnotatedBean extends BaseBean implements NamedThing {
+
+    public String publicField;
+    private String privateField;
+    private String privateFieldWithGetter;
+    @JsonProperty("renamed")
+    private String privateRenamedField;
+    @JsonProperty
+    private String privateMarkedField;
+    @JsonIgnore
+    public String ignoredField;
+    public String ignoredOnClass;
+    public transient String transientField;
+    @JsonBackReference
+    public AnnotatedBean parent;
+    @JsonPropertyDescription("field description with \"quotes\"\n")
+    public int described;
+    private boolean flag;
+    private Boolean boxedFlag;
+    private String withSetterOnly;
+    private String url;
+    @JsonIgnore
+    private String ignoredViaField;
+    private String ignoredViaGetter;
+    @JsonProperty("sameName")
+    public String sameName;
+    private String withOverrideOnGetter;
+
+    public String getPrivateFieldWithGetter() {
+        return this.privateFieldWithGetter;
+    }
+
+    public boolean isFlag() {
+        return this.flag;
+    }
+
+    public Boolean isBoxedFlag() {
+        return this.boxedFlag;
+    }
+
+    public String isNoBoolean() {
+        return null;
+    }
+
+    private void setWithSetterOnly(String withSetterOnly) {
+        this.withSetterOnly = withSetterOnly;
+    }
+
+    public String getURL() {
+        return this.url;
+    }
+
+    public String getIgnoredViaField() {
+        return this.ignoredViaField;
+    }
+
+    @JsonIgnore
+    public String getIgnoredViaGetter() {
+        return this.ignoredViaGetter;
+    }
+
+    @JsonProperty("getterRenamed")
+    public String getOtherValue() {
+        return null;
+    }
+
+    public String computed() {
+        return null;
+    }
+
+    public static String getStaticValue() {
+        return null;
+    }
+
+    @JsonProperty
+    public String unprefixed() {
+        return null;
+    }
+
+    public void getNothing() {
+    }
+
+    @JsonPropertyDescription("getter description")
+    public String getPublicField() {
+        return this.publicField;
+    }
+
+    @JsonProperty("getter override")
+    @JsonPropertyDescription("getter description 2")
+    public String getWithOverrideOnGetter() {
+        return this.withOverrideOnGetter;
+    }
+
+    @Override
+    public String getAbstractValue() {
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example;
+
+public abstract class BaseBean {
+
+    public String inheritedField;
+    protected String protectedField;
+    private String privateInheritedField;
+
+    public abstract String getAbstractValue();
+
+    protected String getProtectedValue() {
+        return this.protectedField;
+    }
+
+    public void setPrivateInheritedField(String value) {
+        this.privateInheritedField = value;
+    }
+}
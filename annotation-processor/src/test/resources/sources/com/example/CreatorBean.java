@@ -0,0 +1,14 @@
+package com.example;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class CreatorBean {
+
+    public final String value;
+
+    @JsonCreator
+    public CreatorBean(@JsonProperty("value") String value) {
+        this.value = value;
+    }
+}
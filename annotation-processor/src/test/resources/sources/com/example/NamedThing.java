@@ -0,0 +1,13 @@
+package com.example;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+public interface NamedThing {
+
+    @JsonIgnore
+    String getName();
+
+    default String getDefaultName() {
+        return "default";
+    }
+}
@@ -0,0 +1,18 @@
+package com.example;
+
+import com.fasterxml.jackson.annotation.JsonClassDescription;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class Outer {
+
+    public static class Inner {
+
+        @JsonProperty("renamedInner")
+        public String innerField;
+        private String hiddenField;
+    }
+
+    @JsonClassDescription("hidden")
+    private static class Hidden {
+    }
+}
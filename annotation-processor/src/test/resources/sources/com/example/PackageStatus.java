@@ -0,0 +1,12 @@
+package com.example;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+enum PackageStatus {
+    A, B;
+
+    @JsonValue
+    public String getJsonValue() {
+        return this.name().toLowerCase();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+public enum Status {
+    ACTIVE, INACTIVE;
+
+    @JsonValue
+    public String getJsonValue() {
+        return this.name().toLowerCase();
+    }
+}
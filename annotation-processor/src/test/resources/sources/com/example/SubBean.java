@@ -0,0 +1,14 @@
+package com.example;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class SubBean extends AnnotatedBean implements Comparable<SubBean> {
+
+    @JsonProperty("sub")
+    private String subField;
+
+    @Override
+    public int compareTo(SubBean other) {
+        return 0;
+    }
+}
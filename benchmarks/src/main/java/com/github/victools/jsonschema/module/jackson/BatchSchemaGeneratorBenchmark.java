@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for the schema generation of many root types via the {@link BatchSchemaGenerator}, sharing a single {@link JacksonModule}, in order
+ * to show how the throughput scales with the number of concurrent schema generations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchSchemaGeneratorBenchmark {
+
+    /**
+     * Number of independent synthetic type graphs, i.e. of root types to generate a schema for.
+     */
+    @Param({"200"})
+    public int rootCount;
+
+    /**
+     * Maximum number of concurrent schema generations.
+     */
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private BatchSchemaGenerator batchGenerator;
+    private List<Class<?>> rootTypes;
+
+    /**
+     * Create the synthetic type graphs and the batch generator instance to use.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.rootTypes = new ArrayList<>(this.rootCount);
+        for (int index = 0; index < this.rootCount; index++) {
+            this.rootTypes.add(SyntheticTypeGraph.create(20, 3).getRootType());
+        }
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7,
+                OptionPreset.PLAIN_JSON)
+                .with(new JacksonModule(JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE));
+        this.batchGenerator = new BatchSchemaGenerator(configBuilder.build())
+                .withParallelism(this.parallelism);
+    }
+
+    /**
+     * Benchmark for {@link BatchSchemaGenerator#generate(java.util.Collection)}, consuming all results.
+     *
+     * @return number of successfully generated schemas
+     */
+    @Benchmark
+    public long generateAll() {
+        return this.batchGenerator.generate(this.rootTypes)
+                .filter(BatchGenerationResult::isSuccessful)
+                .count();
+    }
+}
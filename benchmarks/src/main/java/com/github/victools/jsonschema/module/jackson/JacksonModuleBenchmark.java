@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.ResolvedTypeWithMembers;
+import com.fasterxml.classmate.members.ResolvedField;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.FieldScope;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerationContext;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.generator.TypeContext;
+import com.github.victools.jsonschema.generator.impl.SchemaGenerationContextImpl;
+import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the individual {@link JacksonModule} hooks being invoked by the generator, each of them for all fields in a synthetic type graph.
+ * <br>
+ * The module's caches are being populated during the warm-up, i.e. these are measuring the steady state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonModuleBenchmark {
+
+    /**
+     * Number of fields per class in the synthetic type graph (and the number of enum constants).
+     */
+    @Param({"10", "100", "500"})
+    public int width;
+
+    /**
+     * Number of nested classes in the synthetic type graph.
+     */
+    @Param({"1", "5"})
+    public int depth;
+
+    /**
+     * Whether the module's caches should only hold weak references to the classes (and soft references to the introspection results).
+     */
+    @Param({"false", "true"})
+    public boolean weakCacheKeys;
+
+    private JacksonModule module;
+    private List<FieldScope> fields;
+    private CustomEnumJsonValueDefinitionProvider enumDefinitionProvider;
+    private ResolvedType enumType;
+    private SchemaGenerationContext generationContext;
+
+    /**
+     * Create the synthetic type graph and apply the module to a generator configuration.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticTypeGraph typeGraph = SyntheticTypeGraph.create(this.width, this.depth);
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7,
+                OptionPreset.PLAIN_JSON);
+        this.module = new JacksonModule();
+        if (this.weakCacheKeys) {
+            this.module.withWeakCacheKeys().withSoftCacheValues();
+        }
+        SchemaGeneratorConfig config = configBuilder.with(this.module).build();
+
+        TypeContext typeContext = TypeContextFactory.createDefaultTypeContext();
+        this.fields = new ArrayList<>();
+        for (Class<?> objectType : typeGraph.getObjectTypes()) {
+            ResolvedTypeWithMembers typeWithMembers = typeContext.resolveWithMembers(typeContext.resolve(objectType));
+            for (ResolvedField field : typeWithMembers.getMemberFields()) {
+                this.fields.add(typeContext.createFieldScope(field, typeWithMembers));
+            }
+        }
+        this.enumDefinitionProvider = new CustomEnumJsonValueDefinitionProvider();
+        this.enumType = typeContext.resolve(typeGraph.getEnumType());
+        this.generationContext = new SchemaGenerationContextImpl(config, typeContext);
+    }
+
+    /**
+     * Benchmark for {@link JacksonModule#shouldIgnoreField(FieldScope)}.
+     *
+     * @param blackhole sink for the produced results
+     */
+    @Benchmark
+    public void shouldIgnoreField(Blackhole blackhole) {
+        for (FieldScope field : this.fields) {
+            blackhole.consume(this.module.shouldIgnoreField(field));
+        }
+    }
+
+    /**
+     * Benchmark for {@link JacksonModule#getPropertyNameOverride(FieldScope)}.
+     *
+     * @param blackhole sink for the produced results
+     */
+    @Benchmark
+    public void getPropertyNameOverride(Blackhole blackhole) {
+        for (FieldScope field : this.fields) {
+            blackhole.consume(this.module.getPropertyNameOverride(field));
+        }
+    }
+
+    /**
+     * Benchmark for {@link JacksonModule#resolveDescription(FieldScope)}.
+     *
+     * @param blackhole sink for the produced results
+     */
+    @Benchmark
+    public void resolveDescription(Blackhole blackhole) {
+        for (FieldScope field : this.fields) {
+            blackhole.consume(this.module.resolveDescription(field));
+        }
+    }
+
+    /**
+     * Benchmark for {@link JacksonModule#resolveDescriptionForType(com.github.victools.jsonschema.generator.TypeScope)}, considering each field's type.
+     *
+     * @param blackhole sink for the produced results
+     */
+    @Benchmark
+    public void resolveDescriptionForType(Blackhole blackhole) {
+        for (FieldScope field : this.fields) {
+            blackhole.consume(this.module.resolveDescriptionForType(field));
+        }
+    }
+
+    /**
+     * Benchmark for {@link CustomEnumJsonValueDefinitionProvider#provideCustomSchemaDefinition(ResolvedType, SchemaGenerationContext)}.
+     *
+     * @param blackhole sink for the produced results
+     */
+    @Benchmark
+    public void provideEnumDefinition(Blackhole blackhole) {
+        blackhole.consume(this.enumDefinitionProvider.provideCustomSchemaDefinition(this.enumType, this.generationContext));
+    }
+}
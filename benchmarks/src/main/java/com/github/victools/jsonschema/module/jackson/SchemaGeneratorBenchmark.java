@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for a complete schema generation run on a synthetic type graph, with and without the {@link JacksonModule}, in order to make the
+ * module's overhead visible.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaGeneratorBenchmark {
+
+    /**
+     * Number of fields per class in the synthetic type graph (and the number of enum constants).
+     */
+    @Param({"10", "100"})
+    public int width;
+
+    /**
+     * Number of nested classes in the synthetic type graph.
+     */
+    @Param({"1", "5"})
+    public int depth;
+
+    /**
+     * Whether the {@link JacksonModule} should be applied to the generator configuration.
+     */
+    @Param({"true", "false"})
+    public boolean withJacksonModule;
+
+    private SchemaGenerator generator;
+    private Class<?> rootType;
+
+    /**
+     * Create the synthetic type graph and the generator instance to use.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.rootType = SyntheticTypeGraph.create(this.width, this.depth).getRootType();
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7,
+                OptionPreset.PLAIN_JSON);
+        if (this.withJacksonModule) {
+            configBuilder.with(new JacksonModule(JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE));
+        }
+        this.generator = new SchemaGenerator(configBuilder.build());
+    }
+
+    /**
+     * Benchmark for {@link SchemaGenerator#generateSchema(java.lang.reflect.Type, java.lang.reflect.Type...)}.
+     *
+     * @return generated schema
+     */
+    @Benchmark
+    public JsonNode generateSchema() {
+        return this.generator.generateSchema(this.rootType);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.annotation.JsonClassDescription;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.implementation.MethodCall;
+
+/**
+ * Synthetic type graph of configurable size, to be used as benchmark input.
+ * <br>
+ * The graph consists of one class per level of depth, each declaring the given number of fields. Those fields are a mix of plain, renamed,
+ * described and ignored ones as well as references to the class on the next level. The classes on the deepest level reference an enum with a
+ * {@link JsonValue} annotated method and as many constants as there are fields per class.
+ */
+final class SyntheticTypeGraph {
+
+    private static final String PACKAGE_NAME = SyntheticTypeGraph.class.getPackage().getName() + ".synthetic";
+
+    private final List<Class<?>> objectTypes;
+    private final Class<?> enumType;
+
+    /**
+     * Constructor.
+     *
+     * @param objectTypes generated classes, starting with the root
+     * @param enumType generated enum
+     */
+    private SyntheticTypeGraph(List<Class<?>> objectTypes, Class<?> enumType) {
+        this.objectTypes = Collections.unmodifiableList(objectTypes);
+        this.enumType = enumType;
+    }
+
+    /**
+     * Generate a new type graph. Each invocation is loading its classes via separate class loaders, i.e. no caches are being shared.
+     *
+     * @param width number of fields per class and number of enum constants
+     * @param depth number of nested classes
+     * @return generated type graph
+     */
+    static SyntheticTypeGraph create(int width, int depth) {
+        Class<?> enumType = SyntheticTypeGraph.createEnumType(width);
+        List<Class<?>> objectTypes = new ArrayList<>(depth);
+        Class<?> nestedType = enumType;
+        for (int level = depth - 1; level >= 0; level--) {
+            nestedType = SyntheticTypeGraph.createObjectType(level, width, nestedType);
+            objectTypes.add(0, nestedType);
+        }
+        return new SyntheticTypeGraph(objectTypes, enumType);
+    }
+
+    /**
+     * Generate an enum with a {@link JsonValue} annotated method.
+     *
+     * @param constantCount number of enum constants
+     * @return generated enum
+     */
+    private static Class<?> createEnumType(int constantCount) {
+        List<String> constantNames = IntStream.range(0, constantCount)
+                .mapToObj(index -> "VALUE_" + index)
+                .collect(Collectors.toList());
+        try {
+            return new ByteBuddy()
+                    .makeEnumeration(constantNames)
+                    .name(PACKAGE_NAME + ".SyntheticEnum")
+                    .defineMethod("getJsonValue", String.class, Visibility.PUBLIC)
+                    .intercept(MethodCall.invoke(Enum.class.getMethod("name")))
+                    .annotateMethod(AnnotationDescription.Builder.ofType(JsonValue.class).build())
+                    .make()
+                    .load(SyntheticTypeGraph.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                    .getLoaded();
+        } catch (NoSuchMethodException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Generate a class with the given number of (partially annotated) fields.
+     *
+     * @param level depth of the generated class in the type graph
+     * @param fieldCount number of fields to declare
+     * @param nestedType type to reference from every fifth field
+     * @return generated class
+     */
+    private static Class<?> createObjectType(int level, int fieldCount, Class<?> nestedType) {
+        DynamicType.Builder<Object> builder = new ByteBuddy()
+                .subclass(Object.class)
+                .name(PACKAGE_NAME + ".SyntheticType" + level)
+                .annotateType(AnnotationDescription.Builder.ofType(JsonClassDescription.class)
+                        .define("value", "synthetic type on level " + level)
+                        .build());
+        for (int index = 0; index < fieldCount; index++) {
+            String fieldName = "field" + index;
+            switch (index % 5) {
+            case 0:
+                builder = builder.defineField(fieldName, String.class, Visibility.PUBLIC);
+                break;
+            case 1:
+                builder = builder.defineField(fieldName, String.class, Visibility.PUBLIC)
+                        .annotateField(AnnotationDescription.Builder.ofType(JsonProperty.class)
+                                .define("value", "renamed" + index)
+                                .build());
+                break;
+            case 2:
+                builder = builder.defineField(fieldName, Integer.class, Visibility.PUBLIC)
+                        .annotateField(AnnotationDescription.Builder.ofType(JsonPropertyDescription.class)
+                                .define("value", "description " + index)
+                                .build());
+                break;
+            case 3:
+                builder = builder.defineField(fieldName, String.class, Visibility.PUBLIC)
+                        .annotateField(AnnotationDescription.Builder.ofType(JsonIgnore.class).build());
+                break;
+            default:
+                builder = builder.defineField(fieldName, nestedType, Visibility.PUBLIC);
+            }
+        }
+        return builder.make()
+                .load(nestedType.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                .getLoaded();
+    }
+
+    /**
+     * Getter for the root class of this type graph.
+     *
+     * @return root class
+     */
+    Class<?> getRootType() {
+        return this.objectTypes.get(0);
+    }
+
+    /**
+     * Getter for all generated classes (except for the enum), starting with the root.
+     *
+     * @return generated classes
+     */
+    List<Class<?>> getObjectTypes() {
+        return this.objectTypes;
+    }
+
+    /**
+     * Getter for the generated enum with a {@link JsonValue} annotated method.
+     *
+     * @return generated enum
+     */
+    Class<?> getEnumType() {
+        return this.enumType;
+    }
+}
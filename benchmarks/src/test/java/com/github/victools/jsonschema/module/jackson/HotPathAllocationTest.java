@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Check that the per-field hooks of the {@link JacksonModule} do not allocate once the caches are warmed up - with strong and with weak cache
+ * keys. This runs the respective {@link JacksonModuleBenchmark} methods (with a reduced number of short iterations) and inspects the allocations
+ * per operation as reported by the {@link GCProfiler}.
+ */
+public class HotPathAllocationTest {
+
+    private static final int WIDTH = 100;
+    /**
+     * Tolerance for allocations per operation, e.g. due to the profiling itself - less than one byte per field.
+     */
+    private static final double MAXIMUM_BYTES_PER_OPERATION = WIDTH;
+
+    @Test
+    public void testPerFieldHooksDoNotAllocate() throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JacksonModuleBenchmark.class.getName()
+                        + ".(shouldIgnoreField|getPropertyNameOverride|resolveDescription|resolveDescriptionForType)$")
+                .param("width", String.valueOf(WIDTH))
+                .param("depth", "1")
+                .param("weakCacheKeys", "false", "true")
+                .warmupIterations(2)
+                .warmupTime(TimeValue.milliseconds(500))
+                .measurementIterations(2)
+                .measurementTime(TimeValue.milliseconds(500))
+                .timeUnit(TimeUnit.SECONDS)
+                .forks(1)
+                .addProfiler(GCProfiler.class)
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+        Assert.assertEquals(8, results.size());
+        for (RunResult result : results) {
+            String label = result.getParams().getBenchmark() + " with weakCacheKeys=" + result.getParams().getParam("weakCacheKeys");
+            Result<?> allocationRate = result.getSecondaryResults().get("\u00b7gc.alloc.rate.norm");
+            Assert.assertNotNull("no allocation rate reported for " + label, allocationRate);
+            Assert.assertTrue(label + " allocated " + allocationRate.getScore() + " B/op",
+                    allocationRate.getScore() <= MAXIMUM_BYTES_PER_OPERATION);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Compare the heap being retained by the {@link JacksonModule}'s distilled {@link PropertyIndex} records with that of jackson's introspection
+ * results (which were being cached before), for a large {@link SyntheticTypeGraph}.
+ */
+public class RetainedHeapTest {
+
+    private static final int WIDTH = 100;
+    private static final int DEPTH = 200;
+    /**
+     * Minimum factor by which the distilled records should be smaller than the introspection results they are being derived from.
+     */
+    private static final int MINIMUM_REDUCTION_FACTOR = 10;
+
+    @Test
+    public void testDistilledRecordsRetainingFractionOfIntrospectionResults() throws ReflectiveOperationException {
+        long beanDescriptionSize = RetainedHeapTest.measureIntrospectionResults(SyntheticTypeGraph.create(WIDTH, DEPTH));
+        long propertyIndexSize = RetainedHeapTest.measureModuleRecords(SyntheticTypeGraph.create(WIDTH, DEPTH));
+        System.out.println("Retained heap for " + DEPTH + " classes with " + WIDTH + " fields each: " + beanDescriptionSize
+                + " bytes as BeanDescription, " + propertyIndexSize + " bytes as PropertyIndex");
+        Assert.assertTrue(propertyIndexSize + " bytes are not less than 1/" + MINIMUM_REDUCTION_FACTOR + " of " + beanDescriptionSize + " bytes",
+                propertyIndexSize * MINIMUM_REDUCTION_FACTOR < beanDescriptionSize);
+    }
+
+    /**
+     * Measure the heap being retained by jackson's introspection results for the given classes (as the module was caching them before).
+     *
+     * @param typeGraph classes to introspect
+     * @return retained bytes, excluding the classes themselves and the mapper
+     */
+    private static long measureIntrospectionResults(SyntheticTypeGraph typeGraph) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        List<BeanDescription> beanDescriptions = new ArrayList<>(DEPTH);
+        for (Class<?> type : typeGraph.getObjectTypes()) {
+            BeanDescription beanDescription = config.introspect(objectMapper.constructType(type));
+            // the properties are being collected lazily, as they were when deriving the property index from a cached introspection result
+            beanDescription.findProperties();
+            beanDescriptions.add(beanDescription);
+        }
+        return GraphLayout.parseInstance(beanDescriptions)
+                .subtract(GraphLayout.parseInstance(objectMapper, typeGraph.getObjectTypes()))
+                .totalSize();
+    }
+
+    /**
+     * Measure the heap being retained by the module's distilled records for the given classes.
+     *
+     * @param typeGraph classes to warm-up the module with
+     * @return retained bytes, excluding the classes themselves and the mapper
+     * @throws ReflectiveOperationException when accessing the module's caches fails
+     */
+    private static long measureModuleRecords(SyntheticTypeGraph typeGraph) throws ReflectiveOperationException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JacksonModule module = new JacksonModule();
+        new SchemaGeneratorConfigBuilder(objectMapper, SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON)
+                .with(module)
+                .build();
+        module.warmUp(typeGraph.getObjectTypes());
+        List<PropertyIndex> propertyIndexes = RetainedHeapTest.collectRetainedPropertyIndexes(module);
+        Assert.assertEquals(DEPTH, propertyIndexes.size());
+        return GraphLayout.parseInstance(propertyIndexes)
+                .subtract(GraphLayout.parseInstance(objectMapper, typeGraph.getObjectTypes()))
+                .totalSize();
+    }
+
+    /**
+     * Collect the property indexes being cached by the given module, while ensuring that no introspection results are being cached alongside.
+     *
+     * @param module module to collect the cached property indexes from
+     * @return cached property indexes
+     * @throws ReflectiveOperationException when accessing the module's caches fails
+     */
+    private static List<PropertyIndex> collectRetainedPropertyIndexes(JacksonModule module) throws ReflectiveOperationException {
+        Field cachesField = JacksonModule.class.getDeclaredField("introspectionCaches");
+        cachesField.setAccessible(true);
+        List<PropertyIndex> propertyIndexes = new ArrayList<>();
+        for (Object caches : ((Map<?, ?>) cachesField.get(module)).values()) {
+            Assert.assertEquals(0, ((IntrospectionCaches) caches).getBeanDescriptions().size());
+            ((IntrospectionCaches) caches).getPropertyIndexes().forEach((type, propertyIndex) -> propertyIndexes.add(propertyIndex));
+        }
+        return propertyIndexes;
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking facade for generating schemas, e.g. for being called from an event loop thread that must not wait for the (cold) introspection of
+ * the requested types. All schema generations share a single {@link SchemaGenerator} (and thereby a single {@link JacksonModule} instance and its
+ * caches).
+ * <br>
+ * Concurrent requests for the same type are being coalesced, i.e. the schema is being generated only once and all pending requests are being
+ * completed with (their own copy of) that result. Once a generation completed, the next request for that type triggers a new one - relying on
+ * the warmed-up caches.
+ * <br>
+ * By default, the schemas are being generated on virtual threads (if the runtime supports them) or otherwise on a bounded pool of daemon threads
+ * (one per available processor). Any executor created by this instance is being shut down by {@link #close()}.
+ * <br>
+ * Example:
+ * <pre>
+ * AsyncSchemaGenerator generator = new AsyncSchemaGenerator(config);
+ * generator.generateSchema(MyType.class)
+ *         .thenAccept(schema -&gt; respond(schema));
+ * </pre>
+ */
+public class AsyncSchemaGenerator implements AutoCloseable {
+
+    private final SchemaGenerator generator;
+    private final ConcurrentMap<Type, CompletableFuture<ObjectNode>> pendingGenerations = new ConcurrentHashMap<>();
+    private Executor executor;
+    private ExecutorService ownExecutor;
+
+    /**
+     * Constructor.
+     *
+     * @param config generator configuration to share between all schema generations, e.g. including a {@link JacksonModule}
+     */
+    public AsyncSchemaGenerator(SchemaGeneratorConfig config) {
+        this(new SchemaGenerator(config));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param generator generator to share between all schema generations
+     */
+    public AsyncSchemaGenerator(SchemaGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Perform the schema generations on the given executor instead of the default one. The given executor is not being shut down by
+     * {@link #close()}.
+     *
+     * @param executor executor to generate the schemas on (may be {@code null} to restore the default)
+     * @return this instance (for chaining)
+     */
+    public synchronized AsyncSchemaGenerator withExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Generate the schema for the given type asynchronously. If a generation for the same type is already in progress, no new one is being
+     * started but the pending result is being shared.
+     *
+     * @param rootType type to generate the schema for
+     * @return future being completed with the generated schema (or exceptionally if the generation failed)
+     */
+    public CompletableFuture<ObjectNode> generateSchema(Type rootType) {
+        CompletableFuture<ObjectNode> generation = this.pendingGenerations.get(rootType);
+        if (generation == null) {
+            CompletableFuture<ObjectNode> newGeneration = new CompletableFuture<>();
+            generation = this.pendingGenerations.putIfAbsent(rootType, newGeneration);
+            if (generation == null) {
+                generation = newGeneration;
+                this.startGeneration(rootType, newGeneration);
+            }
+        }
+        // each caller receives its own (mutable) schema, while a cancellation does not affect the shared generation
+        return generation.thenApply(ObjectNode::deepCopy);
+    }
+
+    /**
+     * Start the schema generation for the given type on the configured executor.
+     *
+     * @param rootType type to generate the schema for
+     * @param generation future to complete with the generated schema
+     */
+    private void startGeneration(Type rootType, CompletableFuture<ObjectNode> generation) {
+        Runnable task = () -> {
+            ObjectNode schema;
+            try {
+                schema = (ObjectNode) this.generator.generateSchema(rootType);
+            } catch (RuntimeException | Error ex) {
+                this.pendingGenerations.remove(rootType, generation);
+                generation.completeExceptionally(ex);
+                return;
+            }
+            // requests after the completion should trigger a new generation, instead of being served with this result
+            this.pendingGenerations.remove(rootType, generation);
+            generation.complete(schema);
+        };
+        try {
+            this.getExecutor().execute(task);
+        } catch (RuntimeException ex) {
+            // e.g. the executor was shut down or rejected the task for another reason
+            this.pendingGenerations.remove(rootType, generation);
+            generation.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Look-up the executor to perform the schema generations on, creating the default one if no other has been configured.
+     *
+     * @return executor to use
+     */
+    private synchronized Executor getExecutor() {
+        if (this.executor != null) {
+            return this.executor;
+        }
+        if (this.ownExecutor == null) {
+            this.ownExecutor = AsyncSchemaGenerator.createDefaultExecutor();
+        }
+        return this.ownExecutor;
+    }
+
+    /**
+     * Create an executor starting a new virtual thread per task, if the runtime supports it. Otherwise, create a pool of daemon threads - one per
+     * available processor.
+     *
+     * @return created executor
+     */
+    static ExecutorService createDefaultExecutor() {
+        try {
+            // only available from Java 21 onwards (or as preview feature), while this library is targeting Java 8
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+            AtomicInteger threadCount = new AtomicInteger();
+            ThreadFactory threadFactory = task -> {
+                Thread thread = new Thread(task, "jsonschema-generator-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), threadFactory);
+        }
+    }
+
+    /**
+     * Getter for the number of types for which a schema generation is currently in progress.
+     *
+     * @return number of pending schema generations
+     */
+    public int getPendingGenerationCount() {
+        return this.pendingGenerations.size();
+    }
+
+    /**
+     * Shut down the default executor, if it has been created by this instance. Pending schema generations are still being completed, but no new
+     * ones can be started.
+     */
+    @Override
+    public synchronized void close() {
+        if (this.ownExecutor != null) {
+            this.ownExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.lang.reflect.Type;
+import java.time.Duration;
+
+/**
+ * Outcome of the schema generation for a single root type, as part of a {@link BatchSchemaGenerator#generate(java.util.Collection)} invocation.
+ */
+public final class BatchGenerationResult {
+
+    private final Type rootType;
+    private final JsonNode schema;
+    private final Throwable failure;
+    private final Duration duration;
+
+    /**
+     * Constructor.
+     *
+     * @param rootType type the schema was generated for
+     * @param schema generated schema (or {@code null} if the generation failed)
+     * @param failure reason for the generation having failed (or {@code null} if it succeeded)
+     * @param duration time it took to generate the schema
+     */
+    BatchGenerationResult(Type rootType, JsonNode schema, Throwable failure, Duration duration) {
+        this.rootType = rootType;
+        this.schema = schema;
+        this.failure = failure;
+        this.duration = duration;
+    }
+
+    /**
+     * Getter for the type the schema was generated for.
+     *
+     * @return root type
+     */
+    public Type getRootType() {
+        return this.rootType;
+    }
+
+    /**
+     * Indicate whether the schema was generated successfully.
+     *
+     * @return whether there is a schema (and no failure)
+     */
+    public boolean isSuccessful() {
+        return this.failure == null;
+    }
+
+    /**
+     * Getter for the generated schema.
+     *
+     * @return generated schema (or {@code null} if the generation failed)
+     */
+    public JsonNode getSchema() {
+        return this.schema;
+    }
+
+    /**
+     * Getter for the reason of the generation having failed.
+     *
+     * @return failure (or {@code null} if the generation succeeded)
+     */
+    public Throwable getFailure() {
+        return this.failure;
+    }
+
+    /**
+     * Getter for the time it took to generate the schema.
+     *
+     * @return generation duration
+     */
+    public Duration getDuration() {
+        return this.duration;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchGenerationResult{rootType=" + this.rootType.getTypeName() + ", successful=" + this.isSuccessful()
+                + ", duration=" + this.duration + '}';
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Driver for generating the schemas of many root types in parallel, sharing a single {@link SchemaGenerator} (and thereby a single
+ * {@link JacksonModule} instance and its caches) between all worker threads.
+ * <br>
+ * Example:
+ * <pre>
+ * SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(objectMapper, OptionPreset.PLAIN_JSON)
+ *         .with(new JacksonModule())
+ *         .build();
+ * new BatchSchemaGenerator(config)
+ *         .withParallelism(8)
+ *         .generate(rootTypes)
+ *         .forEach(result -&gt; write(result.getRootType(), result.getSchema()));
+ * </pre>
+ */
+public class BatchSchemaGenerator {
+
+    private final SchemaGenerator generator;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private Executor executor;
+
+    /**
+     * Constructor.
+     *
+     * @param config generator configuration to share between all schema generations, e.g. including a {@link JacksonModule}
+     */
+    public BatchSchemaGenerator(SchemaGeneratorConfig config) {
+        this(new SchemaGenerator(config));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param generator generator to share between all schema generations
+     */
+    public BatchSchemaGenerator(SchemaGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Limit the number of schemas being generated concurrently. By default, this is the number of available processors.
+     *
+     * @param parallelism maximum number of concurrent schema generations
+     * @return this instance (for chaining)
+     * @throws IllegalArgumentException if the given parallelism is not positive
+     */
+    public BatchSchemaGenerator withParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive, but was " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Perform the schema generations on the given executor, e.g. one starting a virtual thread per task. The number of concurrent schema
+     * generations is still being limited by the configured parallelism. By default, a dedicated {@link ForkJoinPool} is being created (and shut
+     * down again) for each {@link #generate(Collection)} invocation.
+     *
+     * @param executor executor to generate the schemas on (may be {@code null} to restore the default)
+     * @return this instance (for chaining)
+     */
+    public BatchSchemaGenerator withExecutor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Generate the schemas for the given root types in parallel. The returned stream provides the individual results in the order in which they
+     * complete, i.e. blocking until the next one is available. A failing schema generation does not affect the others, but is represented by a
+     * result without a schema.
+     *
+     * @param rootTypes types to generate a schema for each
+     * @return stream of the generation results (one per given root type)
+     */
+    public Stream<BatchGenerationResult> generate(Collection<? extends Type> rootTypes) {
+        int rootTypeCount = rootTypes.size();
+        Queue<Type> pendingTypes = new ConcurrentLinkedQueue<>(rootTypes);
+        BlockingQueue<BatchGenerationResult> results = new LinkedBlockingQueue<>();
+        int workerCount = Math.min(this.parallelism, rootTypeCount);
+        if (workerCount > 0) {
+            if (this.executor == null) {
+                ForkJoinPool pool = new ForkJoinPool(workerCount);
+                this.startWorkers(workerCount, pendingTypes, results, pool);
+                // already submitted tasks are still being executed
+                pool.shutdown();
+            } else {
+                this.startWorkers(workerCount, pendingTypes, results, this.executor);
+            }
+        }
+        Iterator<BatchGenerationResult> resultIterator = new ResultIterator(results, rootTypeCount);
+        Spliterator<BatchGenerationResult> spliterator = Spliterators.spliterator(resultIterator, rootTypeCount,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Start the given number of workers, each generating schemas for pending root types until there are none left. If the executor rejects all
+     * workers, the root types are being represented by failed results instead (as there is nobody to claim them).
+     *
+     * @param workerCount number of workers to start
+     * @param pendingTypes root types to generate a schema for (shared between all workers)
+     * @param results collection of generation results to add to (shared between all workers)
+     * @param workerExecutor executor to start the workers on
+     */
+    private void startWorkers(int workerCount, Queue<Type> pendingTypes, Collection<BatchGenerationResult> results, Executor workerExecutor) {
+        Runnable worker = () -> {
+            Type rootType;
+            while ((rootType = pendingTypes.poll()) != null) {
+                results.add(this.generateSchema(rootType));
+            }
+        };
+        int startedWorkerCount = 0;
+        RejectedExecutionException rejection = null;
+        for (int index = 0; index < workerCount; index++) {
+            try {
+                workerExecutor.execute(worker);
+                startedWorkerCount++;
+            } catch (RejectedExecutionException ex) {
+                // any worker that was started is processing all pending types, only with reduced parallelism
+                rejection = ex;
+            }
+        }
+        if (startedWorkerCount == 0 && rejection != null) {
+            // always provide a result, otherwise the consumer would wait for it forever
+            Type rootType;
+            while ((rootType = pendingTypes.poll()) != null) {
+                results.add(new BatchGenerationResult(rootType, null, rejection, Duration.ZERO));
+            }
+        }
+    }
+
+    /**
+     * Generate the schema for a single root type.
+     *
+     * @param rootType type to generate the schema for
+     * @return generation result
+     */
+    private BatchGenerationResult generateSchema(Type rootType) {
+        long startTime = System.nanoTime();
+        JsonNode schema;
+        try {
+            schema = this.generator.generateSchema(rootType);
+        } catch (RuntimeException | Error ex) {
+            // always provide a result, otherwise the consumer would wait for it forever
+            return new BatchGenerationResult(rootType, null, ex, Duration.ofNanos(System.nanoTime() - startTime));
+        }
+        return new BatchGenerationResult(rootType, schema, null, Duration.ofNanos(System.nanoTime() - startTime));
+    }
+
+    /**
+     * Iterator over the generation results, blocking until the next one becomes available.
+     */
+    private static final class ResultIterator implements Iterator<BatchGenerationResult> {
+
+        private final BlockingQueue<BatchGenerationResult> results;
+        private int remainingCount;
+
+        /**
+         * Constructor.
+         *
+         * @param results queue of results being populated by the workers
+         * @param expectedCount total number of results to expect
+         */
+        ResultIterator(BlockingQueue<BatchGenerationResult> results, int expectedCount) {
+            this.results = results;
+            this.remainingCount = expectedCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.remainingCount > 0;
+        }
+
+        @Override
+        public BatchGenerationResult next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                BatchGenerationResult result = this.results.take();
+                this.remainingCount--;
+                return result;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while waiting for the next schema generation result", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+/**
+ * Snapshot of the statistics collected for one of the {@link JacksonModule}'s internal caches.
+ */
+public final class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+
+    /**
+     * Constructor.
+     *
+     * @param hitCount number of look-ups that were answered from the cache
+     * @param missCount number of look-ups that required the value to be loaded
+     * @param evictionCount number of entries that were removed due to the cache's size limit
+     * @param size current number of entries in the cache
+     */
+    CacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    /**
+     * Getter for the number of look-ups that were answered from the cache.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Getter for the number of look-ups that required the value to be loaded.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Getter for the number of entries that were removed due to the cache's size limit.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Getter for the number of entries in the cache at the time this snapshot was taken.
+     *
+     * @return current cache size
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Calculate the ratio of look-ups that were answered from the cache.
+     *
+     * @return hit rate between {@code 0.0} and {@code 1.0} (or {@code 1.0} if there were no look-ups yet)
+     */
+    public double getHitRate() {
+        long requestCount = this.hitCount + this.missCount;
+        return requestCount == 0 ? 1.0 : (double) this.hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{hitCount=" + this.hitCount + ", missCount=" + this.missCount + ", evictionCount=" + this.evictionCount
+                + ", size=" + this.size + '}';
+    }
+}
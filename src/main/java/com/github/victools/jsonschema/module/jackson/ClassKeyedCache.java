@@ -0,0 +1,421 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache for values being derived from a single (erased) class.
+ * <br>
+ * If a maximum size is configured, the entries that were added first are being evicted first once that limit is exceeded. Optionally, the class
+ * keys may be held via weak references, in order to not prevent classes (and their class loaders) from being garbage collected. As the values
+ * typically reference their class keys themselves (e.g. jackson's {@code BeanDescription}), the values may additionally be held via soft
+ * references - allowing the garbage collector to reclaim them when memory runs low or their classes are otherwise unreachable.
+ * <br>
+ * A {@code null} value returned by the loading function is being cached as well, i.e. a negative result is not being looked-up again.
+ *
+ * @param <V> type of cached values
+ */
+final class ClassKeyedCache<V> {
+
+    private static final Object NULL_VALUE = new Object();
+
+    private final int maximumSize;
+    private final boolean weakKeys;
+    private final boolean softValues;
+    private final JacksonModuleListener listener;
+    private final ConcurrentMap<Object, Object> entries = new ConcurrentHashMap<>();
+    private final Queue<Object> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final ReferenceQueue<Class<?>> collectedKeys = new ReferenceQueue<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    /**
+     * Reusable key for looking-up entries by weakly referenced classes, in order to avoid creating a new weak reference for each look-up. Being
+     * held by this cache instance (instead of a thread-local), it does not keep the class loader of this class reachable from any thread.
+     */
+    private final AtomicReference<LookupKey> spareLookupKey = new AtomicReference<>(new LookupKey());
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize maximum number of entries to keep (a value of zero or less means: unbounded)
+     * @param weakKeys whether the class keys should be weakly referenced
+     */
+    ClassKeyedCache(int maximumSize, boolean weakKeys) {
+        this(maximumSize, weakKeys, false, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize maximum number of entries to keep (a value of zero or less means: unbounded)
+     * @param weakKeys whether the class keys should be weakly referenced
+     * @param softValues whether the values should be softly referenced
+     */
+    ClassKeyedCache(int maximumSize, boolean weakKeys, boolean softValues) {
+        this(maximumSize, weakKeys, softValues, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize maximum number of entries to keep (a value of zero or less means: unbounded)
+     * @param weakKeys whether the class keys should be weakly referenced
+     * @param softValues whether the values should be softly referenced
+     * @param listener listener to notify about cache hits and misses (may be {@code null})
+     */
+    ClassKeyedCache(int maximumSize, boolean weakKeys, boolean softValues, JacksonModuleListener listener) {
+        this.maximumSize = maximumSize;
+        this.weakKeys = weakKeys;
+        this.softValues = softValues;
+        this.listener = listener;
+    }
+
+    /**
+     * Look-up the cached value for the given class or load and cache it, if it is not present yet.
+     * <br>
+     * The loading function is being invoked outside of any lock. Concurrent callers may therefore load the same value in parallel, but only the
+     * first result is being retained and returned to all of them.
+     *
+     * @param type class to look-up the associated value for
+     * @param loader function to apply for creating the value if it is not present yet
+     * @return cached or newly loaded value (may be {@code null} if that is what the loading function returned)
+     */
+    V get(Class<?> type, Function<Class<?>, ? extends V> loader) {
+        return this.get(type, loader, ClassKeyedCache::load);
+    }
+
+    /**
+     * Look-up the cached value for the given class or load and cache it, if it is not present yet. In contrast to
+     * {@link #get(Class, Function)}, the loading function receives an additional parameter - allowing it to be created once and shared between
+     * invocations (instead of capturing the context of each invocation), i.e. avoiding any allocation as long as the value is present.
+     *
+     * @param <P> type of the parameter to pass on to the loading function
+     * @param type class to look-up the associated value for
+     * @param parameter additional parameter to pass on to the loading function
+     * @param loader function to apply for creating the value if it is not present yet
+     * @return cached or newly loaded value (may be {@code null} if that is what the loading function returned)
+     */
+    <P> V get(Class<?> type, P parameter, BiFunction<Class<?>, ? super P, ? extends V> loader) {
+        Object storedValue = this.findStoredValue(type);
+        Object cachedValue = storedValue == null ? null : this.dereference(storedValue);
+        if (cachedValue != null) {
+            this.hitCount.increment();
+            if (this.listener != null) {
+                this.listener.onCacheHit(type);
+            }
+            return this.unwrap(cachedValue);
+        }
+        if (storedValue != null) {
+            this.removeCollectedValue(type, storedValue);
+        }
+        this.missCount.increment();
+        if (this.listener != null) {
+            this.listener.onCacheMiss(type);
+        }
+        return this.put(type, loader.apply(type, parameter));
+    }
+
+    /**
+     * Remove the entry for the given class, whose softly referenced value has been garbage collected. Its key is being removed from the insertion
+     * order as well, i.e. the value being loaded again counts as a new entry.
+     *
+     * @param type class whose value has been garbage collected
+     * @param storedValue cleared soft reference being stored for the given class
+     */
+    private void removeCollectedValue(Class<?> type, Object storedValue) {
+        Object lookupKey = this.createLookupKey(type);
+        if (this.entries.remove(lookupKey, storedValue)) {
+            this.evictionCount.increment();
+            if (this.maximumSize > 0) {
+                this.insertionOrder.remove(lookupKey);
+            }
+        }
+    }
+
+    /**
+     * Look-up the stored value for the given class, without creating a new key object unless another look-up is being performed concurrently.
+     *
+     * @param type class to look-up the associated value for
+     * @return stored value (or {@code null} if there is none)
+     */
+    private Object findStoredValue(Class<?> type) {
+        if (!this.weakKeys) {
+            return this.entries.get(type);
+        }
+        LookupKey lookupKey = this.spareLookupKey.getAndSet(null);
+        if (lookupKey == null) {
+            // the spare key is currently in use by another thread
+            lookupKey = new LookupKey();
+        }
+        lookupKey.type = type;
+        try {
+            return this.entries.get(lookupKey);
+        } finally {
+            // do not keep a strong reference to the class
+            lookupKey.type = null;
+            this.spareLookupKey.set(lookupKey);
+        }
+    }
+
+    /**
+     * Apply the given loading function. This serves as a stateless adapter for {@link #get(Class, Function)}.
+     *
+     * @param <T> type of loaded value
+     * @param type class to load the associated value for
+     * @param loader loading function to apply
+     * @return loaded value
+     */
+    private static <T> T load(Class<?> type, Function<Class<?>, ? extends T> loader) {
+        return loader.apply(type);
+    }
+
+    /**
+     * Add the given value to the cache, unless there is already a value associated with the same class.
+     *
+     * @param type class to associate the value with
+     * @param value value to cache (may be {@code null})
+     * @return value associated with the given class, i.e. either the given or a previously cached one
+     */
+    V put(Class<?> type, V value) {
+        this.expungeCollectedKeys();
+        Object key = this.weakKeys ? new WeakClassKey(type, this.collectedKeys) : type;
+        Object storedValue = this.wrap(value);
+        Object existingValue;
+        boolean added = true;
+        while ((existingValue = this.entries.putIfAbsent(key, storedValue)) != null) {
+            Object existingReferent = this.dereference(existingValue);
+            if (existingReferent != null) {
+                return this.unwrap(existingReferent);
+            }
+            if (this.entries.replace(key, existingValue, storedValue)) {
+                // the key is already part of the insertion order
+                added = false;
+                break;
+            }
+        }
+        if (added && this.maximumSize > 0) {
+            this.insertionOrder.add(key);
+            this.evictExcessEntries();
+        }
+        return value;
+    }
+
+    /**
+     * Perform the given action for each entry in this cache, skipping those whose weakly referenced class keys or softly referenced values have
+     * been garbage collected.
+     *
+     * @param action action to perform with each class and its associated value (may be {@code null})
+     */
+    void forEach(BiConsumer<Class<?>, ? super V> action) {
+        this.entries.forEach((key, storedValue) -> {
+            Class<?> type = ClassKeyedCache.getKeyType(key);
+            Object value = this.dereference(storedValue);
+            if (type != null && value != null) {
+                action.accept(type, this.unwrap(value));
+            }
+        });
+    }
+
+    /**
+     * Remove all entries from this cache. The collected statistics remain unchanged.
+     */
+    void clear() {
+        this.entries.clear();
+        this.insertionOrder.clear();
+    }
+
+    /**
+     * Remove all entries for classes that were loaded by the given class loader or any of its descendants. The collected statistics remain
+     * unchanged.
+     *
+     * @param classLoader class loader whose classes should no longer be referenced
+     * @return number of removed entries
+     */
+    int evict(ClassLoader classLoader) {
+        this.expungeCollectedKeys();
+        int sizeBefore = this.entries.size();
+        this.entries.keySet().removeIf(key -> ClassKeyedCache.isLoadedBy(ClassKeyedCache.getKeyType(key), classLoader));
+        this.insertionOrder.removeIf(key -> ClassKeyedCache.isLoadedBy(ClassKeyedCache.getKeyType(key), classLoader));
+        return Math.max(0, sizeBefore - this.entries.size());
+    }
+
+    /**
+     * Check whether the given class was loaded by the given class loader or any of its descendants.
+     *
+     * @param type class to check (may be {@code null})
+     * @param classLoader class loader to check for
+     * @return whether the given class belongs to the given class loader
+     */
+    static boolean isLoadedBy(Class<?> type, ClassLoader classLoader) {
+        if (type == null) {
+            return false;
+        }
+        for (ClassLoader typeLoader = type.getClassLoader(); typeLoader != null; typeLoader = typeLoader.getParent()) {
+            if (typeLoader == classLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Getter for the current number of entries in this cache.
+     *
+     * @return number of cached entries
+     */
+    int size() {
+        this.expungeCollectedKeys();
+        return this.entries.size();
+    }
+
+    /**
+     * Create a snapshot of the statistics collected for this cache so far.
+     *
+     * @return current statistics
+     */
+    CacheStatistics getStatistics() {
+        return new CacheStatistics(this.hitCount.sum(), this.missCount.sum(), this.evictionCount.sum(), this.size());
+    }
+
+    /**
+     * Remove the entries that were added first, until the configured maximum size is no longer being exceeded.
+     */
+    private void evictExcessEntries() {
+        while (this.entries.size() > this.maximumSize) {
+            Object oldestKey = this.insertionOrder.poll();
+            if (oldestKey == null) {
+                break;
+            }
+            if (this.entries.remove(oldestKey) != null) {
+                this.evictionCount.increment();
+            }
+        }
+    }
+
+    /**
+     * Remove all entries whose weakly referenced class keys have been garbage collected in the meantime.
+     */
+    private void expungeCollectedKeys() {
+        Object collectedKey;
+        while ((collectedKey = this.collectedKeys.poll()) != null) {
+            this.entries.remove(collectedKey);
+            this.insertionOrder.remove(collectedKey);
+        }
+    }
+
+    private Object createLookupKey(Class<?> type) {
+        return this.weakKeys ? new WeakClassKey(type, null) : type;
+    }
+
+    private static Class<?> getKeyType(Object key) {
+        return key instanceof WeakClassKey ? ((WeakClassKey) key).get() : (Class<?>) key;
+    }
+
+    /**
+     * Create the representation of the given value to be stored in the internal map.
+     *
+     * @param value value to store (may be {@code null})
+     * @return non-null placeholder for the given value, wrapped in a soft reference if configured
+     */
+    private Object wrap(V value) {
+        Object nonNullValue = value == null ? NULL_VALUE : value;
+        return this.softValues ? new SoftReference<>(nonNullValue) : nonNullValue;
+    }
+
+    private Object dereference(Object storedValue) {
+        return this.softValues ? ((SoftReference<?>) storedValue).get() : storedValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V unwrap(Object cachedValue) {
+        return cachedValue == NULL_VALUE ? null : (V) cachedValue;
+    }
+
+    /**
+     * Weak reference to a class, being considered equal to any other such reference to the same class.
+     */
+    private static final class WeakClassKey extends WeakReference<Class<?>> {
+
+        private final int hashCode;
+
+        /**
+         * Constructor.
+         *
+         * @param type referenced class
+         * @param queue queue to register this reference with (may be {@code null} for mere look-up keys)
+         */
+        WeakClassKey(Class<?> type, ReferenceQueue<Class<?>> queue) {
+            super(type, queue);
+            this.hashCode = System.identityHashCode(type);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof WeakClassKey || other instanceof LookupKey)) {
+                return false;
+            }
+            Class<?> type = this.get();
+            if (other instanceof LookupKey) {
+                return type != null && type == ((LookupKey) other).type;
+            }
+            return type != null && type == ((WeakClassKey) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    /**
+     * Mutable (exclusively borrowed) key for looking-up an entry by its weakly referenced class, being considered equal to the {@link WeakClassKey}
+     * referencing the same class.
+     */
+    private static final class LookupKey {
+
+        Class<?> type;
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            return other instanceof WeakClassKey && this.type != null && this.type == ((WeakClassKey) other).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.type);
+        }
+    }
+}
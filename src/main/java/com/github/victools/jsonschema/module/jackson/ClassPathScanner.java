@@ -0,0 +1,131 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Helper for finding all classes in a given package (and its sub-packages) on the class path, covering both directories and jar files.
+ */
+final class ClassPathScanner {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private ClassPathScanner() {
+        // no instances needed
+    }
+
+    /**
+     * Look-up all (non-synthetic, non-anonymous) classes in the given package and its sub-packages. The found classes are not being initialized.
+     *
+     * @param packageName name of the package to scan, e.g. {@code "com.example.model"}
+     * @param classLoader class loader to look-up the package's resources and to load the found classes with
+     * @return found classes
+     */
+    static List<Class<?>> findClasses(String packageName, ClassLoader classLoader) {
+        String resourcePath = packageName.replace('.', '/');
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> packageUrls = classLoader.getResources(resourcePath);
+            while (packageUrls.hasMoreElements()) {
+                URLConnection connection = packageUrls.nextElement().openConnection();
+                if (connection instanceof JarURLConnection) {
+                    ClassPathScanner.collectClassNamesFromJar((JarURLConnection) connection, resourcePath, classNames);
+                } else {
+                    File directory = new File(connection.getURL().toURI());
+                    ClassPathScanner.collectClassNamesFromDirectory(directory, packageName, classNames);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (URISyntaxException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+        List<Class<?>> classes = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            try {
+                Class<?> type = Class.forName(className, false, classLoader);
+                if (!type.isSynthetic() && !type.isAnonymousClass() && !type.isAnnotation()) {
+                    classes.add(type);
+                }
+            } catch (ClassNotFoundException | LinkageError ex) {
+                // class cannot be loaded (e.g. due to a missing optional dependency), i.e. it cannot be relevant for schema generation either
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Collect the names of all classes in the given jar entry's package (and its sub-packages).
+     *
+     * @param connection connection to the package entry in a jar file
+     * @param resourcePath package name in its path form, e.g. {@code "com/example/model"}
+     * @param classNames collection to add the found class names to
+     * @throws IOException when the jar file cannot be read
+     */
+    private static void collectClassNamesFromJar(JarURLConnection connection, String resourcePath, Set<String> classNames) throws IOException {
+        connection.setUseCaches(false);
+        try (JarFile jarFile = connection.getJarFile()) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String entryName = entries.nextElement().getName();
+                if (entryName.startsWith(resourcePath + '/') && ClassPathScanner.isRelevantClassFile(entryName)) {
+                    classNames.add(entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length()).replace('/', '.'));
+                }
+            }
+        }
+    }
+
+    /**
+     * Collect the names of all classes in the given directory (and its sub-directories).
+     *
+     * @param directory directory representing a package
+     * @param packageName name of the package represented by the given directory
+     * @param classNames collection to add the found class names to
+     */
+    private static void collectClassNamesFromDirectory(File directory, String packageName, Set<String> classNames) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String fileName = file.getName();
+            if (file.isDirectory()) {
+                ClassPathScanner.collectClassNamesFromDirectory(file, packageName + '.' + fileName, classNames);
+            } else if (ClassPathScanner.isRelevantClassFile(fileName)) {
+                classNames.add(packageName + '.' + fileName.substring(0, fileName.length() - CLASS_FILE_SUFFIX.length()));
+            }
+        }
+    }
+
+    private static boolean isRelevantClassFile(String fileName) {
+        return fileName.endsWith(CLASS_FILE_SUFFIX) && !fileName.endsWith("package-info.class") && !fileName.endsWith("module-info.class");
+    }
+}
@@ -24,45 +24,157 @@ import com.github.victools.jsonschema.generator.CustomDefinition;
 import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
 import com.github.victools.jsonschema.generator.SchemaGenerationContext;
 import com.github.victools.jsonschema.generator.SchemaKeyword;
+import com.github.victools.jsonschema.generator.TypeContext;
 import com.github.victools.jsonschema.generator.impl.AttributeCollector;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 
 /**
  * Implementation of the {@link CustomDefinitionProviderV2} interface for treating enum types as plain strings based on a {@link JsonValue} annotation
  * being present with {@code value = true} on exactly one argument-free method. If no such annotation exists, no custom definition will be returned;
  * thereby falling back on whatever is defined in a following custom definition (e.g. from one of the standard generator {@code Option}s).
+ * <br>
+ * The serialized values and the resulting definition are being determined only once per enum type. A single instance of this provider is
+ * therefore not meant to be shared between generator configurations for different schema versions.
  */
 public class CustomEnumJsonValueDefinitionProvider implements CustomDefinitionProviderV2 {
 
+    private final ClassKeyedCache<List<Object>> serializedJsonValues;
+    private final ClassKeyedCache<ObjectNode> definitions;
+    private final IntrospectionSnapshot snapshot;
+    private final GeneratedMetadataRegistry generatedMetadata;
+    private final JacksonModuleListener listener;
+
+    /**
+     * Constructor.
+     */
+    public CustomEnumJsonValueDefinitionProvider() {
+        this(new ClassKeyedCache<>(0, false), new ClassKeyedCache<>(0, false), null, null, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param serializedJsonValues cache for the serialized values per enum type (may be shared with other instances)
+     * @param definitions cache for the resulting definitions per enum type (not to be shared with other instances)
+     * @param snapshot previously collected serialized values to consider before falling back on reflection (may be {@code null})
+     * @param generatedMetadata compile-time generated metadata to consider before falling back on reflection (may be {@code null})
+     * @param listener listener to notify about created definitions (may be {@code null})
+     */
+    CustomEnumJsonValueDefinitionProvider(ClassKeyedCache<List<Object>> serializedJsonValues, ClassKeyedCache<ObjectNode> definitions,
+            IntrospectionSnapshot snapshot, GeneratedMetadataRegistry generatedMetadata, JacksonModuleListener listener) {
+        this.serializedJsonValues = serializedJsonValues;
+        this.definitions = definitions;
+        this.snapshot = snapshot;
+        this.generatedMetadata = generatedMetadata;
+        this.listener = listener;
+    }
+
     @Override
     public CustomDefinition provideCustomSchemaDefinition(ResolvedType javaType, SchemaGenerationContext context) {
+        if (!javaType.getErasedType().isEnum()) {
+            return null;
+        }
+        ObjectNode customNode = this.definitions.get(javaType.getErasedType(), type -> this.createDefinition(javaType, context));
+        if (customNode == null) {
+            return null;
+        }
+        // the cached node must not be modified by the generator, i.e. always hand out a copy of it
+        return new CustomDefinition(customNode.deepCopy());
+    }
+
+    /**
+     * Create the custom definition node for the given enum type, if all its values can be serialized via a {@link JsonValue} annotated method.
+     *
+     * @param javaType targeted enum type
+     * @param context generation context
+     * @return custom definition node (or {@code null})
+     */
+    private ObjectNode createDefinition(ResolvedType javaType, SchemaGenerationContext context) {
+        List<Object> serialisedJsonValues = this.getSerializedJsonValues(javaType, context);
+        if (this.listener != null) {
+            this.listener.onEnumDefinitionCreated(javaType.getErasedType(), serialisedJsonValues != null);
+        }
+        if (serialisedJsonValues == null) {
+            return null;
+        }
+        ObjectNode customNode = context.getGeneratorConfig().createObjectNode()
+                .put(context.getKeyword(SchemaKeyword.TAG_TYPE), context.getKeyword(SchemaKeyword.TAG_TYPE_STRING));
+        AttributeCollector standardAttributeCollector = new AttributeCollector(context.getGeneratorConfig().getObjectMapper());
+        standardAttributeCollector.setEnum(customNode, serialisedJsonValues, context);
+        return customNode;
+    }
+
+    /**
+     * Look-up the values of the given enum type's constants, as they would be serialized via its {@link JsonValue} annotated method.
+     *
+     * @param javaType targeted enum type
+     * @param context generation context providing access to type resolution context
+     * @return serialized values of all enum constants (or {@code null} if they cannot be determined)
+     */
+    List<Object> getSerializedJsonValues(ResolvedType javaType, SchemaGenerationContext context) {
+        return this.serializedJsonValues.get(javaType.getErasedType(),
+                type -> this.collectSerializedJsonValues(javaType, () -> this.getJsonValueAnnotatedMethod(javaType, context)));
+    }
+
+    /**
+     * Look-up the values of the given enum type's constants, as they would be serialized via its {@link JsonValue} annotated method. This is
+     * meant for populating the cache outside of a schema generation, e.g. via {@link JacksonModule#warmUp(java.util.Collection)}.
+     *
+     * @param javaType targeted enum type
+     * @param typeContext type resolution context
+     * @return serialized values of all enum constants (or {@code null} if they cannot be determined)
+     */
+    List<Object> getSerializedJsonValues(ResolvedType javaType, TypeContext typeContext) {
+        return this.serializedJsonValues.get(javaType.getErasedType(),
+                type -> this.collectSerializedJsonValues(javaType, () -> this.findJsonValueAnnotatedMethod(javaType, typeContext)));
+    }
+
+    /**
+     * Invoke the {@link JsonValue} annotated method on each of the given enum type's constants, unless the values are covered by the snapshot or
+     * the generated metadata.
+     *
+     * @param javaType targeted enum type
+     * @param methodLookup provider of the {@link JsonValue} annotated method, being invoked only if the enum has any constants
+     * @return serialized values of all enum constants (or {@code null} if they cannot be determined)
+     */
+    private List<Object> collectSerializedJsonValues(ResolvedType javaType, Supplier<ResolvedMethod> methodLookup) {
+        if (this.snapshot != null && this.snapshot.containsEnumValues(javaType.getErasedType())) {
+            return this.snapshot.getEnumValues(javaType.getErasedType());
+        }
+        GeneratedMetadataRegistry.Entry generatedEntry = this.generatedMetadata == null ? null : this.generatedMetadata.get(javaType.getErasedType());
+        List<Object> generatedValues = generatedEntry == null ? null : generatedEntry.getEnumJsonValues();
+        if (generatedValues != null) {
+            return generatedValues;
+        }
         Object[] enumConstants = javaType.getErasedType().getEnumConstants();
         if (enumConstants == null || enumConstants.length == 0) {
             return null;
         }
-        ResolvedMethod jsonValueAnnotatedEnumMethod = this.getJsonValueAnnotatedMethod(javaType, context);
+        ResolvedMethod jsonValueAnnotatedEnumMethod = methodLookup.get();
         if (jsonValueAnnotatedEnumMethod == null) {
             return null;
         }
         List<Object> serialisedJsonValues = new ArrayList<>(enumConstants.length);
         try {
+            MethodHandle jsonValueAccessor = MethodHandles.lookup().unreflect(jsonValueAnnotatedEnumMethod.getRawMember());
             for (Object enumConstant : enumConstants) {
-                serialisedJsonValues.add(jsonValueAnnotatedEnumMethod.getRawMember().invoke(enumConstant));
+                serialisedJsonValues.add(jsonValueAccessor.invoke(enumConstant));
             }
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException ex) {
+        } catch (IllegalAccessException | RuntimeException ex) {
+            // the method is either inaccessible or failed to produce a value, just like a reflective invocation would
+            return null;
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable ex) {
+            // a checked exception thrown by the method itself, that a reflective invocation would wrap in an InvocationTargetException
             return null;
         }
-        ObjectNode customNode = context.getGeneratorConfig().createObjectNode()
-                .put(context.getKeyword(SchemaKeyword.TAG_TYPE), context.getKeyword(SchemaKeyword.TAG_TYPE_STRING));
-        AttributeCollector standardAttributeCollector = new AttributeCollector(context.getGeneratorConfig().getObjectMapper());
-        standardAttributeCollector.setEnum(customNode, serialisedJsonValues, context);
-        return new CustomDefinition(customNode);
+        return Collections.unmodifiableList(serialisedJsonValues);
     }
 
     /**
@@ -73,14 +185,31 @@ public class CustomEnumJsonValueDefinitionProvider implements CustomDefinitionPr
      * @return single method with {@link JsonValue} annotation
      */
     protected ResolvedMethod getJsonValueAnnotatedMethod(ResolvedType javaType, SchemaGenerationContext context) {
-        ResolvedMethod[] memberMethods = context.getTypeContext().resolveWithMembers(javaType).getMemberMethods();
-        Set<ResolvedMethod> jsonValueAnnotatedMethods = Stream.of(memberMethods)
-                .filter(method -> method.getArgumentCount() == 0)
-                .filter(method -> Optional.ofNullable(method.getAnnotations().get(JsonValue.class)).map(JsonValue::value).orElse(false))
-                .collect(Collectors.toSet());
-        if (jsonValueAnnotatedMethods.size() == 1) {
-            return jsonValueAnnotatedMethods.iterator().next();
+        return this.findJsonValueAnnotatedMethod(javaType, context.getTypeContext());
+    }
+
+    /**
+     * Look-up the single {@link JsonValue} annotated method with {@code value = true} and no expected arguments.
+     *
+     * @param javaType targeted type to look-up serialization method for
+     * @param typeContext type resolution context
+     * @return single method with {@link JsonValue} annotation
+     */
+    private ResolvedMethod findJsonValueAnnotatedMethod(ResolvedType javaType, TypeContext typeContext) {
+        ResolvedMethod jsonValueAnnotatedMethod = null;
+        for (ResolvedMethod method : typeContext.resolveWithMembers(javaType).getMemberMethods()) {
+            if (method.getArgumentCount() != 0) {
+                continue;
+            }
+            JsonValue annotation = method.getAnnotations().get(JsonValue.class);
+            if (annotation != null && annotation.value()) {
+                if (jsonValueAnnotatedMethod != null) {
+                    // ambiguous
+                    return null;
+                }
+                jsonValueAnnotatedMethod = method;
+            }
         }
-        return null;
+        return jsonValueAnnotatedMethod;
     }
 }
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonIntegerFormatVisitor;
+import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonStringFormatVisitor;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.std.EnumSerializer;
+import com.github.victools.jsonschema.generator.CustomDefinition;
+import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
+import com.github.victools.jsonschema.generator.SchemaGenerationContext;
+import com.github.victools.jsonschema.generator.SchemaKeyword;
+import com.github.victools.jsonschema.generator.impl.AttributeCollector;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of the {@link CustomDefinitionProviderV2} interface for treating enum types as plain strings (or integers) exactly as jackson's
+ * {@link EnumSerializer} writes them, i.e. based on the serialized-name table ({@code EnumValues}) the {@code ObjectMapper} created for the enum.
+ * This considers {@link com.fasterxml.jackson.annotation.JsonProperty JsonProperty} annotations on the enum constants, the
+ * {@link com.fasterxml.jackson.databind.SerializationFeature#WRITE_ENUMS_USING_TO_STRING WRITE_ENUMS_USING_TO_STRING} and
+ * {@link com.fasterxml.jackson.databind.SerializationFeature#WRITE_ENUMS_USING_INDEX WRITE_ENUMS_USING_INDEX} features as well as a
+ * {@link com.fasterxml.jackson.annotation.JsonFormat JsonFormat} annotation on the enum type. If the enum is not being serialized via an
+ * {@link EnumSerializer} (e.g. due to a {@link com.fasterxml.jackson.annotation.JsonValue JsonValue} annotation or a custom serializer), no custom
+ * definition will be returned; thereby falling back on whatever is defined in a following custom definition.
+ * <br>
+ * The serializer is being taken from the mapper's own cache (or created and cached there) and the resulting definition is being determined only
+ * once per enum type. A single instance of this provider is therefore not meant to be shared between generator configurations for different
+ * schema versions or mappers.
+ */
+public class CustomEnumSerializerDefinitionProvider implements CustomDefinitionProviderV2 {
+
+    private final ClassKeyedCache<ObjectNode> definitions;
+    private final JacksonModuleListener listener;
+
+    /**
+     * Constructor.
+     */
+    public CustomEnumSerializerDefinitionProvider() {
+        this(new ClassKeyedCache<>(0, false), null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param definitions cache for the resulting definitions per enum type (not to be shared with other instances)
+     * @param listener listener to notify about created definitions (may be {@code null})
+     */
+    CustomEnumSerializerDefinitionProvider(ClassKeyedCache<ObjectNode> definitions, JacksonModuleListener listener) {
+        this.definitions = definitions;
+        this.listener = listener;
+    }
+
+    @Override
+    public CustomDefinition provideCustomSchemaDefinition(ResolvedType javaType, SchemaGenerationContext context) {
+        if (!javaType.getErasedType().isEnum()) {
+            return null;
+        }
+        ObjectNode customNode = this.definitions.get(javaType.getErasedType(), type -> this.createDefinition(type, context));
+        if (customNode == null) {
+            return null;
+        }
+        // the cached node must not be modified by the generator, i.e. always hand out a copy of it
+        return new CustomDefinition(customNode.deepCopy());
+    }
+
+    /**
+     * Create the custom definition node for the given enum type, if it is being serialized via an {@link EnumSerializer}.
+     *
+     * @param enumType targeted enum type
+     * @param context generation context
+     * @return custom definition node (or {@code null})
+     */
+    private ObjectNode createDefinition(Class<?> enumType, SchemaGenerationContext context) {
+        ObjectMapper objectMapper = context.getGeneratorConfig().getObjectMapper();
+        SerializedEnumValues serializedValues = SerializedEnumValues.of(enumType, objectMapper);
+        if (this.listener != null) {
+            this.listener.onEnumDefinitionCreated(enumType, serializedValues != null);
+        }
+        if (serializedValues == null) {
+            return null;
+        }
+        SchemaKeyword typeKeyword = serializedValues.isIndex() ? SchemaKeyword.TAG_TYPE_INTEGER : SchemaKeyword.TAG_TYPE_STRING;
+        ObjectNode customNode = context.getGeneratorConfig().createObjectNode()
+                .put(context.getKeyword(SchemaKeyword.TAG_TYPE), context.getKeyword(typeKeyword));
+        AttributeCollector standardAttributeCollector = new AttributeCollector(objectMapper);
+        standardAttributeCollector.setEnum(customNode, serializedValues.getValues(), context);
+        return customNode;
+    }
+
+    /**
+     * Collector of the values an {@link EnumSerializer} writes, being reported via jackson's format visitor API - the same way
+     * {@link EnumSerializer#serialize(Enum, com.fasterxml.jackson.core.JsonGenerator, SerializerProvider) EnumSerializer.serialize()} decides
+     * between the constants' index, {@code toString()} or their entry in the serialized-name table.
+     */
+    static final class SerializedEnumValues extends JsonFormatVisitorWrapper.Base {
+
+        private final List<Object> values = new ArrayList<>();
+        private boolean index;
+
+        /**
+         * Constructor.
+         *
+         * @param provider serializer provider of the mapper whose configuration applies
+         */
+        private SerializedEnumValues(SerializerProvider provider) {
+            super(provider);
+        }
+
+        /**
+         * Look-up the values of the given enum type's constants, as they would be serialized by the given mapper.
+         *
+         * @param enumType targeted enum type
+         * @param objectMapper mapper whose configuration applies
+         * @return serialized values of all enum constants (or {@code null} if the enum is not being serialized via an {@link EnumSerializer})
+         */
+        static SerializedEnumValues of(Class<?> enumType, ObjectMapper objectMapper) {
+            Object[] enumConstants = enumType.getEnumConstants();
+            if (enumConstants == null || enumConstants.length == 0) {
+                return null;
+            }
+            SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+            SerializedEnumValues serializedValues = new SerializedEnumValues(provider);
+            try {
+                JsonSerializer<?> serializer = provider.findValueSerializer(enumType);
+                if (!(serializer instanceof EnumSerializer)) {
+                    return null;
+                }
+                serializer.acceptJsonFormatVisitor(serializedValues, objectMapper.constructType(enumType));
+            } catch (JsonMappingException ex) {
+                // let the generator handle it like any other enum
+                return null;
+            }
+            if (serializedValues.index) {
+                for (int ordinal = 0; ordinal < enumConstants.length; ordinal++) {
+                    serializedValues.values.add(ordinal);
+                }
+            } else if (serializedValues.values.isEmpty()) {
+                return null;
+            }
+            return serializedValues;
+        }
+
+        @Override
+        public JsonStringFormatVisitor expectStringFormat(JavaType type) {
+            return new JsonStringFormatVisitor.Base() {
+                @Override
+                public void enumTypes(Set<String> enums) {
+                    SerializedEnumValues.this.values.addAll(enums);
+                }
+            };
+        }
+
+        @Override
+        public JsonIntegerFormatVisitor expectIntegerFormat(JavaType type) {
+            this.index = true;
+            return new JsonIntegerFormatVisitor.Base();
+        }
+
+        /**
+         * Getter for the flag indicating whether the enum constants are being serialized as their index.
+         *
+         * @return whether the values are integers
+         */
+        boolean isIndex() {
+            return this.index;
+        }
+
+        /**
+         * Getter for the serialized values of all enum constants (in the order of their declaration).
+         *
+         * @return serialized values
+         */
+        List<Object> getValues() {
+            return this.values;
+        }
+    }
+}
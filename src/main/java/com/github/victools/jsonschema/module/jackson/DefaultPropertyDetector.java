@@ -0,0 +1,314 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.annotation.JacksonAnnotation;
+import com.fasterxml.jackson.annotation.JacksonAnnotationsInside;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.introspect.VisibilityChecker;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Cheap alternative to jackson's introspection for classes on which jackson's default property detection applies unchanged, i.e. without any
+ * jackson annotations in the class hierarchy, mix-ins, config overrides or non-default visibility/naming settings.
+ * <br>
+ * For such classes, the included properties are being derived directly from the class' members as per jackson's default visibility: public
+ * non-transient fields, public getters (including "is" getters for boolean values) and setters of any visibility.
+ */
+final class DefaultPropertyDetector {
+
+    private static final String DEFAULT_VISIBILITY = VisibilityChecker.Std.defaultInstance().toString();
+    private static final Set<String> RELEVANT_NON_JACKSON_ANNOTATIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "java.beans.Transient", "java.beans.ConstructorProperties")));
+
+    private DefaultPropertyDetector() {
+        // no instances needed
+    }
+
+    /**
+     * Check whether the properties of the given class can be derived without jackson's introspection, i.e. whether the introspection could not
+     * possibly yield a different result than the default property detection.
+     *
+     * @param type class to check
+     * @param config jackson configuration that would be applied during the introspection
+     * @return whether {@link #createPropertyIndex(Class)} is applicable
+     */
+    static boolean isApplicable(Class<?> type, SerializationConfig config) {
+        if (!DefaultPropertyDetector.isUnaffectedByConfiguration(type, config)) {
+            return false;
+        }
+        try {
+            return DefaultPropertyDetector.collectHierarchy(type).stream()
+                    .noneMatch(DefaultPropertyDetector::hasRelevantAnnotations);
+        } catch (LinkageError ex) {
+            // some member cannot be resolved, just let jackson handle it as before
+            return false;
+        }
+    }
+
+    /**
+     * Check whether jackson's introspection of the given class yields the same result as under a default configuration, i.e. the given
+     * configuration applies the default property detection and there are no mix-ins or config overrides for the class (hierarchy).
+     *
+     * @param type class to check
+     * @param config jackson configuration that would be applied during the introspection
+     * @return whether the introspection result does not depend on the given configuration
+     */
+    static boolean isUnaffectedByConfiguration(Class<?> type, SerializationConfig config) {
+        if (!DefaultPropertyDetector.hasDefaultConfiguration(config) || config.findConfigOverride(type) != null) {
+            return false;
+        }
+        return config.mixInCount() == 0 || DefaultPropertyDetector.collectHierarchy(type).stream()
+                .noneMatch(hierarchyType -> config.findMixInClassFor(hierarchyType) != null);
+    }
+
+    /**
+     * Check whether the given jackson configuration would apply the default property detection.
+     *
+     * @param config jackson configuration to check
+     * @return whether the standard annotation introspector, default visibility and no naming strategy is being used
+     */
+    private static boolean hasDefaultConfiguration(SerializationConfig config) {
+        return config.getAnnotationIntrospector() != null
+                && config.getAnnotationIntrospector().getClass() == JacksonAnnotationIntrospector.class
+                && config.getPropertyNamingStrategy() == null
+                && !config.isEnabled(MapperFeature.USE_STD_BEAN_NAMING)
+                && !config.isEnabled(MapperFeature.PROPAGATE_TRANSIENT_MARKER)
+                && !config.isEnabled(MapperFeature.REQUIRE_SETTERS_FOR_GETTERS)
+                // the standard visibility checker exposes its configured levels only via its toString()
+                && DEFAULT_VISIBILITY.equals(String.valueOf(config.getDefaultVisibilityChecker()));
+    }
+
+    /**
+     * Collect the given class, its super classes (except {@link Object}) and all implemented interfaces.
+     *
+     * @param type class to start from
+     * @return all classes in the given one's hierarchy
+     */
+    private static Set<Class<?>> collectHierarchy(Class<?> type) {
+        Set<Class<?>> hierarchy = new HashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(type);
+        while (!pending.isEmpty()) {
+            Class<?> currentType = pending.poll();
+            if (currentType != Object.class && hierarchy.add(currentType)) {
+                if (currentType.getSuperclass() != null) {
+                    pending.add(currentType.getSuperclass());
+                }
+                Collections.addAll(pending, currentType.getInterfaces());
+            }
+        }
+        return hierarchy;
+    }
+
+    /**
+     * Check whether the given class or any of its declared members (or their parameters) carries an annotation that is considered by jackson.
+     *
+     * @param type class to check
+     * @return whether any relevant annotation is present
+     */
+    private static boolean hasRelevantAnnotations(Class<?> type) {
+        if (DefaultPropertyDetector.hasRelevantAnnotation(type)) {
+            return true;
+        }
+        for (Field field : type.getDeclaredFields()) {
+            if (DefaultPropertyDetector.hasRelevantAnnotation(field)) {
+                return true;
+            }
+        }
+        return Stream.concat(Stream.of(type.getDeclaredMethods()), Stream.of(type.getDeclaredConstructors()))
+                .anyMatch(DefaultPropertyDetector::hasRelevantAnnotations);
+    }
+
+    /**
+     * Check whether the given method/constructor or any of its parameters carries an annotation that is considered by jackson.
+     *
+     * @param executable method or constructor to check
+     * @return whether any relevant annotation is present
+     */
+    private static boolean hasRelevantAnnotations(Executable executable) {
+        if (DefaultPropertyDetector.hasRelevantAnnotation(executable)) {
+            return true;
+        }
+        return Stream.of(executable.getParameterAnnotations())
+                .flatMap(Stream::of)
+                .anyMatch(DefaultPropertyDetector::isRelevantAnnotation);
+    }
+
+    /**
+     * Check whether the given element itself carries an annotation that is considered by jackson.
+     *
+     * @param element class, field, method or constructor to check
+     * @return whether any relevant annotation is present
+     */
+    private static boolean hasRelevantAnnotation(AnnotatedElement element) {
+        for (Annotation annotation : element.getDeclaredAnnotations()) {
+            if (DefaultPropertyDetector.isRelevantAnnotation(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether the given annotation is considered by jackson, i.e. it is a jackson annotation, a bundle of jackson annotations or one of
+     * the few supported JDK annotations.
+     *
+     * @param annotation annotation to check
+     * @return whether the annotation is relevant
+     */
+    private static boolean isRelevantAnnotation(Annotation annotation) {
+        Class<? extends Annotation> annotationType = annotation.annotationType();
+        return annotationType.isAnnotationPresent(JacksonAnnotation.class)
+                || annotationType.isAnnotationPresent(JacksonAnnotationsInside.class)
+                || RELEVANT_NON_JACKSON_ANNOTATIONS.contains(annotationType.getName());
+    }
+
+    /**
+     * Create the index for the given class as per jackson's default property detection. This assumes that
+     * {@link #isApplicable(Class, SerializationConfig)} returned {@code true} for it.
+     *
+     * @param type class to derive the included properties for
+     * @return created property index
+     */
+    static PropertyIndex createPropertyIndex(Class<?> type) {
+        if (DefaultPropertyDetector.isSkippedByJackson(type)) {
+            return new PropertyIndex(Collections.emptySet(), Collections.emptySet(), Collections.emptyMap());
+        }
+        Set<String> includedNames = new HashSet<>();
+        for (Class<?> currentType = type; currentType != null && currentType != Object.class; currentType = currentType.getSuperclass()) {
+            for (Field field : currentType.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                    includedNames.add(field.getName());
+                }
+            }
+        }
+        for (Method method : type.getMethods()) {
+            String getterPropertyName = DefaultPropertyDetector.getGetterPropertyName(method);
+            if (getterPropertyName != null) {
+                includedNames.add(getterPropertyName);
+            }
+        }
+        for (Class<?> currentType : DefaultPropertyDetector.collectHierarchy(type)) {
+            for (Method method : currentType.getDeclaredMethods()) {
+                String setterPropertyName = DefaultPropertyDetector.getSetterPropertyName(method);
+                if (setterPropertyName != null) {
+                    includedNames.add(setterPropertyName);
+                }
+            }
+        }
+        // without any annotations or naming strategy, the external names are the same as the internal ones
+        return new PropertyIndex(includedNames, Collections.emptySet(), Collections.emptyMap());
+    }
+
+    /**
+     * Check whether jackson's introspection short-cuts the given class without collecting any properties, which is the case for some primitives,
+     * {@link String} and the JDK's standard collections and maps.
+     *
+     * @param type class to check
+     * @return whether jackson would not collect any properties for the given class
+     */
+    private static boolean isSkippedByJackson(Class<?> type) {
+        if (type == String.class || type == boolean.class || type == int.class || type == long.class) {
+            return true;
+        }
+        String packageName = type.getName();
+        return (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type))
+                && (packageName.startsWith("java.lang") || packageName.startsWith("java.util"));
+    }
+
+    /**
+     * Determine the implicit property name of the given method, if it is a visible getter as per jackson's default settings.
+     *
+     * @param method (public) method to check
+     * @return implicit property name (or {@code null} if the given method is not a getter)
+     */
+    static String getGetterPropertyName(Method method) {
+        if (!DefaultPropertyDetector.isIncludableMethod(method) || method.getParameterCount() != 0 || method.getDeclaringClass() == Object.class) {
+            return null;
+        }
+        Class<?> returnType = method.getReturnType();
+        String methodName = method.getName();
+        if (methodName.startsWith("get") && returnType != void.class) {
+            return DefaultPropertyDetector.manglePropertyName(methodName, 3);
+        }
+        if (methodName.startsWith("is") && (returnType == boolean.class || returnType == Boolean.class)) {
+            return DefaultPropertyDetector.manglePropertyName(methodName, 2);
+        }
+        return null;
+    }
+
+    /**
+     * Determine the implicit property name of the given method, if it is a setter (which are visible regardless of their modifiers by default).
+     *
+     * @param method method to check
+     * @return implicit property name (or {@code null} if the given method is not a setter)
+     */
+    private static String getSetterPropertyName(Method method) {
+        if (!DefaultPropertyDetector.isIncludableMethod(method) || method.getParameterCount() != 1 || !method.getName().startsWith("set")) {
+            return null;
+        }
+        return DefaultPropertyDetector.manglePropertyName(method.getName(), 3);
+    }
+
+    private static boolean isIncludableMethod(Method method) {
+        return !Modifier.isStatic(method.getModifiers()) && !method.isSynthetic() && !method.isBridge();
+    }
+
+    /**
+     * Derive the property name from an accessor method's name in the same way as jackson does by default: lower-casing all leading upper-case
+     * characters after the prefix (e.g. "getURL" results in "url", while "getUrlValue" results in "urlValue").
+     *
+     * @param methodName name of the accessor method
+     * @param prefixLength length of the accessor prefix to skip, i.e. "get", "is" or "set"
+     * @return property name (or {@code null} if there is nothing after the prefix)
+     */
+    private static String manglePropertyName(String methodName, int prefixLength) {
+        int length = methodName.length();
+        if (length == prefixLength) {
+            return null;
+        }
+        StringBuilder propertyName = new StringBuilder(length - prefixLength);
+        for (int index = prefixLength; index < length; index++) {
+            char character = methodName.charAt(index);
+            char lowerCaseCharacter = Character.toLowerCase(character);
+            if (character == lowerCaseCharacter) {
+                propertyName.append(methodName, index, length);
+                break;
+            }
+            propertyName.append(lowerCaseCharacter);
+        }
+        return propertyName.toString();
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Look-up of the {@link GeneratedTypeMetadata} instances available on the class path, by their respective target class.
+ */
+final class GeneratedMetadataRegistry {
+
+    private final Map<Class<?>, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param metadata generated metadata instances to register
+     */
+    GeneratedMetadataRegistry(Iterable<? extends GeneratedTypeMetadata> metadata) {
+        metadata.forEach(singleTypeMetadata -> this.entries.put(singleTypeMetadata.getTargetType(), new Entry(singleTypeMetadata)));
+    }
+
+    /**
+     * Discover all {@link GeneratedTypeMetadata} implementations registered via the {@link ServiceLoader} mechanism. Invalid registrations (e.g.
+     * generated classes whose target class is no longer available) are being skipped, i.e. reflection is being used for those classes instead.
+     *
+     * @param classLoader class loader to look-up the registrations with
+     * @return created registry
+     */
+    static GeneratedMetadataRegistry load(ClassLoader classLoader) {
+        List<GeneratedTypeMetadata> metadata = new ArrayList<>();
+        Iterator<GeneratedTypeMetadata> iterator = ServiceLoader.load(GeneratedTypeMetadata.class, classLoader).iterator();
+        while (GeneratedMetadataRegistry.hasNext(iterator)) {
+            try {
+                GeneratedTypeMetadata singleTypeMetadata = iterator.next();
+                // ensure the target class is available, before registering the metadata
+                singleTypeMetadata.getTargetType();
+                metadata.add(singleTypeMetadata);
+            } catch (ServiceConfigurationError | LinkageError ex) {
+                // ignore this registration and continue with the next one
+            }
+        }
+        return new GeneratedMetadataRegistry(metadata);
+    }
+
+    /**
+     * Check whether the given iterator has further elements, skipping over invalid registrations.
+     *
+     * @param iterator service loader iterator to check
+     * @return whether there are further elements
+     */
+    private static boolean hasNext(Iterator<GeneratedTypeMetadata> iterator) {
+        while (true) {
+            try {
+                return iterator.hasNext();
+            } catch (ServiceConfigurationError ex) {
+                // the invalid entry has been consumed, just try again with the next one
+            }
+        }
+    }
+
+    /**
+     * Look-up the generated metadata for the given class.
+     *
+     * @param type class to look-up the generated metadata for
+     * @return generated metadata (or {@code null} if there is none)
+     */
+    Entry get(Class<?> type) {
+        return this.entries.get(type);
+    }
+
+    /**
+     * Remove the generated metadata of all classes that were loaded by the given class loader (or any of its descendants).
+     *
+     * @param classLoader class loader whose classes should no longer be referenced
+     */
+    void evict(ClassLoader classLoader) {
+        this.entries.keySet().removeIf(type -> ClassKeyedCache.isLoadedBy(type, classLoader));
+    }
+
+    /**
+     * Getter for the number of classes with generated metadata.
+     *
+     * @return number of registered classes
+     */
+    int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Generated metadata of a single class, with its field related values being collected once upon registration.
+     */
+    static final class Entry {
+
+        private final GeneratedTypeMetadata metadata;
+        private final String classDescription;
+        private final Map<String, String> nameOverrides;
+        private final Map<String, String> descriptions;
+        private final Set<String> backReferences;
+        private final PropertyIndex propertyIndex;
+
+        /**
+         * Constructor.
+         *
+         * @param metadata generated metadata to represent
+         */
+        Entry(GeneratedTypeMetadata metadata) {
+            this.metadata = metadata;
+            this.classDescription = metadata.getClassDescription();
+            this.nameOverrides = new HashMap<>(metadata.getPropertyNameOverrides());
+            this.descriptions = new HashMap<>(metadata.getPropertyDescriptions());
+            this.backReferences = new HashSet<>(metadata.getBackReferences());
+            Set<String> includedNames = metadata.getIncludedPropertyNames();
+            if (includedNames == null) {
+                this.propertyIndex = null;
+            } else {
+                Set<String> ignoredNames = new HashSet<>(metadata.getIgnoredPropertyNames());
+                Set<String> remainingNames = new HashSet<>(includedNames);
+                remainingNames.removeAll(ignoredNames);
+                // the compile-time index is only applicable without a naming strategy, i.e. explicit renamings are the only difference
+                Map<String, String> includedNameOverrides = new HashMap<>(this.nameOverrides);
+                includedNameOverrides.keySet().retainAll(remainingNames);
+                this.propertyIndex = new PropertyIndex(remainingNames, ignoredNames, includedNameOverrides);
+            }
+        }
+
+        /**
+         * Getter for the class description.
+         *
+         * @return class description (or {@code null})
+         */
+        String getClassDescription() {
+            return this.classDescription;
+        }
+
+        /**
+         * Create the metadata for the field with the given name, without the reflective look-up of its annotations.
+         *
+         * @param fieldName declared name of the field
+         * @param propertyIndex index of included/ignored properties of the declaring class
+         * @return field metadata
+         */
+        MemberMetadata createFieldMetadata(String fieldName, PropertyIndex propertyIndex) {
+            boolean backReference = this.backReferences.contains(fieldName);
+            boolean ignored = backReference || !propertyIndex.isIncluded(fieldName);
+            return new MemberMetadata(this.nameOverrides.get(fieldName), this.descriptions.get(fieldName), backReference, ignored);
+        }
+
+        /**
+         * Getter for the compile-time determined index of included/ignored properties, assuming a default mapper configuration.
+         *
+         * @return property index (or {@code null} if it could not be determined at compile-time)
+         */
+        PropertyIndex getPropertyIndex() {
+            return this.propertyIndex;
+        }
+
+        /**
+         * Look-up the serialized values of the enum constants.
+         *
+         * @return serialized enum values (or {@code null} if they were not determined at compile-time or their look-up failed)
+         */
+        List<Object> getEnumJsonValues() {
+            try {
+                List<Object> values = this.metadata.getEnumJsonValues();
+                return values == null ? null : Collections.unmodifiableList(values);
+            } catch (RuntimeException ex) {
+                // let the reflection based look-up deal with it
+                return null;
+            }
+        }
+    }
+}
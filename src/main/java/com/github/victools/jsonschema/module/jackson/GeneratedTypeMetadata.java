@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compile-time collected jackson metadata of a single class, as generated by the {@code jsonschema-module-jackson-processor} annotation processor.
+ * Implementations are being discovered via the {@link java.util.ServiceLoader} and replace the reflective look-up of the respective annotations
+ * for their target class.
+ * <br>
+ * All methods besides {@link #getTargetType()} have a default implementation representing the absence of the respective metadata. The values
+ * returned by the various methods are expected to stay the same for a given instance.
+ *
+ * @see JacksonModule#withGeneratedMetadata()
+ */
+public interface GeneratedTypeMetadata {
+
+    /**
+     * Getter for the class this metadata was collected for.
+     *
+     * @return target class
+     */
+    Class<?> getTargetType();
+
+    /**
+     * Getter for the value of the {@code JsonClassDescription} annotation on the target class.
+     *
+     * @return class description (or {@code null})
+     */
+    default String getClassDescription() {
+        return null;
+    }
+
+    /**
+     * Getter for the alternative property names defined via {@code JsonProperty} annotations on the target class' fields or their getters.
+     *
+     * @return alternative property names by declared field name (only for fields with such an alternative name)
+     */
+    default Map<String, String> getPropertyNameOverrides() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Getter for the property descriptions defined via {@code JsonPropertyDescription} annotations on the target class' fields or their getters.
+     *
+     * @return descriptions by declared field name (only for fields with such a description)
+     */
+    default Map<String, String> getPropertyDescriptions() {
+        return Collections.emptyMap();
+    }
+
+    /**
+     * Getter for the names of the target class' fields marked as back reference via {@code JsonBackReference} annotations (on the field or its
+     * getter).
+     *
+     * @return declared names of back reference fields
+     */
+    default Set<String> getBackReferences() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Getter for the internal names of the properties jackson would detect for the target class, assuming a default {@code ObjectMapper}
+     * configuration and no mix-ins or config overrides. If some annotation in the class hierarchy is not supported for this purpose, no such
+     * result can be provided and jackson's introspection will be performed instead.
+     *
+     * @return internal names of the detected properties (or {@code null} if they could not be determined at compile-time)
+     */
+    default Set<String> getIncludedPropertyNames() {
+        return null;
+    }
+
+    /**
+     * Getter for the names of the properties being explicitly ignored via a {@code JsonIgnoreProperties} annotation in the target class' hierarchy.
+     *
+     * @return explicitly ignored properties' names
+     */
+    default Set<String> getIgnoredPropertyNames() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Look-up the values of the target enum's constants, as they would be serialized via its {@code JsonValue} annotated method.
+     *
+     * @return serialized values of all enum constants (or {@code null} if they were not determined, in which case reflection is being used)
+     */
+    default List<Object> getEnumJsonValues() {
+        return null;
+    }
+}
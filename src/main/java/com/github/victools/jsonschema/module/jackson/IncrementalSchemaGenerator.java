@@ -0,0 +1,428 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.generator.TypeContext;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * Schema generator for build-time usage, that only regenerates the schemas of those root types whose reachable classes changed since the
+ * previous run. The results of each run are being kept in plain files in a given cache directory:
+ * <ul>
+ * <li>the generated schema per root type, alongside the bytecode fingerprints of all classes reachable from it (as per
+ * {@link JacksonModule#warmUp(java.util.Collection) JacksonModule.warmUp()}, including their super classes and mix-ins),</li>
+ * <li>the {@link JacksonModule}'s per-class introspection results and enum values as {@link IntrospectionSnapshot}, so that only the changed
+ * classes need to be introspected again when a schema is being regenerated.</li>
+ * </ul>
+ * All cached results are being discarded if the relevant configuration changed, i.e. the {@code ObjectMapper}'s configuration, the
+ * {@link JacksonOption}s, the schema version or the explicitly given {@link #withConfigurationVersion(String) configuration version}. The latter
+ * should be changed whenever the generator configuration is being changed in any other way, e.g. by adding an option or another module.
+ * <br>
+ * Types that are only reachable via methods (and not via fields) are not being tracked.
+ * <br>
+ * Example:
+ * <pre>
+ * JacksonModule module = new JacksonModule();
+ * SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(objectMapper, OptionPreset.PLAIN_JSON)
+ *         .with(module)
+ *         .build();
+ * IncrementalSchemaGenerator generator = new IncrementalSchemaGenerator(config, module, Paths.get("target/schema-cache"))
+ *         .load();
+ * for (Class&lt;?&gt; rootType : rootTypes) {
+ *     write(rootType, generator.generateSchema(rootType));
+ * }
+ * generator.save();
+ * </pre>
+ */
+public class IncrementalSchemaGenerator {
+
+    private static final int MAGIC_NUMBER = 0x4A534943;
+    private static final int FORMAT_VERSION = 1;
+    private static final String SCHEMAS_FILE_NAME = "schemas.cache";
+    private static final String SNAPSHOT_FILE_NAME = "introspection.snapshot";
+
+    private final TypeContext typeContext;
+    private final SchemaGenerator generator;
+    private final JacksonModule module;
+    private final ObjectMapper objectMapper;
+    private final SchemaVersion schemaVersion;
+    private final Path cacheDirectory;
+    private String configurationVersion = "";
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, Long> fingerprints = new ConcurrentHashMap<>();
+    private IntrospectionSnapshot previousSnapshot;
+    private final AtomicInteger reusedSchemaCount = new AtomicInteger();
+    private final AtomicInteger generatedSchemaCount = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param config generator configuration, that must include the given module
+     * @param module module instance included in the given configuration
+     * @param cacheDirectory directory to keep the cached results in (being created on {@link #save()} if it does not exist yet)
+     */
+    public IncrementalSchemaGenerator(SchemaGeneratorConfig config, JacksonModule module, Path cacheDirectory) {
+        this.typeContext = JacksonModule.createTypeContext();
+        this.generator = new SchemaGenerator(config, this.typeContext);
+        this.module = module;
+        this.objectMapper = config.getObjectMapper();
+        this.schemaVersion = config.getSchemaVersion();
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Set a version identifier of the generator configuration, that invalidates all cached results when it is being changed. This is required
+     * for configuration aspects that cannot be detected automatically, e.g. enabled options or additional modules.
+     *
+     * @param configurationVersion version identifier of the generator configuration
+     * @return this instance (for chaining)
+     */
+    public IncrementalSchemaGenerator withConfigurationVersion(String configurationVersion) {
+        this.configurationVersion = configurationVersion == null ? "" : configurationVersion;
+        return this;
+    }
+
+    /**
+     * Read the results of the previous run from the cache directory. A missing, corrupt or incompatible cache is being treated as an empty one,
+     * i.e. all schemas are being generated. The previous introspection results are being handed to the module via
+     * {@link JacksonModule#withSnapshot(IntrospectionSnapshot)}.
+     *
+     * @return this instance (for chaining)
+     * @throws IOException when reading an existing cache file fails
+     */
+    public IncrementalSchemaGenerator load() throws IOException {
+        this.entries.clear();
+        this.previousSnapshot = null;
+        long configurationFingerprint = this.calculateConfigurationFingerprint();
+        byte[] cachedEntries;
+        try {
+            // the whole file is being read at once, in order to validate any length against the number of remaining bytes
+            cachedEntries = Files.readAllBytes(this.cacheDirectory.resolve(SCHEMAS_FILE_NAME));
+        } catch (NoSuchFileException ex) {
+            return this;
+        }
+        if (!IncrementalSchemaGenerator.readEntries(cachedEntries, configurationFingerprint, this.entries)) {
+            // the cached results are corrupt or were created with a different configuration
+            return this;
+        }
+        try (InputStream inputStream = Files.newInputStream(this.cacheDirectory.resolve(SNAPSHOT_FILE_NAME))) {
+            this.previousSnapshot = IntrospectionSnapshot.readFrom(inputStream);
+            this.module.withSnapshot(this.previousSnapshot);
+        } catch (IOException ex) {
+            // the schemas can still be reused, only the introspection of changed classes cannot be skipped
+        }
+        return this;
+    }
+
+    /**
+     * Provide the schema for the given root type: either from the cache (if none of the classes reachable from it changed) or by generating it.
+     *
+     * @param rootType type to provide the schema for
+     * @return cached or newly generated schema
+     */
+    public JsonNode generateSchema(Type rootType) {
+        String rootTypeName = rootType.getTypeName();
+        Entry cachedEntry = this.entries.get(rootTypeName);
+        if (cachedEntry != null && this.isUpToDate(cachedEntry, rootType)) {
+            try {
+                JsonNode schema = this.objectMapper.readTree(cachedEntry.schema);
+                this.reusedSchemaCount.incrementAndGet();
+                return schema;
+            } catch (IOException ex) {
+                // the cached schema is corrupt and should be generated again
+            }
+        }
+        Set<Class<?>> reachableTypes = this.module.warmUpReachableTypes(Collections.singleton(rootType), Runnable::run);
+        JsonNode schema = this.generator.generateSchema(rootType);
+        Map<String, Long> classFingerprints = new LinkedHashMap<>();
+        for (Class<?> reachableType : reachableTypes) {
+            classFingerprints.put(reachableType.getName(), this.getFingerprint(reachableType));
+            Class<?> mixIn = this.objectMapper.findMixInClassFor(reachableType);
+            if (mixIn != null) {
+                classFingerprints.put(mixIn.getName(), this.getFingerprint(mixIn));
+            }
+        }
+        this.entries.put(rootTypeName, new Entry(classFingerprints, schema.toString()));
+        this.generatedSchemaCount.incrementAndGet();
+        return schema;
+    }
+
+    /**
+     * Check whether none of the classes reachable from a cached schema's root type changed since the schema was generated.
+     *
+     * @param entry cached schema entry
+     * @param rootType root type the schema was generated for
+     * @return whether the cached schema can be reused
+     */
+    private boolean isUpToDate(Entry entry, Type rootType) {
+        ResolvedType resolvedRootType = this.typeContext.resolve(rootType);
+        ClassLoader classLoader = resolvedRootType.getErasedType().getClassLoader();
+        if (classLoader == null) {
+            classLoader = Thread.currentThread().getContextClassLoader();
+        }
+        for (Map.Entry<String, Long> classFingerprint : entry.classFingerprints.entrySet()) {
+            Class<?> type;
+            try {
+                type = Class.forName(classFingerprint.getKey(), false, classLoader);
+            } catch (ClassNotFoundException | LinkageError ex) {
+                // the class was removed or renamed
+                return false;
+            }
+            if (this.getFingerprint(type) != classFingerprint.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Look-up the fingerprint of the given class' bytecode, that is being calculated only once per class.
+     *
+     * @param type class to look-up the fingerprint for
+     * @return fingerprint value
+     */
+    private long getFingerprint(Class<?> type) {
+        return this.fingerprints.computeIfAbsent(type, IntrospectionSnapshot::calculateFingerprint);
+    }
+
+    /**
+     * Calculate a fingerprint of all configuration aspects that are being considered when determining whether cached results can be reused.
+     *
+     * @return fingerprint value
+     */
+    long calculateConfigurationFingerprint() {
+        StringBuilder description = new StringBuilder()
+                .append(this.configurationVersion)
+                .append('|').append(this.schemaVersion.name())
+                .append('|').append(MapperConfigKey.of(this.objectMapper).calculateFingerprint())
+                .append('|').append(this.objectMapper.mixInCount());
+        this.module.getOptions().stream()
+                .map(JacksonOption::name)
+                .sorted()
+                .forEach(option -> description.append('|').append(option));
+        CRC32 checksum = new CRC32();
+        checksum.update(description.toString().getBytes(StandardCharsets.UTF_8));
+        return checksum.getValue();
+    }
+
+    /**
+     * Write the results of this run to the cache directory: the schemas (whether reused or newly generated) and the introspection results, both
+     * replacing the respective previous file at once. Previously cached schemas that have not been requested in this run are being retained.
+     *
+     * @throws IOException when writing to the cache directory fails
+     */
+    public void save() throws IOException {
+        Files.createDirectories(this.cacheDirectory);
+        Map<String, Entry> currentEntries = new LinkedHashMap<>(this.entries);
+        this.writeAtomically(SCHEMAS_FILE_NAME, outputStream -> this.writeEntries(outputStream, currentEntries));
+        IntrospectionSnapshot snapshot = this.module.createSnapshot();
+        if (this.previousSnapshot != null) {
+            // retain the introspection results of unchanged classes, that did not need to be introspected in this run
+            Set<String> retainedClassNames = new HashSet<>();
+            currentEntries.values().forEach(entry -> retainedClassNames.addAll(entry.classFingerprints.keySet()));
+            snapshot = snapshot.withEntriesFrom(this.previousSnapshot, retainedClassNames::contains);
+        }
+        IntrospectionSnapshot snapshotToWrite = snapshot;
+        this.writeAtomically(SNAPSHOT_FILE_NAME, snapshotToWrite::writeTo);
+    }
+
+    /**
+     * Write a file in the cache directory via a temporary file, in order to not leave a partially written file behind.
+     *
+     * @param fileName name of the file to write
+     * @param writer writing the file's contents
+     * @throws IOException when writing the file fails
+     */
+    private void writeAtomically(String fileName, FileWriter writer) throws IOException {
+        Path targetFile = this.cacheDirectory.resolve(fileName);
+        Path temporaryFile = Files.createTempFile(this.cacheDirectory, fileName, ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                writer.write(outputStream);
+            }
+            Files.move(temporaryFile, targetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Write the given schema entries in their compact binary form.
+     *
+     * @param outputStream stream to write to
+     * @param entriesToWrite schema entries by root type name
+     * @throws IOException when writing to the stream fails
+     */
+    private void writeEntries(OutputStream outputStream, Map<String, Entry> entriesToWrite) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeLong(this.calculateConfigurationFingerprint());
+        output.writeInt(entriesToWrite.size());
+        for (Map.Entry<String, Entry> rootEntry : entriesToWrite.entrySet()) {
+            Entry entry = rootEntry.getValue();
+            output.writeUTF(rootEntry.getKey());
+            output.writeInt(entry.classFingerprints.size());
+            for (Map.Entry<String, Long> classFingerprint : entry.classFingerprints.entrySet()) {
+                output.writeUTF(classFingerprint.getKey());
+                output.writeLong(classFingerprint.getValue());
+            }
+            // a schema may exceed the length limit of writeUTF()
+            byte[] schemaBytes = entry.schema.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(schemaBytes.length);
+            output.write(schemaBytes);
+        }
+        output.flush();
+    }
+
+    /**
+     * Read the schema entries in their compact binary form, as written via {@link #writeEntries(OutputStream, Map)}. Any length prefix is being
+     * checked against the number of remaining bytes, i.e. a corrupt file cannot cause an excessive allocation.
+     *
+     * @param content binary contents to read
+     * @param configurationFingerprint fingerprint of the current configuration, that must match the one of the cached entries
+     * @param targetEntries collection of schema entries to add the read ones to
+     * @return whether the contents are valid and compatible entries (otherwise, none are being added)
+     */
+    private static boolean readEntries(byte[] content, long configurationFingerprint, Map<String, Entry> targetEntries) {
+        ByteArrayInputStream byteStream = new ByteArrayInputStream(content);
+        DataInputStream input = new DataInputStream(byteStream);
+        Map<String, Entry> readEntries = new LinkedHashMap<>();
+        try {
+            if (input.readInt() != MAGIC_NUMBER || input.readInt() != FORMAT_VERSION || input.readLong() != configurationFingerprint) {
+                return false;
+            }
+            int entryCount = input.readInt();
+            for (int entryIndex = 0; entryIndex < entryCount; entryIndex++) {
+                String rootTypeName = input.readUTF();
+                int classCount = input.readInt();
+                Map<String, Long> classFingerprints = new LinkedHashMap<>();
+                for (int classIndex = 0; classIndex < classCount; classIndex++) {
+                    classFingerprints.put(input.readUTF(), input.readLong());
+                }
+                String schema = IncrementalSchemaGenerator.readSchema(input, byteStream.available());
+                if (schema == null) {
+                    return false;
+                }
+                readEntries.put(rootTypeName, new Entry(classFingerprints, schema));
+            }
+        } catch (IOException ex) {
+            // a corrupt cache (e.g. truncated or with an invalid string encoding) is being treated like an empty one
+            return false;
+        }
+        targetEntries.putAll(readEntries);
+        return true;
+    }
+
+    /**
+     * Read a single schema in its serialized form, as written via {@link #writeEntries(OutputStream, Map)}.
+     *
+     * @param input stream to read from
+     * @param remainingByteCount number of bytes remaining in the stream, i.e. the maximum valid schema length
+     * @return read schema (or {@code null} if its length prefix is invalid)
+     * @throws IOException when reading from the stream fails
+     */
+    private static String readSchema(DataInputStream input, int remainingByteCount) throws IOException {
+        int schemaLength = input.readInt();
+        if (schemaLength < 0 || schemaLength > remainingByteCount - Integer.BYTES) {
+            return null;
+        }
+        byte[] schemaBytes = new byte[schemaLength];
+        input.readFully(schemaBytes);
+        return new String(schemaBytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Getter for the number of schemas that were taken from the cache (since this instance was created).
+     *
+     * @return number of reused schemas
+     */
+    public int getReusedSchemaCount() {
+        return this.reusedSchemaCount.get();
+    }
+
+    /**
+     * Getter for the number of schemas that had to be generated (since this instance was created).
+     *
+     * @return number of generated schemas
+     */
+    public int getGeneratedSchemaCount() {
+        return this.generatedSchemaCount.get();
+    }
+
+    /**
+     * Writing the contents of a file.
+     */
+    @FunctionalInterface
+    private interface FileWriter {
+
+        /**
+         * Write the file's contents to the given stream.
+         *
+         * @param outputStream stream to write to (being closed afterwards)
+         * @throws IOException when writing to the stream fails
+         */
+        void write(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Cached schema for a single root type.
+     */
+    private static final class Entry {
+
+        final Map<String, Long> classFingerprints;
+        final String schema;
+
+        /**
+         * Constructor.
+         *
+         * @param classFingerprints bytecode fingerprints of all classes reachable from the root type, by class name
+         * @param schema generated schema in its serialized form
+         */
+        Entry(Map<String, Long> classFingerprints, String schema) {
+            this.classFingerprints = classFingerprints;
+            this.schema = schema;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Group of the {@link JacksonModule}'s caches, whose contents depend on the {@link ObjectMapper} configuration, i.e. one such group exists per
+ * distinct {@link MapperConfigKey}.
+ */
+final class IntrospectionCaches {
+
+    private final ObjectMapper objectMapper;
+    private final IntrospectionSnapshot snapshot;
+    private final ClassKeyedCache<BeanDescription> beanDescriptions;
+    private final ClassKeyedCache<PropertyIndex> propertyIndexes;
+    private final ClassKeyedCache<ConcurrentMap<String, MemberMetadata>> fieldMetadata;
+    private final ClassKeyedCache<ConcurrentMap<String, MemberMetadata>> methodMetadata;
+    private final ClassKeyedCache<String> typeDescriptions;
+    private final ClassKeyedCache<Boolean> ignoredTypes;
+    private final ClassKeyedCache<PolymorphicTypeInfo> polymorphicTypes;
+
+    /**
+     * Constructor.
+     *
+     * @param objectMapper mapper to perform the introspection with (representing all mappers with the same configuration key)
+     * @param maximumSize maximum number of entries to keep per cache (a value of zero or less means: unbounded)
+     * @param weakKeys whether the class keys should be weakly referenced
+     * @param softValues whether the cached jackson introspection results should be softly referenced
+     * @param listener listener to notify about hits and misses of the property index cache (may be {@code null})
+     * @param snapshot build-time introspection results to pre-populate the field metadata with (may be {@code null})
+     */
+    IntrospectionCaches(ObjectMapper objectMapper, int maximumSize, boolean weakKeys, boolean softValues, JacksonModuleListener listener,
+            IntrospectionSnapshot snapshot) {
+        this.objectMapper = objectMapper;
+        this.snapshot = snapshot;
+        this.beanDescriptions = new ClassKeyedCache<>(maximumSize, weakKeys, softValues);
+        this.propertyIndexes = new ClassKeyedCache<>(maximumSize, weakKeys, false, listener);
+        this.fieldMetadata = new ClassKeyedCache<>(maximumSize, weakKeys);
+        this.methodMetadata = new ClassKeyedCache<>(maximumSize, weakKeys);
+        this.typeDescriptions = new ClassKeyedCache<>(maximumSize, weakKeys);
+        this.ignoredTypes = new ClassKeyedCache<>(maximumSize, weakKeys);
+        this.polymorphicTypes = new ClassKeyedCache<>(maximumSize, weakKeys);
+    }
+
+    /**
+     * Getter for the mapper to perform the introspection with.
+     *
+     * @return object mapper
+     */
+    ObjectMapper getObjectMapper() {
+        return this.objectMapper;
+    }
+
+    /**
+     * Getter for the build-time introspection results, that were created with an equivalent mapper configuration.
+     *
+     * @return applicable snapshot (may be {@code null})
+     */
+    IntrospectionSnapshot getSnapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Getter for the cache of jackson's introspection results per class.
+     *
+     * @return bean description cache
+     */
+    ClassKeyedCache<BeanDescription> getBeanDescriptions() {
+        return this.beanDescriptions;
+    }
+
+    /**
+     * Getter for the cache of included/ignored properties per class.
+     *
+     * @return property index cache
+     */
+    ClassKeyedCache<PropertyIndex> getPropertyIndexes() {
+        return this.propertyIndexes;
+    }
+
+    /**
+     * Getter for the cache of field metadata per declaring class.
+     *
+     * @return field metadata cache
+     */
+    ClassKeyedCache<ConcurrentMap<String, MemberMetadata>> getFieldMetadata() {
+        return this.fieldMetadata;
+    }
+
+    /**
+     * Getter for the cache of (argument-free) method metadata per declaring class.
+     *
+     * @return method metadata cache
+     */
+    ClassKeyedCache<ConcurrentMap<String, MemberMetadata>> getMethodMetadata() {
+        return this.methodMetadata;
+    }
+
+    /**
+     * Getter for the cache of class descriptions (including {@code null} values for classes without a description).
+     *
+     * @return type description cache
+     */
+    ClassKeyedCache<String> getTypeDescriptions() {
+        return this.typeDescriptions;
+    }
+
+    /**
+     * Getter for the cache indicating per class whether properties of that type are being ignored, e.g. due to {@code JsonIgnoreType}.
+     *
+     * @return ignored type cache
+     */
+    ClassKeyedCache<Boolean> getIgnoredTypes() {
+        return this.ignoredTypes;
+    }
+
+    /**
+     * Getter for the cache of polymorphism related information per class (including {@code null} values for non-polymorphic classes).
+     *
+     * @return polymorphic type cache
+     */
+    ClassKeyedCache<PolymorphicTypeInfo> getPolymorphicTypes() {
+        return this.polymorphicTypes;
+    }
+
+    /**
+     * Remove all entries for classes that were loaded by the given class loader (or any of its descendants) from the caches in this group. The
+     * caches of the associated mapper itself are not being touched.
+     *
+     * @param classLoader class loader whose classes should no longer be referenced
+     */
+    void evict(ClassLoader classLoader) {
+        this.beanDescriptions.evict(classLoader);
+        this.propertyIndexes.evict(classLoader);
+        this.fieldMetadata.evict(classLoader);
+        this.methodMetadata.evict(classLoader);
+        this.typeDescriptions.evict(classLoader);
+        this.ignoredTypes.evict(classLoader);
+        this.polymorphicTypes.evict(classLoader);
+    }
+}
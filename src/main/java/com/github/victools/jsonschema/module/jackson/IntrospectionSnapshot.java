@@ -0,0 +1,673 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.databind.SerializationConfig;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
+
+/**
+ * Serializable collection of the {@link JacksonModule}'s per-class introspection results: the metadata of each field (name override, description,
+ * whether it is ignored) and the {@link com.fasterxml.jackson.annotation.JsonValue JsonValue} based values of enum types.
+ * <br>
+ * A snapshot is meant to be created at build time via {@link JacksonModule#createSnapshot()} (typically after a
+ * {@link JacksonModule#warmUp(String) JacksonModule.warmUp()}) and written to a file via {@link #writeTo(OutputStream)}. At runtime, it can then be
+ * read via {@link #readFrom(InputStream)} and handed to {@link JacksonModule#withSnapshot(IntrospectionSnapshot)}, in order to skip the reflection
+ * for every class it covers. The snapshot records the enabled {@link JacksonOption}s and a fingerprint of the {@code ObjectMapper} configuration
+ * it was created with: it is only being applied for a mapper with an equivalent configuration.
+ * <br>
+ * Each entry holds a fingerprint of its class' bytecode (including its super classes, interfaces, declared field types and their mix-ins).
+ * Entries whose fingerprint no longer matches the class present at runtime are considered stale and are being ignored, i.e. such classes are
+ * being introspected via reflection as usual. The fingerprint is based on the CRC-32 checksum of each involved class file, which for classes
+ * packaged in a jar is being taken from the jar's directory instead of reading the class file itself. Each class file's checksum is being
+ * determined at most once per snapshot.
+ */
+public final class IntrospectionSnapshot {
+
+    private static final int MAGIC_NUMBER = 0x4A534A53;
+    private static final int FORMAT_VERSION = 3;
+
+    private static final byte VALUE_NULL = 0;
+    private static final byte VALUE_STRING = 1;
+    private static final byte VALUE_BOOLEAN = 2;
+    private static final byte VALUE_INT = 3;
+    private static final byte VALUE_LONG = 4;
+    private static final byte VALUE_DOUBLE = 5;
+    private static final byte VALUE_FLOAT = 6;
+
+    private static final byte FLAG_NAME_OVERRIDE = 1;
+    private static final byte FLAG_DESCRIPTION = 1 << 1;
+    private static final byte FLAG_BACK_REFERENCE = 1 << 2;
+    private static final byte FLAG_IGNORED = 1 << 3;
+
+    private final long configFingerprint;
+    private final Set<JacksonOption> options;
+    private final Map<String, Entry> entries;
+    private final ConcurrentMap<String, Long> classChecksums = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param configFingerprint fingerprint of the mapper configuration the snapshot was created with
+     * @param options module options the snapshot was created with
+     * @param entries snapshot entries by class name
+     */
+    private IntrospectionSnapshot(long configFingerprint, Set<JacksonOption> options, Map<String, Entry> entries) {
+        this.configFingerprint = configFingerprint;
+        this.options = options;
+        this.entries = entries;
+    }
+
+    /**
+     * Getter for the module options the snapshot was created with.
+     *
+     * @return enabled options
+     */
+    Set<JacksonOption> getOptions() {
+        return this.options;
+    }
+
+    /**
+     * Check whether this snapshot was created for a mapper with the given configuration.
+     *
+     * @param configKey configuration of the mapper to check
+     * @return whether the fingerprint of the given configuration matches the one this snapshot was created with
+     */
+    boolean isApplicableTo(MapperConfigKey configKey) {
+        return this.configFingerprint == configKey.calculateFingerprint();
+    }
+
+    /**
+     * Getter for the number of classes covered by this snapshot.
+     *
+     * @return number of classes
+     */
+    public int getClassCount() {
+        return this.entries.size();
+    }
+
+    /**
+     * Create a new snapshot containing all entries of this one, extended by those entries of the given (older) snapshot that are not included in
+     * this one but are being accepted by the given filter. If the older snapshot was created with another mapper configuration or other options,
+     * none of its entries are being taken over.
+     *
+     * @param previous older snapshot to take additional entries from
+     * @param classNameFilter check whether the entry for the given class name should be taken over from the older snapshot
+     * @return combined snapshot
+     */
+    IntrospectionSnapshot withEntriesFrom(IntrospectionSnapshot previous, Predicate<String> classNameFilter) {
+        if (previous.configFingerprint != this.configFingerprint || !previous.options.equals(this.options)) {
+            return this;
+        }
+        Map<String, Entry> combinedEntries = new LinkedHashMap<>(this.entries);
+        previous.entries.forEach((className, entry) -> {
+            if (classNameFilter.test(className)) {
+                combinedEntries.putIfAbsent(className, entry);
+            }
+        });
+        return new IntrospectionSnapshot(this.configFingerprint, this.options, combinedEntries);
+    }
+
+    /**
+     * Look-up the metadata for the fields declared by the given class.
+     *
+     * @param type declaring class
+     * @param config configuration of the mapper to look-up mix-ins with (may be {@code null} if there are none)
+     * @return metadata by field name (or {@code null} if the given class is not covered or its entry is stale)
+     */
+    Map<String, MemberMetadata> getFieldMetadata(Class<?> type, SerializationConfig config) {
+        Entry entry = this.getValidEntry(type, config);
+        return entry == null ? null : entry.fieldMetadata;
+    }
+
+    /**
+     * Check whether the serialized {@code JsonValue} results of the given enum type are covered by this snapshot (and not stale).
+     *
+     * @param enumType enum type to check
+     * @return whether {@link #getEnumValues(Class)} can be used for the given enum type
+     */
+    boolean containsEnumValues(Class<?> enumType) {
+        Entry entry = this.getValidEntry(enumType, null);
+        return entry != null && entry.enumValuesPresent;
+    }
+
+    /**
+     * Look-up the serialized {@code JsonValue} results of the given enum type.
+     *
+     * @param enumType enum type to look-up the values for
+     * @return serialized values (may be {@code null} if they could not be determined when the snapshot was created)
+     */
+    List<Object> getEnumValues(Class<?> enumType) {
+        Entry entry = this.getValidEntry(enumType, null);
+        return entry == null ? null : entry.enumValues;
+    }
+
+    /**
+     * Look-up the entry for the given class, if its fingerprint matches the one present at runtime.
+     *
+     * @param type class to look-up the entry for
+     * @param config configuration of the mapper to look-up mix-ins with (may be {@code null} if there are none)
+     * @return valid entry (or {@code null} if the given class is not covered or its entry is stale)
+     */
+    private Entry getValidEntry(Class<?> type, SerializationConfig config) {
+        Entry entry = this.entries.get(type.getName());
+        if (entry == null) {
+            return null;
+        }
+        if (config != null && config.mixInCount() != 0) {
+            // mix-ins are specific to the respective mapper, i.e. the result cannot be retained in the entry
+            return entry.fingerprint == IntrospectionSnapshot.calculateFingerprint(type, config, this::getClassChecksum) ? entry : null;
+        }
+        if (entry.valid == null) {
+            // the fingerprint is being determined only once per entry, a concurrent double check is harmless
+            entry.valid = entry.fingerprint == IntrospectionSnapshot.calculateFingerprint(type, null, this::getClassChecksum);
+        }
+        return entry.valid ? entry : null;
+    }
+
+    /**
+     * Look-up the checksum of the given class' bytecode, determining it only once (e.g. for a super class shared by multiple entries).
+     *
+     * @param type class to look-up the checksum for
+     * @return checksum of the class file
+     */
+    private long getClassChecksum(Class<?> type) {
+        Long checksum = this.classChecksums.get(type.getName());
+        if (checksum == null) {
+            // a concurrent double calculation is harmless
+            checksum = IntrospectionSnapshot.calculateClassChecksum(type);
+            this.classChecksums.putIfAbsent(type.getName(), checksum);
+        }
+        return checksum;
+    }
+
+    /**
+     * Write this snapshot in its compact binary form to the given stream. The stream is not being closed.
+     *
+     * @param outputStream stream to write to
+     * @throws IOException when writing to the stream fails
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeLong(this.configFingerprint);
+        output.writeInt(this.options.size());
+        for (JacksonOption option : this.options) {
+            IntrospectionSnapshot.writeString(output, option.name());
+        }
+        output.writeInt(this.entries.size());
+        for (Map.Entry<String, Entry> classEntry : this.entries.entrySet()) {
+            Entry entry = classEntry.getValue();
+            IntrospectionSnapshot.writeString(output, classEntry.getKey());
+            output.writeLong(entry.fingerprint);
+            output.writeInt(entry.fieldMetadata == null ? -1 : entry.fieldMetadata.size());
+            if (entry.fieldMetadata != null) {
+                for (Map.Entry<String, MemberMetadata> fieldEntry : entry.fieldMetadata.entrySet()) {
+                    IntrospectionSnapshot.writeString(output, fieldEntry.getKey());
+                    IntrospectionSnapshot.writeMemberMetadata(output, fieldEntry.getValue());
+                }
+            }
+            output.writeBoolean(entry.enumValuesPresent);
+            if (entry.enumValuesPresent) {
+                output.writeInt(entry.enumValues == null ? -1 : entry.enumValues.size());
+                if (entry.enumValues != null) {
+                    for (Object value : entry.enumValues) {
+                        IntrospectionSnapshot.writeValue(output, value);
+                    }
+                }
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Read a snapshot in its compact binary form from the given stream. The stream is not being closed.
+     *
+     * @param inputStream stream to read from
+     * @return read snapshot
+     * @throws IOException when reading from the stream fails or the stream does not contain a (compatible) snapshot, e.g. one referring to unknown
+     *         options
+     */
+    public static IntrospectionSnapshot readFrom(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+        if (input.readInt() != MAGIC_NUMBER) {
+            throw new IOException("Stream does not contain an IntrospectionSnapshot");
+        }
+        int formatVersion = input.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported IntrospectionSnapshot format version: " + formatVersion);
+        }
+        long configFingerprint = input.readLong();
+        int optionCount = input.readInt();
+        Set<JacksonOption> options = EnumSet.noneOf(JacksonOption.class);
+        for (int optionIndex = 0; optionIndex < optionCount; optionIndex++) {
+            String optionName = IntrospectionSnapshot.readString(input);
+            try {
+                options.add(JacksonOption.valueOf(optionName));
+            } catch (IllegalArgumentException ex) {
+                throw new IOException("Unsupported option in IntrospectionSnapshot: " + optionName, ex);
+            }
+        }
+        int entryCount = input.readInt();
+        Map<String, Entry> entries = new HashMap<>(entryCount * 4 / 3 + 1);
+        for (int entryIndex = 0; entryIndex < entryCount; entryIndex++) {
+            final String className = IntrospectionSnapshot.readString(input);
+            Entry entry = new Entry(input.readLong());
+            int fieldCount = input.readInt();
+            if (fieldCount >= 0) {
+                Map<String, MemberMetadata> fieldMetadata = new HashMap<>(fieldCount * 4 / 3 + 1);
+                for (int fieldIndex = 0; fieldIndex < fieldCount; fieldIndex++) {
+                    fieldMetadata.put(IntrospectionSnapshot.readString(input), IntrospectionSnapshot.readMemberMetadata(input));
+                }
+                entry.fieldMetadata = Collections.unmodifiableMap(fieldMetadata);
+            }
+            entry.enumValuesPresent = input.readBoolean();
+            if (entry.enumValuesPresent) {
+                int valueCount = input.readInt();
+                if (valueCount >= 0) {
+                    List<Object> enumValues = new ArrayList<>(valueCount);
+                    for (int valueIndex = 0; valueIndex < valueCount; valueIndex++) {
+                        enumValues.add(IntrospectionSnapshot.readValue(input));
+                    }
+                    entry.enumValues = Collections.unmodifiableList(enumValues);
+                }
+            }
+            entries.put(className, entry);
+        }
+        return new IntrospectionSnapshot(configFingerprint, Collections.unmodifiableSet(options), entries);
+    }
+
+    /**
+     * Write a string as its UTF-8 bytes, prefixed by their number. Unlike {@link DataOutputStream#writeUTF(String)}, this is not limited to
+     * strings with an encoded length of up to 64KB (e.g. for long descriptions).
+     *
+     * @param output stream to write to
+     * @param value string to write
+     * @throws IOException when writing to the stream fails
+     */
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /**
+     * Read a string, as written via {@link #writeString(DataOutputStream, String)}.
+     *
+     * @param input stream to read from
+     * @return read string
+     * @throws IOException when reading from the stream fails or the length prefix is invalid
+     */
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid string length in IntrospectionSnapshot: " + length);
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write a single field's metadata, as a bit mask of the present attributes followed by the non-{@code null} strings.
+     *
+     * @param output stream to write to
+     * @param metadata field metadata to write
+     * @throws IOException when writing to the stream fails
+     */
+    private static void writeMemberMetadata(DataOutputStream output, MemberMetadata metadata) throws IOException {
+        int flags = (metadata.getNameOverride() == null ? 0 : FLAG_NAME_OVERRIDE)
+                | (metadata.getDescription() == null ? 0 : FLAG_DESCRIPTION)
+                | (metadata.isBackReference() ? FLAG_BACK_REFERENCE : 0)
+                | (metadata.isIgnored() ? FLAG_IGNORED : 0);
+        output.writeByte(flags);
+        if (metadata.getNameOverride() != null) {
+            IntrospectionSnapshot.writeString(output, metadata.getNameOverride());
+        }
+        if (metadata.getDescription() != null) {
+            IntrospectionSnapshot.writeString(output, metadata.getDescription());
+        }
+    }
+
+    /**
+     * Read a single field's metadata, as written via {@link #writeMemberMetadata(DataOutputStream, MemberMetadata)}.
+     *
+     * @param input stream to read from
+     * @return read field metadata
+     * @throws IOException when reading from the stream fails
+     */
+    private static MemberMetadata readMemberMetadata(DataInputStream input) throws IOException {
+        byte flags = input.readByte();
+        String nameOverride = (flags & FLAG_NAME_OVERRIDE) == 0 ? null : IntrospectionSnapshot.readString(input);
+        String description = (flags & FLAG_DESCRIPTION) == 0 ? null : IntrospectionSnapshot.readString(input);
+        return new MemberMetadata(nameOverride, description, (flags & FLAG_BACK_REFERENCE) != 0, (flags & FLAG_IGNORED) != 0);
+    }
+
+    /**
+     * Write a single serialized enum value, prefixed by its type indicator.
+     *
+     * @param output stream to write to
+     * @param value serialized enum value (as per {@link #isSupportedValue(Object)})
+     * @throws IOException when writing to the stream fails
+     */
+    private static void writeValue(DataOutputStream output, Object value) throws IOException {
+        if (value == null) {
+            output.writeByte(VALUE_NULL);
+        } else if (value instanceof String) {
+            output.writeByte(VALUE_STRING);
+            IntrospectionSnapshot.writeString(output, (String) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(VALUE_BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(VALUE_INT);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(VALUE_LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Float) {
+            output.writeByte(VALUE_FLOAT);
+            output.writeFloat((Float) value);
+        } else {
+            output.writeByte(VALUE_DOUBLE);
+            output.writeDouble(((Number) value).doubleValue());
+        }
+    }
+
+    /**
+     * Read a single serialized enum value, as written via {@link #writeValue(DataOutputStream, Object)}.
+     *
+     * @param input stream to read from
+     * @return read enum value
+     * @throws IOException when reading from the stream fails or the type indicator is unknown
+     */
+    private static Object readValue(DataInputStream input) throws IOException {
+        byte valueType = input.readByte();
+        switch (valueType) {
+        case VALUE_NULL:
+            return null;
+        case VALUE_STRING:
+            return IntrospectionSnapshot.readString(input);
+        case VALUE_BOOLEAN:
+            return input.readBoolean();
+        case VALUE_INT:
+            return input.readInt();
+        case VALUE_LONG:
+            return input.readLong();
+        case VALUE_DOUBLE:
+            return input.readDouble();
+        case VALUE_FLOAT:
+            return input.readFloat();
+        default:
+            throw new IOException("Unsupported enum value type in IntrospectionSnapshot: " + valueType);
+        }
+    }
+
+    /**
+     * Check whether the given serialized enum value can be represented in a snapshot.
+     *
+     * @param value serialized enum value
+     * @return whether the value is {@code null}, a {@link String}, {@link Boolean}, {@link Integer}, {@link Long}, {@link Double} or {@link Float}
+     */
+    private static boolean isSupportedValue(Object value) {
+        return value == null || value instanceof String || value instanceof Boolean || value instanceof Integer || value instanceof Long
+                || value instanceof Double || value instanceof Float;
+    }
+
+    /**
+     * Calculate a fingerprint of the given class' bytecode, including that of its super classes, interfaces and declared field types (as their
+     * annotations and members may affect the introspection results as well).
+     *
+     * @param type class to calculate the fingerprint for
+     * @return fingerprint value
+     */
+    static long calculateFingerprint(Class<?> type) {
+        return IntrospectionSnapshot.calculateFingerprint(type, null);
+    }
+
+    /**
+     * Calculate a fingerprint of the given class' bytecode, including that of its super classes, interfaces and declared field types (as their
+     * annotations and members may affect the introspection results as well) and the mix-ins registered for any of them.
+     *
+     * @param type class to calculate the fingerprint for
+     * @param config configuration of the mapper to look-up mix-ins with (may be {@code null} if there are none)
+     * @return fingerprint value
+     */
+    static long calculateFingerprint(Class<?> type, SerializationConfig config) {
+        return IntrospectionSnapshot.calculateFingerprint(type, config, IntrospectionSnapshot::calculateClassChecksum);
+    }
+
+    /**
+     * Calculate a fingerprint of the given class' bytecode, including that of its super classes, interfaces and declared field types (as their
+     * annotations and members may affect the introspection results as well) and the mix-ins registered for any of them.
+     *
+     * @param type class to calculate the fingerprint for
+     * @param config configuration of the mapper to look-up mix-ins with (may be {@code null} if there are none)
+     * @param classChecksumLookup look-up of a single class file's checksum
+     * @return fingerprint value
+     */
+    private static long calculateFingerprint(Class<?> type, SerializationConfig config, ToLongFunction<Class<?>> classChecksumLookup) {
+        // sorted by name, in order to not depend on the order in which the reflection API returns fields and interfaces
+        Map<String, Class<?>> relevantTypes = new TreeMap<>();
+        IntrospectionSnapshot.collectHierarchy(type, relevantTypes);
+        for (Class<?> hierarchyType : new ArrayList<>(relevantTypes.values())) {
+            for (Field field : hierarchyType.getDeclaredFields()) {
+                Class<?> fieldType = field.getType();
+                while (fieldType.isArray()) {
+                    fieldType = fieldType.getComponentType();
+                }
+                relevantTypes.putIfAbsent(fieldType.getName(), fieldType);
+            }
+        }
+        CRC32 checksum = new CRC32();
+        for (Class<?> relevantType : relevantTypes.values()) {
+            IntrospectionSnapshot.updateChecksum(checksum, relevantType, classChecksumLookup);
+            Class<?> mixIn = config == null ? null : config.findMixInClassFor(relevantType);
+            if (mixIn != null) {
+                IntrospectionSnapshot.updateChecksum(checksum, mixIn, classChecksumLookup);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Collect the given class, its super classes and all their interfaces.
+     *
+     * @param type class to start from
+     * @param collectedTypes collection to add the types to (by their names)
+     */
+    private static void collectHierarchy(Class<?> type, Map<String, Class<?>> collectedTypes) {
+        if (type == null || type == Object.class || collectedTypes.putIfAbsent(type.getName(), type) != null) {
+            return;
+        }
+        IntrospectionSnapshot.collectHierarchy(type.getSuperclass(), collectedTypes);
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            IntrospectionSnapshot.collectHierarchy(interfaceType, collectedTypes);
+        }
+    }
+
+    /**
+     * Add the given class' name and the checksum of its bytecode to the checksum.
+     *
+     * @param checksum checksum to update
+     * @param type class to consider
+     * @param classChecksumLookup look-up of a single class file's checksum
+     */
+    private static void updateChecksum(CRC32 checksum, Class<?> type, ToLongFunction<Class<?>> classChecksumLookup) {
+        checksum.update(type.getName().getBytes(StandardCharsets.UTF_8));
+        if (type.getClassLoader() == null) {
+            // JDK classes (and primitive types) are not expected to change in a relevant way
+            return;
+        }
+        long classChecksum = classChecksumLookup.applyAsLong(type);
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            checksum.update((int) (classChecksum >>> shift));
+        }
+    }
+
+    /**
+     * Determine the CRC-32 checksum of the given class' bytecode. For a class packaged in a jar, this is the checksum recorded in the jar's
+     * directory, i.e. the class file itself does not need to be read.
+     *
+     * @param type class to determine the checksum for (must not be a JDK class)
+     * @return checksum of the class file (or zero if it is not accessible)
+     */
+    static long calculateClassChecksum(Class<?> type) {
+        URL classFile = type.getClassLoader().getResource(type.getName().replace('.', '/') + ".class");
+        if (classFile == null) {
+            // without access to the bytecode, only the class name is being considered
+            return 0L;
+        }
+        try {
+            URLConnection connection = classFile.openConnection();
+            if (connection instanceof JarURLConnection) {
+                JarEntry jarEntry = ((JarURLConnection) connection).getJarEntry();
+                if (jarEntry != null && jarEntry.getCrc() != -1) {
+                    return jarEntry.getCrc();
+                }
+            }
+            CRC32 checksum = new CRC32();
+            try (InputStream classFileStream = connection.getInputStream()) {
+                byte[] buffer = new byte[8192];
+                int readCount;
+                while ((readCount = classFileStream.read(buffer)) != -1) {
+                    checksum.update(buffer, 0, readCount);
+                }
+            }
+            return checksum.getValue();
+        } catch (IOException ex) {
+            // without access to the bytecode, only the class name is being considered
+            return 0L;
+        }
+    }
+
+    /**
+     * Builder collecting the introspection results of a {@link JacksonModule}'s caches.
+     */
+    static final class Builder {
+
+        private final long configFingerprint;
+        private final Set<JacksonOption> options;
+        private final SerializationConfig config;
+        private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+        /**
+         * Constructor.
+         *
+         * @param configKey configuration of the mapper the introspection results were collected with
+         * @param options module options the introspection results were collected with
+         * @param config configuration of the mapper to look-up mix-ins with (may be {@code null} if there are none)
+         */
+        Builder(MapperConfigKey configKey, Set<JacksonOption> options, SerializationConfig config) {
+            this.configFingerprint = configKey.calculateFingerprint();
+            this.options = options.isEmpty() ? EnumSet.noneOf(JacksonOption.class) : EnumSet.copyOf(options);
+            this.config = config;
+        }
+
+        /**
+         * Add the metadata of the fields declared by the given class.
+         *
+         * @param type declaring class
+         * @param fieldMetadata metadata by field name
+         * @return this builder instance (for chaining)
+         */
+        Builder withFieldMetadata(Class<?> type, Map<String, MemberMetadata> fieldMetadata) {
+            this.getOrCreateEntry(type, this.config).fieldMetadata = Collections.unmodifiableMap(new HashMap<>(fieldMetadata));
+            return this;
+        }
+
+        /**
+         * Add the serialized {@code JsonValue} results of the given enum type. Values that cannot be represented in a snapshot (i.e. other than
+         * strings, booleans, numbers or {@code null}) lead to the enum type being skipped.
+         *
+         * @param enumType enum type
+         * @param enumValues serialized values (may be {@code null} if they could not be determined)
+         * @return this builder instance (for chaining)
+         */
+        Builder withEnumValues(Class<?> enumType, List<Object> enumValues) {
+            if (enumValues == null || enumValues.stream().allMatch(IntrospectionSnapshot::isSupportedValue)) {
+                // the JsonValue results are being determined without considering mix-ins
+                Entry entry = this.getOrCreateEntry(enumType, null);
+                entry.enumValuesPresent = true;
+                entry.enumValues = enumValues;
+            }
+            return this;
+        }
+
+        /**
+         * Look-up the entry for the given class, or create it if there is none yet.
+         *
+         * @param type class to look-up the entry for
+         * @param mixInConfig configuration of the mapper to look-up mix-ins with (may be {@code null} if they are irrelevant)
+         * @return existing or newly created entry
+         */
+        private Entry getOrCreateEntry(Class<?> type, SerializationConfig mixInConfig) {
+            return this.entries.computeIfAbsent(type.getName(), name -> new Entry(IntrospectionSnapshot.calculateFingerprint(type, mixInConfig)));
+        }
+
+        /**
+         * Create the snapshot containing all added introspection results.
+         *
+         * @return created snapshot
+         */
+        IntrospectionSnapshot build() {
+            return new IntrospectionSnapshot(this.configFingerprint, Collections.unmodifiableSet(this.options), new LinkedHashMap<>(this.entries));
+        }
+    }
+
+    /**
+     * Introspection results for a single class.
+     */
+    private static final class Entry {
+
+        final long fingerprint;
+        Map<String, MemberMetadata> fieldMetadata;
+        boolean enumValuesPresent;
+        List<Object> enumValues;
+        volatile Boolean valid;
+
+        Entry(long fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
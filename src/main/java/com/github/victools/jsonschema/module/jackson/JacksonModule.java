@@ -16,25 +16,52 @@
 
 package com.github.victools.jsonschema.module.jackson;
 
+import com.fasterxml.classmate.AnnotationConfiguration;
+import com.fasterxml.classmate.AnnotationInclusion;
 import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.ResolvedTypeWithMembers;
+import com.fasterxml.classmate.members.ResolvedField;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonClassDescription;
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
 import com.github.victools.jsonschema.generator.FieldScope;
+import com.github.victools.jsonschema.generator.MethodScope;
 import com.github.victools.jsonschema.generator.Module;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
 import com.github.victools.jsonschema.generator.SchemaGeneratorGeneralConfigPart;
+import com.github.victools.jsonschema.generator.TypeContext;
 import com.github.victools.jsonschema.generator.TypeScope;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Module for setting up schema generation aspects based on {@code jackson-annotations}:
@@ -42,14 +69,45 @@ import java.util.Set;
  * <li>Populate the "description" attributes as per {@link JsonPropertyDescription} and {@link JsonClassDescription} annotations.</li>
  * <li>Apply alternative property names defined in {@link JsonProperty} annotations.</li>
  * <li>Exclude properties that are deemed to be ignored per the various annotations for that purpose.</li>
+ * <li>Apply the same to methods (e.g. when getter methods are being included), sharing the per-class introspection results with the fields.</li>
  * <li>Optionally: treat enum types as plain strings as per {@link com.fasterxml.jackson.annotation.JsonValue JsonValue} annotations.</li>
+ * <li>Optionally: represent polymorphic types by their subtypes as per {@link com.fasterxml.jackson.annotation.JsonTypeInfo JsonTypeInfo} and
+ * {@link com.fasterxml.jackson.annotation.JsonSubTypes JsonSubTypes} annotations.</li>
  * </ul>
  */
 public class JacksonModule implements Module {
 
+    /**
+     * Metadata for methods that are not being considered by jackson, i.e. those with arguments.
+     */
+    private static final MemberMetadata NO_METADATA = new MemberMetadata(null, null, false, false);
+
     private final Set<JacksonOption> options;
-    private ObjectMapper objectMapper;
-    private final Map<Class<?>, BeanDescription> beanDescriptions = new HashMap<>();
+    private final ConcurrentMap<MapperConfigKey, IntrospectionCaches> introspectionCaches = new ConcurrentHashMap<>();
+    private int cacheMaximumSize = 0;
+    private boolean weakCacheKeys = false;
+    private boolean softCacheValues = false;
+    private IntrospectionSnapshot snapshot;
+    private SubtypeIndex subtypeIndex;
+    private JacksonModuleListener listener;
+    private GeneratedMetadataRegistry generatedMetadata;
+    private ClassKeyedCache<List<Object>> enumJsonValues;
+    private final Set<ClassKeyedCache<ObjectNode>> enumDefinitions = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private volatile MapperContext defaultContext;
+    /**
+     * Context of the mapper whose configuration applies to the resolver currently being invoked on this thread, as the generator's scopes do not
+     * offer a reference to the respective mapper. It is only being set for the duration of such an invocation.
+     */
+    private final ThreadLocal<MapperContext> invocationContext = new ThreadLocal<>();
+    /*
+     * Loading functions being created once, in order to avoid allocating new (capturing) lambdas on each look-up of an already cached value.
+     */
+    private final BiFunction<Class<?>, IntrospectionCaches, ConcurrentMap<String, MemberMetadata>> fieldMetadataMapFactory =
+            this::createFieldMetadataMap;
+    private final Function<Class<?>, ConcurrentMap<String, MemberMetadata>> methodMetadataMapFactory = type -> new ConcurrentHashMap<>();
+    private final BiFunction<Class<?>, IntrospectionCaches, String> typeDescriptionLoader = this::collectTypeDescription;
+    private final BiFunction<Class<?>, IntrospectionCaches, Boolean> ignoredTypeLoader = this::collectIgnoredType;
+    private final BiFunction<Class<?>, IntrospectionCaches, PolymorphicTypeInfo> polymorphicTypeInfoLoader = this::collectPolymorphicTypeInfo;
 
     /**
      * Constructor, without any additional options.
@@ -58,6 +116,7 @@ public class JacksonModule implements Module {
      */
     public JacksonModule() {
         this.options = Collections.emptySet();
+        this.resetCaches();
     }
 
     /**
@@ -67,21 +126,558 @@ public class JacksonModule implements Module {
      */
     public JacksonModule(JacksonOption... options) {
         this.options = options == null ? Collections.emptySet() : new HashSet<>(Arrays.asList(options));
+        this.resetCaches();
+    }
+
+    /**
+     * Limit the number of classes for which introspection results are being cached. Once that limit is exceeded, the entries that were added
+     * first are being evicted first.
+     *
+     * @param maximumSize maximum number of classes to cache introspection results for (a value of zero or less means: unbounded, i.e. the default)
+     * @return this module instance (for chaining)
+     */
+    public JacksonModule withCacheMaximumSize(int maximumSize) {
+        this.cacheMaximumSize = maximumSize;
+        this.resetCaches();
+        return this;
+    }
+
+    /**
+     * Only hold weak references to the classes for which introspection results are being cached, i.e. allow them to be garbage collected.
+     *
+     * @return this module instance (for chaining)
+     */
+    public JacksonModule withWeakCacheKeys() {
+        this.weakCacheKeys = true;
+        this.resetCaches();
+        return this;
+    }
+
+    /**
+     * Only hold soft references to the cached jackson introspection results (as far as they are being retained at all, i.e. those returned by
+     * {@link #getBeanDescriptionForClass(ResolvedType)}) and {@code JsonValue} based enum values, i.e. allow them to be garbage collected when
+     * memory runs low. As those values reference their respective classes themselves, this should be combined with
+     * {@link #withWeakCacheKeys()} if this module may outlive the classes it is being applied to (e.g. on redeployments within an application
+     * server), in order to not prevent their class loaders from being garbage collected.
+     *
+     * @return this module instance (for chaining)
+     * @see #evict(ClassLoader)
+     */
+    public JacksonModule withSoftCacheValues() {
+        this.softCacheValues = true;
+        this.resetCaches();
+        return this;
+    }
+
+    /**
+     * Consider the given (build-time) introspection results, in order to skip the reflection for every class covered by the snapshot. Classes
+     * that are not covered or whose snapshot entry is stale (i.e. whose bytecode changed since the snapshot was created) are being introspected
+     * as usual. The snapshot is only being applied for mappers whose configuration is equivalent to the one it was created with.
+     *
+     * @param snapshot previously created introspection results, e.g. read via {@link IntrospectionSnapshot#readFrom(java.io.InputStream)}
+     * @return this module instance (for chaining)
+     * @throws IllegalArgumentException if the snapshot was created with other options than the ones enabled on this module
+     * @see #createSnapshot()
+     */
+    public JacksonModule withSnapshot(IntrospectionSnapshot snapshot) {
+        if (snapshot != null && !snapshot.getOptions().equals(this.options)) {
+            throw new IllegalArgumentException("IntrospectionSnapshot was created with other options: " + snapshot.getOptions());
+        }
+        this.snapshot = snapshot;
+        this.resetCaches();
+        return this;
+    }
+
+    /**
+     * Take the subtypes of the polymorphic classes covered by the given (build-time) index from it, instead of looking them up via reflection.
+     * This is only relevant if {@link JacksonOption#INCLUDE_SUBTYPES} is enabled.
+     *
+     * @param subtypeIndex previously created index, e.g. read via {@link SubtypeIndex#readFrom(java.io.InputStream)}
+     * @return this module instance (for chaining)
+     */
+    public JacksonModule withSubtypeIndex(SubtypeIndex subtypeIndex) {
+        this.subtypeIndex = subtypeIndex;
+        this.resetCaches();
+        return this;
+    }
+
+    /**
+     * Consider the {@link GeneratedTypeMetadata} classes generated by the {@code jsonschema-module-jackson-processor} annotation processor, in
+     * order to skip the reflective look-up of jackson annotations for their respective target classes. They are being discovered via the
+     * {@link java.util.ServiceLoader} mechanism, using the current thread's context class loader. Classes without generated metadata are being
+     * handled via reflection as usual.
+     *
+     * @return this module instance (for chaining)
+     * @see #withGeneratedMetadata(ClassLoader)
+     */
+    public JacksonModule withGeneratedMetadata() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return this.withGeneratedMetadata(classLoader == null ? JacksonModule.class.getClassLoader() : classLoader);
+    }
+
+    /**
+     * Consider the {@link GeneratedTypeMetadata} classes generated by the {@code jsonschema-module-jackson-processor} annotation processor, in
+     * order to skip the reflective look-up of jackson annotations for their respective target classes. Classes without generated metadata are
+     * being handled via reflection as usual.
+     * <br>
+     * The compile-time determined included properties are only being considered if the {@code ObjectMapper} applies jackson's default property
+     * detection, i.e. without non-default visibility or naming settings, mix-ins or config overrides. Otherwise, jackson's introspection is being
+     * performed for determining the ignored fields, while the generated metadata is still being used for the other aspects.
+     *
+     * @param classLoader class loader to discover the generated metadata classes with (via the {@link java.util.ServiceLoader} mechanism)
+     * @return this module instance (for chaining)
+     */
+    public JacksonModule withGeneratedMetadata(ClassLoader classLoader) {
+        this.generatedMetadata = GeneratedMetadataRegistry.load(classLoader);
+        this.resetCaches();
+        return this;
+    }
+
+    /**
+     * Register a listener to be notified about the module's internal processing, e.g. a {@link JacksonModuleMetrics} instance. Without a
+     * listener, no such notifications (and measurements) are being performed.
+     *
+     * @param listener listener to notify
+     * @return this module instance (for chaining)
+     */
+    public JacksonModule withListener(JacksonModuleListener listener) {
+        this.listener = listener;
+        this.resetCaches();
+        return this;
+    }
+
+    /**
+     * Getter for the enabled features.
+     *
+     * @return enabled options
+     */
+    Set<JacksonOption> getOptions() {
+        return this.options;
+    }
+
+    /**
+     * Replace the internal caches with empty ones, considering the current cache settings.
+     */
+    private void resetCaches() {
+        this.introspectionCaches.clear();
+        this.enumJsonValues = new ClassKeyedCache<>(this.cacheMaximumSize, this.weakCacheKeys, this.softCacheValues);
+        this.enumDefinitions.clear();
+    }
+
+    /**
+     * Look-up the group of caches to use for the given class under the given mapper's configuration. Mappers with an equivalent configuration
+     * share the same caches, unless there is a config override for the given class (which cannot be compared between mappers) or the properties
+     * are being taken from the mapper's own serializers (see {@link JacksonOption#USE_SERIALIZER_PROPERTIES}).
+     *
+     * @param context mapper whose configuration applies
+     * @param type class to look-up cached introspection results for
+     * @return group of caches to use
+     */
+    private IntrospectionCaches getIntrospectionCaches(MapperContext context, Class<?> type) {
+        MapperConfigKey configKey = context.objectMapper.getSerializationConfig().findConfigOverride(type) == null
+                ? context.sharedConfigKey
+                : context.instanceConfigKey;
+        IntrospectionCaches caches = this.introspectionCaches.get(configKey);
+        if (caches == null) {
+            caches = this.introspectionCaches.computeIfAbsent(configKey,
+                    key -> new IntrospectionCaches(context.objectMapper, this.cacheMaximumSize, this.weakCacheKeys, this.softCacheValues,
+                            this.listener, key == context.sharedConfigKey ? this.getApplicableSnapshot(context) : null));
+        }
+        return caches;
+    }
+
+    /**
+     * Look-up the snapshot to apply for the given mapper, i.e. if its configuration is equivalent to the one the snapshot was created with.
+     *
+     * @param context mapper whose configuration applies
+     * @return applicable snapshot (or {@code null} if there is none)
+     */
+    private IntrospectionSnapshot getApplicableSnapshot(MapperContext context) {
+        return this.snapshot != null && this.snapshot.isApplicableTo(context.sharedConfigKey) ? this.snapshot : null;
+    }
+
+    /**
+     * Look-up the context of the mapper whose configuration applies to the resolver currently being invoked on this thread, falling back on the
+     * mapper this module has been applied with most recently (e.g. when a resolver method is being called directly).
+     *
+     * @return context of the mapper to use
+     * @throws IllegalStateException if this module has not yet been applied to a {@link SchemaGeneratorConfigBuilder}
+     */
+    private MapperContext getCurrentContext() {
+        MapperContext context = this.invocationContext.get();
+        return context == null ? this.getDefaultContext() : context;
+    }
+
+    /**
+     * Invoke the given (overridable) resolver method, while the given mapper's configuration applies to it.
+     *
+     * @param <S> type of scope to resolve
+     * @param <R> type of resolved value
+     * @param context mapper whose configuration applies
+     * @param scope scope to resolve
+     * @param resolver resolver method to invoke on this module
+     * @return resolved value
+     */
+    private <S, R> R resolveWithin(MapperContext context, S scope, BiFunction<JacksonModule, S, R> resolver) {
+        MapperContext previousContext = this.invocationContext.get();
+        this.invocationContext.set(context);
+        try {
+            return resolver.apply(this, scope);
+        } finally {
+            // restoring the previous value (instead of removing it) avoids re-creating the thread's map entry on each invocation
+            this.invocationContext.set(previousContext);
+        }
+    }
+
+    /**
+     * Look-up the context of the mapper this module has been applied with most recently.
+     *
+     * @return context of the most recently applied mapper
+     * @throws IllegalStateException if this module has not yet been applied to a {@link SchemaGeneratorConfigBuilder}
+     */
+    private MapperContext getDefaultContext() {
+        MapperContext context = this.defaultContext;
+        if (context == null) {
+            throw new IllegalStateException("JacksonModule must be applied to a SchemaGeneratorConfigBuilder first");
+        }
+        return context;
+    }
+
+    /**
+     * Create a snapshot of the statistics collected for the cache of per-class introspection results, that is being consulted once per field or
+     * method when its metadata is being determined for the first time (i.e. not for look-ups answered by the per-member metadata caches). If
+     * this module is being shared between generators with differently configured {@code ObjectMapper}s, the statistics of all their caches are
+     * being summed up.
+     *
+     * @return current statistics for the introspection cache
+     */
+    public CacheStatistics getCacheStatistics() {
+        long hitCount = 0;
+        long missCount = 0;
+        long evictionCount = 0;
+        int size = 0;
+        for (IntrospectionCaches caches : this.introspectionCaches.values()) {
+            CacheStatistics statistics = caches.getPropertyIndexes().getStatistics();
+            hitCount += statistics.getHitCount();
+            missCount += statistics.getMissCount();
+            evictionCount += statistics.getEvictionCount();
+            size += statistics.getSize();
+        }
+        return new CacheStatistics(hitCount, missCount, evictionCount, size);
+    }
+
+    /**
+     * Remove all entries from the internal caches (including those of the custom enum definition providers created by this module), e.g. when
+     * the classes they have been collected for are no longer being used. The cache settings remain unchanged.
+     * <br>
+     * The caches of the {@code ObjectMapper}s this module has been applied with (e.g. that of their {@code TypeFactory}) are not being cleared,
+     * as these mappers are not owned by this module.
+     *
+     * @see #evict(ClassLoader)
+     */
+    public void clearCaches() {
+        this.introspectionCaches.clear();
+        this.enumJsonValues.clear();
+        synchronized (this.enumDefinitions) {
+            this.enumDefinitions.forEach(ClassKeyedCache::clear);
+        }
+    }
+
+    /**
+     * Remove all references to classes loaded by the given class loader (or any of its descendants) from the internal caches, while retaining the
+     * entries for all other classes. This is meant to be called when an application being deployed with the given class loader is being
+     * undeployed, while this module instance is being kept, in order to not prevent the class loader from being garbage collected.
+     * <br>
+     * The caches associated with an {@code ObjectMapper} stemming from the given class loader are being removed entirely, as is the mapper itself
+     * if it was the most recently applied one. The caches of the remaining mappers themselves are not being touched, as these mappers are not
+     * owned by this module: since jackson may hold the introspected classes in a mapper's {@code TypeFactory} as well, it is up to the caller
+     * to clear it if necessary (via {@code objectMapper.getTypeFactory().clearCache()}).
+     *
+     * @param classLoader class loader whose classes should no longer be referenced
+     * @see #clearCaches()
+     */
+    public void evict(ClassLoader classLoader) {
+        this.introspectionCaches.entrySet().removeIf(entry -> entry.getKey().isAssociatedWith(classLoader)
+                || ClassKeyedCache.isLoadedBy(entry.getValue().getObjectMapper().getClass(), classLoader));
+        this.introspectionCaches.values().forEach(caches -> caches.evict(classLoader));
+        this.enumJsonValues.evict(classLoader);
+        synchronized (this.enumDefinitions) {
+            this.enumDefinitions.forEach(cache -> cache.evict(classLoader));
+        }
+        if (this.generatedMetadata != null) {
+            this.generatedMetadata.evict(classLoader);
+        }
+        MapperContext context = this.defaultContext;
+        if (context != null && (context.sharedConfigKey.isAssociatedWith(classLoader)
+                || ClassKeyedCache.isLoadedBy(context.objectMapper.getClass(), classLoader))) {
+            this.defaultContext = null;
+        }
+    }
+
+    /**
+     * Collect the current contents of the internal caches into a snapshot, that can be written to a file and loaded again via
+     * {@link #withSnapshot(IntrospectionSnapshot)}. In order to cover all relevant classes, the caches should be populated beforehand, e.g. via
+     * {@link #warmUp(String)}. Only the introspection results for the configuration of the most recently applied {@code ObjectMapper} are
+     * being included.
+     *
+     * @return snapshot of the cached introspection results
+     * @throws IllegalStateException if this module has not been applied to a {@code SchemaGeneratorConfigBuilder} yet
+     */
+    public IntrospectionSnapshot createSnapshot() {
+        MapperContext context = this.getDefaultContext();
+        IntrospectionSnapshot.Builder snapshotBuilder = new IntrospectionSnapshot.Builder(context.sharedConfigKey, this.options,
+                context.objectMapper.getSerializationConfig());
+        IntrospectionCaches caches = this.introspectionCaches.get(context.sharedConfigKey);
+        if (caches != null) {
+            caches.getFieldMetadata().forEach(snapshotBuilder::withFieldMetadata);
+        }
+        this.enumJsonValues.forEach(snapshotBuilder::withEnumValues);
+        return snapshotBuilder.build();
+    }
+
+    /**
+     * Populate the internal caches for the given types and all types reachable through their (non-ignored) fields, in parallel on the common
+     * {@link ForkJoinPool}. This avoids the introspection costs being incurred by the first schema generation(s).
+     *
+     * @param rootTypes types to start from
+     * @return summary of the warm-up
+     * @throws IllegalStateException if this module has not yet been applied to a {@link SchemaGeneratorConfigBuilder}
+     * @see #warmUp(Collection, Executor)
+     */
+    public WarmUpResult warmUp(Collection<? extends Class<?>> rootTypes) {
+        return this.warmUp(rootTypes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Populate the internal caches for the given types and all types reachable through their (non-ignored) fields, in parallel on the given
+     * executor. This avoids the introspection costs being incurred by the first schema generation(s).
+     *
+     * @param rootTypes types to start from
+     * @param executor executor to perform the introspection on
+     * @return summary of the warm-up
+     * @throws IllegalStateException if this module has not yet been applied to a {@link SchemaGeneratorConfigBuilder}
+     */
+    public WarmUpResult warmUp(Collection<? extends Class<?>> rootTypes, Executor executor) {
+        long startTime = System.nanoTime();
+        Set<Class<?>> visitedTypes = this.warmUpReachableTypes(rootTypes, executor);
+        return new WarmUpResult(visitedTypes.size(), Duration.ofNanos(System.nanoTime() - startTime));
+    }
+
+    /**
+     * Populate the internal caches for all classes in the given package (and its sub-packages) and all types reachable through their
+     * (non-ignored) fields, in parallel on the common {@link ForkJoinPool}.
+     *
+     * @param packageName name of the package to scan for classes, e.g. {@code "com.example.model"}
+     * @return summary of the warm-up
+     * @throws IllegalStateException if this module has not yet been applied to a {@link SchemaGeneratorConfigBuilder}
+     * @see #warmUp(String, Executor)
+     */
+    public WarmUpResult warmUp(String packageName) {
+        return this.warmUp(packageName, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Populate the internal caches for all classes in the given package (and its sub-packages) and all types reachable through their
+     * (non-ignored) fields, in parallel on the given executor. The classes are being looked-up via the current thread's context class loader.
+     *
+     * @param packageName name of the package to scan for classes, e.g. {@code "com.example.model"}
+     * @param executor executor to perform the introspection on
+     * @return summary of the warm-up
+     * @throws IllegalStateException if this module has not yet been applied to a {@link SchemaGeneratorConfigBuilder}
+     */
+    public WarmUpResult warmUp(String packageName, Executor executor) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = JacksonModule.class.getClassLoader();
+        }
+        return this.warmUp(ClassPathScanner.findClasses(packageName, classLoader), executor);
+    }
+
+    /**
+     * Populate the internal caches for the given types and all types reachable through their (non-ignored) fields, in parallel on the given
+     * executor.
+     *
+     * @param rootTypes types to start from (may be generic, e.g. a parameterized collection)
+     * @param executor executor to perform the introspection on
+     * @return all visited types (excluding primitive and JDK types)
+     * @throws IllegalStateException if this module has not yet been applied to a {@link SchemaGeneratorConfigBuilder}
+     */
+    Set<Class<?>> warmUpReachableTypes(Collection<? extends Type> rootTypes, Executor executor) {
+        MapperContext context = this.getDefaultContext();
+        TypeContext typeContext = JacksonModule.createTypeContext();
+        Set<Class<?>> visitedTypes = ConcurrentHashMap.newKeySet();
+        this.warmUpTypes(rootTypes.stream().map(typeContext::resolve), context, typeContext, visitedTypes, executor).join();
+        return visitedTypes;
+    }
+
+    /**
+     * Create a type context equivalent to the one a {@link com.github.victools.jsonschema.generator.SchemaGenerator SchemaGenerator} uses by
+     * default, i.e. also considering inherited annotations.
+     *
+     * @return created type context
+     */
+    static TypeContext createTypeContext() {
+        return new TypeContext(new AnnotationConfiguration.StdConfiguration(AnnotationInclusion.INCLUDE_AND_INHERIT_IF_INHERITED));
+    }
+
+    /**
+     * Asynchronously populate the internal caches for each of the given types that has not been visited yet and continue with their reachable
+     * types.
+     *
+     * @param types types to populate the caches for
+     * @param context mapper whose configuration applies
+     * @param typeContext type context to resolve the types' members with
+     * @param visitedTypes already visited types (to be extended by the newly visited ones)
+     * @param executor executor to perform the introspection on
+     * @return future being completed once all given (and reachable) types have been handled
+     */
+    private CompletableFuture<Void> warmUpTypes(Stream<ResolvedType> types, MapperContext context, TypeContext typeContext,
+            Set<Class<?>> visitedTypes, Executor executor) {
+        List<ResolvedType> candidates = new ArrayList<>();
+        types.forEach(type -> JacksonModule.collectWarmUpCandidates(type, candidates));
+        CompletableFuture<?>[] futures = candidates.stream()
+                .filter(type -> visitedTypes.add(type.getErasedType()))
+                .map(type -> CompletableFuture.supplyAsync(() -> this.warmUpCaches(type, context, typeContext), executor)
+                        .thenCompose(reachableTypes -> this.warmUpTypes(reachableTypes.stream(), context, typeContext, visitedTypes, executor)))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Collect the given type (unless it is a primitive or JDK type) as well as its array component and type parameters, which could be subject to
+     * jackson annotations.
+     *
+     * @param type type to check
+     * @param candidates collection to add the relevant types to
+     */
+    private static void collectWarmUpCandidates(ResolvedType type, Collection<ResolvedType> candidates) {
+        if (type.isArray()) {
+            JacksonModule.collectWarmUpCandidates(type.getArrayElementType(), candidates);
+            return;
+        }
+        type.getTypeParameters().forEach(typeParameter -> JacksonModule.collectWarmUpCandidates(typeParameter, candidates));
+        Class<?> erasedType = type.getErasedType();
+        if (!erasedType.isPrimitive() && !erasedType.getName().startsWith("java.")) {
+            candidates.add(type);
+        }
+    }
+
+    /**
+     * Populate the internal caches for the given type, i.e. its fields' metadata or (for enums) the serialized {@code JsonValue} results.
+     *
+     * @param type type to populate the caches for
+     * @param context mapper whose configuration applies
+     * @param typeContext type context to resolve the type's members with
+     * @return types of the given type's non-ignored fields
+     */
+    private List<ResolvedType> warmUpCaches(ResolvedType type, MapperContext context, TypeContext typeContext) {
+        if (type.isInstanceOf(Enum.class)) {
+            if (this.options.contains(JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE)) {
+                this.createEnumDefinitionProvider(context).getSerializedJsonValues(type, typeContext);
+            }
+            return Collections.emptyList();
+        }
+        ResolvedTypeWithMembers typeWithMembers = typeContext.resolveWithMembers(type);
+        List<ResolvedType> reachableTypes = new ArrayList<>();
+        if (this.options.contains(JacksonOption.INCLUDE_SUBTYPES)) {
+            PolymorphicTypeInfo typeInfo = this.getPolymorphicTypeInfo(type.getErasedType(), context);
+            if (typeInfo != null) {
+                typeInfo.getSubtypes().forEach(subtype -> reachableTypes.add(typeContext.resolveSubtype(type, subtype)));
+            }
+        }
+        for (ResolvedField member : typeWithMembers.getMemberFields()) {
+            FieldScope field = typeContext.createFieldScope(member, typeWithMembers);
+            if (!this.isIgnoredField(field, context)) {
+                reachableTypes.add(field.getType());
+            }
+        }
+        return reachableTypes;
     }
 
     @Override
     public void applyToConfigBuilder(SchemaGeneratorConfigBuilder builder) {
-        this.objectMapper = builder.getObjectMapper();
+        // the resolvers are bound to this builder's mapper, i.e. this module may be applied to multiple builders with different mappers
+        MapperContext context = new MapperContext(builder.getObjectMapper(), this.options);
+        this.defaultContext = context;
         SchemaGeneratorConfigPart<FieldScope> fieldConfigPart = builder.forFields();
-        fieldConfigPart.withDescriptionResolver(this::resolveDescription)
-                .withPropertyNameOverrideResolver(this::getPropertyNameOverride)
-                .withIgnoreCheck(this::shouldIgnoreField);
+        fieldConfigPart.withDescriptionResolver(field -> this.resolveWithin(context, field, JacksonModule::resolveDescription))
+                .withPropertyNameOverrideResolver(field -> this.resolveWithin(context, field, JacksonModule::getPropertyNameOverride))
+                .withIgnoreCheck(field -> this.resolveWithin(context, field, JacksonModule::shouldIgnoreField));
+        SchemaGeneratorConfigPart<MethodScope> methodConfigPart = builder.forMethods();
+        methodConfigPart.withDescriptionResolver(method -> this.resolveWithin(context, method, JacksonModule::resolveDescription))
+                .withPropertyNameOverrideResolver(method -> this.resolveWithin(context, method, JacksonModule::getPropertyNameOverride))
+                .withIgnoreCheck(method -> this.resolveWithin(context, method, JacksonModule::shouldIgnoreMethod));
         SchemaGeneratorGeneralConfigPart generalConfigPart = builder.forTypesInGeneral();
-        generalConfigPart.withDescriptionResolver(this::resolveDescriptionForType);
+        generalConfigPart.withDescriptionResolver(scope -> this.resolveWithin(context, scope, JacksonModule::resolveDescriptionForType));
 
         if (this.options.contains(JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE)) {
-            generalConfigPart.withCustomDefinitionProvider(new CustomEnumJsonValueDefinitionProvider());
+            generalConfigPart.withCustomDefinitionProvider(this.createEnumDefinitionProvider(context));
         }
+        if (this.options.contains(JacksonOption.FLATTENED_ENUMS_FROM_SERIALIZER)) {
+            generalConfigPart.withCustomDefinitionProvider(this.createEnumSerializerDefinitionProvider());
+        }
+        if (this.options.contains(JacksonOption.INCLUDE_SUBTYPES)) {
+            generalConfigPart.withCustomDefinitionProvider(new PolymorphicTypeDefinitionProvider(type -> this.getPolymorphicTypeInfo(type, context)));
+        }
+    }
+
+    /**
+     * Look-up how the given class is being serialized by the given mapper in terms of polymorphism. It is being determined only once per class.
+     *
+     * @param rawType class to look-up the polymorphism related information for
+     * @param context mapper whose configuration applies
+     * @return polymorphism related information (or {@code null} if the given class is not being serialized with a type id)
+     */
+    private PolymorphicTypeInfo getPolymorphicTypeInfo(Class<?> rawType, MapperContext context) {
+        IntrospectionCaches caches = this.getIntrospectionCaches(context, rawType);
+        return caches.getPolymorphicTypes().get(rawType, caches, this.polymorphicTypeInfoLoader);
+    }
+
+    /**
+     * Determine how the given class is being serialized in terms of polymorphism, considering the subtype index (if there is one).
+     *
+     * @param rawType class to determine the polymorphism related information for
+     * @param caches group of caches (and associated mapper) to use
+     * @return polymorphism related information (or {@code null} if the given class is not being serialized with a type id)
+     */
+    private PolymorphicTypeInfo collectPolymorphicTypeInfo(Class<?> rawType, IntrospectionCaches caches) {
+        return PolymorphicTypeInfo.of(rawType, caches.getObjectMapper(), this.subtypeIndex);
+    }
+
+    /**
+     * Create a provider for custom enum definitions, sharing this module's cache of serialized {@code JsonValue} results. Its own cache of
+     * definitions is being registered in order to be reachable via {@link #clearCaches()} and {@link #evict(ClassLoader)}.
+     *
+     * @param context mapper whose configuration applies (determining whether the snapshot's enum values are being considered)
+     * @return created custom definition provider
+     */
+    private CustomEnumJsonValueDefinitionProvider createEnumDefinitionProvider(MapperContext context) {
+        ClassKeyedCache<ObjectNode> definitions = new ClassKeyedCache<>(this.cacheMaximumSize, this.weakCacheKeys);
+        this.enumDefinitions.add(definitions);
+        return new CustomEnumJsonValueDefinitionProvider(this.enumJsonValues, definitions, this.getApplicableSnapshot(context),
+                this.generatedMetadata, this.listener);
+    }
+
+    /**
+     * Create a provider for custom enum definitions based on the serialized names of the builder's mapper. Its own cache of definitions is being
+     * registered in order to be reachable via {@link #clearCaches()} and {@link #evict(ClassLoader)}.
+     *
+     * @return created custom definition provider
+     */
+    private CustomEnumSerializerDefinitionProvider createEnumSerializerDefinitionProvider() {
+        ClassKeyedCache<ObjectNode> definitions = new ClassKeyedCache<>(this.cacheMaximumSize, this.weakCacheKeys);
+        this.enumDefinitions.add(definitions);
+        return new CustomEnumSerializerDefinitionProvider(definitions, this.listener);
+    }
+
+    /**
+     * Look-up the compile-time generated metadata for the given class.
+     *
+     * @param type class to look-up the generated metadata for
+     * @return generated metadata (or {@code null} if there is none or {@link #withGeneratedMetadata()} was not called)
+     */
+    private GeneratedMetadataRegistry.Entry getGeneratedMetadata(Class<?> type) {
+        return this.generatedMetadata == null ? null : this.generatedMetadata.get(type);
     }
 
     /**
@@ -96,29 +692,64 @@ public class JacksonModule implements Module {
      */
     protected String resolveDescription(FieldScope field) {
         // look for property specific description
-        JsonPropertyDescription propertyAnnotation = field.getAnnotationConsideringFieldAndGetter(JsonPropertyDescription.class);
-        if (propertyAnnotation != null) {
-            return propertyAnnotation.value();
-        }
-        return null;
+        return this.getFieldMetadata(field, this.getCurrentContext()).getDescription();
+    }
+
+    /**
+     * Determine the given method's associated "description" in the following order of priority.
+     * <ol>
+     * <li>if it is a getter: the description of its field (see {@link #resolveDescription(FieldScope)})</li>
+     * <li>{@link JsonPropertyDescription} annotation on the method itself</li>
+     * </ol>
+     *
+     * @param method method for which to collect an available description
+     * @return successfully looked-up description (or {@code null})
+     */
+    protected String resolveDescription(MethodScope method) {
+        return this.getMethodMetadata(method, this.getCurrentContext()).getDescription();
     }
 
     /**
      * Determine the given type's associated "description" via the following annotation.
      * <ul>
-     * <li>{@link JsonClassDescription} annotation on the targeted type's class</li>
+     * <li>{@link JsonClassDescription} annotation on the targeted type's class (or a mix-in or super type thereof)</li>
      * </ul>
      *
      * @param scope scope for which to collect an available description
      * @return successfully looked-up description (or {@code null})
      */
     protected String resolveDescriptionForType(TypeScope scope) {
-        Class<?> rawType = scope.getType().getErasedType();
-        JsonClassDescription classAnnotation = rawType.getAnnotation(JsonClassDescription.class);
-        if (classAnnotation != null) {
-            return classAnnotation.value();
+        return this.getTypeDescription(scope.getType().getErasedType(), this.getCurrentContext());
+    }
+
+    /**
+     * Look-up the description of the given class. It is being determined only once per class (even if there is none).
+     *
+     * @param rawType class to look-up the description for
+     * @param context mapper whose configuration applies
+     * @return class description (or {@code null})
+     */
+    private String getTypeDescription(Class<?> rawType, MapperContext context) {
+        IntrospectionCaches caches = this.getIntrospectionCaches(context, rawType);
+        return caches.getTypeDescriptions().get(rawType, caches, this.typeDescriptionLoader);
+    }
+
+    /**
+     * Determine the description of the given class via the mapper's annotation introspector, thereby considering mix-ins and super types (unless
+     * the description is available from the class' generated metadata and there is no mix-in for it).
+     *
+     * @param rawType class to determine the description for
+     * @param caches group of caches (and associated mapper) to use
+     * @return class description (or {@code null})
+     */
+    private String collectTypeDescription(Class<?> rawType, IntrospectionCaches caches) {
+        SerializationConfig config = caches.getObjectMapper().getSerializationConfig();
+        GeneratedMetadataRegistry.Entry generatedEntry = this.getGeneratedMetadata(rawType);
+        if (generatedEntry != null && generatedEntry.getClassDescription() != null && config.findMixInClassFor(rawType) == null) {
+            return generatedEntry.getClassDescription();
         }
-        return null;
+        AnnotatedClass classInfo = config.introspectClassAnnotations(rawType).getClassInfo();
+        return config.getAnnotationIntrospector().findClassDescription(classInfo);
     }
 
     /**
@@ -132,54 +763,440 @@ public class JacksonModule implements Module {
      * @return alternative property name (or {@code null})
      */
     protected String getPropertyNameOverride(FieldScope field) {
-        JsonProperty annotation = field.getAnnotationConsideringFieldAndGetter(JsonProperty.class);
-        if (annotation != null) {
-            String nameOverride = annotation.value();
-            // check for invalid overrides
-            if (nameOverride != null && !nameOverride.isEmpty() && !nameOverride.equals(field.getDeclaredName())) {
-                return nameOverride;
-            }
-        }
-        return null;
+        return this.getFieldMetadata(field, this.getCurrentContext()).getNameOverride();
+    }
+
+    /**
+     * Look-up an alternative name as per the following order of priority.
+     * <ol>
+     * <li>if it is a getter: the alternative name of its field (see {@link #getPropertyNameOverride(FieldScope)})</li>
+     * <li>{@link JsonProperty} annotation on the method itself</li>
+     * </ol>
+     *
+     * @param method method to look-up alternative property name for
+     * @return alternative property name (or {@code null})
+     */
+    protected String getPropertyNameOverride(MethodScope method) {
+        return this.getMethodMetadata(method, this.getCurrentContext()).getNameOverride();
     }
 
     /**
      * Create a jackson {@link BeanDescription} for the given type's erased class in order to avoid having to re-create the complexity therein.
      * <br>
      * This is assumed to have a negative performance impact (as one type is being introspected twice), that should be fine for schema generation.
+     * The module itself only retains a distilled form of jackson's introspection results, i.e. the {@link BeanDescription} is only being cached
+     * once this method was called for a class.
+     * <br>
+     * This may be called concurrently, e.g. via the {@link AsyncSchemaGenerator}: the same class may then be introspected by multiple threads at
+     * once, but all of them receive the same (first cached) result.
      *
      * @param targetType type for whose erased class the {@link BeanDescription} should be created
      * @return introspection result of given type's erased class
      */
     protected final BeanDescription getBeanDescriptionForClass(ResolvedType targetType) {
-        // use a map to cater for some caching (and thereby performance improvement)
-        return this.beanDescriptions.computeIfAbsent(targetType.getErasedType(),
-                type -> this.objectMapper.getSerializationConfig().introspect(this.objectMapper.getTypeFactory().constructType(type)));
+        return this.getBeanDescription(targetType, this.getIntrospectionCaches(this.getCurrentContext(), targetType.getErasedType()));
+    }
+
+    /**
+     * Look-up the jackson {@link BeanDescription} for the given type's erased class in the given caches, introspecting it if necessary.
+     *
+     * @param targetType type for whose erased class the {@link BeanDescription} should be returned
+     * @param caches group of caches (and associated mapper) to use
+     * @return introspection result of given type's erased class
+     */
+    private BeanDescription getBeanDescription(ResolvedType targetType, IntrospectionCaches caches) {
+        // use a thread-safe cache to cater for some caching (and thereby performance improvement)
+        ObjectMapper objectMapper = caches.getObjectMapper();
+        return caches.getBeanDescriptions().get(targetType.getErasedType(), objectMapper, JacksonModule::introspect);
+    }
+
+    /**
+     * Let jackson introspect the given class, without caching the result.
+     *
+     * @param rawType class to introspect
+     * @param objectMapper mapper whose configuration applies
+     * @return introspection result of given class
+     */
+    private static BeanDescription introspect(Class<?> rawType, ObjectMapper objectMapper) {
+        return objectMapper.getSerializationConfig().introspect(objectMapper.getTypeFactory().constructType(rawType));
+    }
+
+    /**
+     * Look-up the index of included/ignored properties for the given type's erased class. It is being created only once per class.
+     *
+     * @param targetType type for whose erased class the property index should be returned
+     * @param caches group of caches (and associated mapper) to use
+     * @return property index for the given type's erased class
+     */
+    private PropertyIndex getPropertyIndex(ResolvedType targetType, IntrospectionCaches caches) {
+        return caches.getPropertyIndexes().get(targetType.getErasedType(), type -> this.createPropertyIndex(targetType, caches));
+    }
+
+    /**
+     * Introspect the given type's erased class and index its included/ignored properties, notifying the listener (if there is one).
+     *
+     * @param targetType type for whose erased class the property index should be created
+     * @param caches group of caches (and associated mapper) to use
+     * @return created property index
+     */
+    private PropertyIndex createPropertyIndex(ResolvedType targetType, IntrospectionCaches caches) {
+        if (this.listener == null) {
+            return this.introspectProperties(targetType, caches);
+        }
+        Class<?> type = targetType.getErasedType();
+        this.listener.onIntrospectionStart(type);
+        long startTime = System.nanoTime();
+        try {
+            return this.introspectProperties(targetType, caches);
+        } finally {
+            this.listener.onIntrospectionEnd(type, System.nanoTime() - startTime);
+        }
+    }
+
+    /**
+     * Index the included/ignored properties of the given type's erased class, skipping jackson's introspection if there is an applicable
+     * compile-time result or if {@link JacksonOption#SKIP_INTROSPECTION_FOR_PLAIN_TYPES} is enabled and it cannot change the outcome. If
+     * {@link JacksonOption#USE_SERIALIZER_PROPERTIES} is enabled, the mapper's bean serializer is being consulted instead of introspecting the
+     * class (again).
+     *
+     * @param targetType type for whose erased class the property index should be created
+     * @param caches group of caches (and associated mapper) to use
+     * @return created property index
+     */
+    private PropertyIndex introspectProperties(ResolvedType targetType, IntrospectionCaches caches) {
+        SerializationConfig config = caches.getObjectMapper().getSerializationConfig();
+        GeneratedMetadataRegistry.Entry generatedEntry = this.getGeneratedMetadata(targetType.getErasedType());
+        if (generatedEntry != null && generatedEntry.getPropertyIndex() != null
+                && DefaultPropertyDetector.isUnaffectedByConfiguration(targetType.getErasedType(), config)) {
+            return generatedEntry.getPropertyIndex();
+        }
+        if (this.options.contains(JacksonOption.SKIP_INTROSPECTION_FOR_PLAIN_TYPES)
+                && DefaultPropertyDetector.isApplicable(targetType.getErasedType(), config)) {
+            return DefaultPropertyDetector.createPropertyIndex(targetType.getErasedType());
+        }
+        if (this.options.contains(JacksonOption.USE_SERIALIZER_PROPERTIES)) {
+            BeanSerializerBase beanSerializer = JacksonModule.findBeanSerializer(targetType.getErasedType(), caches.getObjectMapper());
+            if (beanSerializer != null) {
+                return PropertyIndex.of(beanSerializer, config);
+            }
+        }
+        // only the distilled index is being retained, the introspection result itself can be garbage collected right away
+        return PropertyIndex.of(JacksonModule.introspect(targetType.getErasedType(), caches.getObjectMapper()), config);
+    }
+
+    /**
+     * Look-up the bean serializer the given mapper uses for the given class. If the mapper has not created it yet, it is being created (and cached
+     * by the mapper) now - i.e. the class is still being introspected only once, while the result is being shared with the actual serialization.
+     *
+     * @param rawType class to look-up the serializer for
+     * @param objectMapper mapper whose serializer should be looked-up
+     * @return bean serializer (or {@code null} if the class is being serialized in another way, e.g. by a custom serializer)
+     */
+    private static BeanSerializerBase findBeanSerializer(Class<?> rawType, ObjectMapper objectMapper) {
+        if (rawType.isInterface() || rawType.isPrimitive() || rawType.isArray()) {
+            return null;
+        }
+        try {
+            JsonSerializer<Object> serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(rawType);
+            return serializer instanceof BeanSerializerBase ? (BeanSerializerBase) serializer : null;
+        } catch (JsonMappingException ex) {
+            // fall-back on the regular introspection
+            return null;
+        }
     }
 
     /**
      * Determine whether a given field should be ignored, according to various jackson annotations for that purpose,
      * <br>
      * e.g. {@code JsonBackReference}, {@code JsonIgnore}, {@code JsonIgnoreType}, {@code JsonIgnoreProperties}
+     * <br>
+     * As the generator checks this before descending into a field's type, an ignored type's whole subtree is never being traversed.
      *
      * @param field field to check
      * @return whether field should be excluded
      */
     protected boolean shouldIgnoreField(FieldScope field) {
-        if (field.getAnnotationConsideringFieldAndGetter(JsonBackReference.class) != null) {
+        return this.shouldIgnoreField(field, this.getCurrentContext());
+    }
+
+    /**
+     * Determine whether a given field should be ignored, as per the given mapper's configuration.
+     *
+     * @param field field to check
+     * @param context mapper whose configuration applies
+     * @return whether field should be excluded
+     */
+    private boolean shouldIgnoreField(FieldScope field, MapperContext context) {
+        boolean ignored = this.isIgnoredField(field, context);
+        if (this.listener != null) {
+            this.listener.onIgnoreDecision(field, ignored);
+        }
+        return ignored;
+    }
+
+    /**
+     * Determine whether a given field should be ignored, based on its cached metadata and its (resolved) type. The latter is being checked
+     * separately, because the same declared field may have different types, e.g. {@code Box<String>.value} and {@code Box<Secret>.value}.
+     *
+     * @param field field to check
+     * @param context mapper whose configuration applies
+     * @return whether field should be excluded
+     */
+    private boolean isIgnoredField(FieldScope field, MapperContext context) {
+        IntrospectionCaches caches = this.getIntrospectionCaches(context, field.getDeclaringType().getErasedType());
+        return this.getFieldMetadata(field, caches).isIgnored() || this.isIgnoredType(field.getType().getErasedType(), caches);
+    }
+
+    /**
+     * Determine whether a given method should be ignored, in the same way as its field (if it is a getter) or as per the declaring class'
+     * property index (if it is an argument-free method representing a property of its own). Other methods are only excluded if they are marked
+     * as back reference or their return type is being ignored.
+     *
+     * @param method method to check
+     * @return whether method should be excluded
+     */
+    protected boolean shouldIgnoreMethod(MethodScope method) {
+        MapperContext context = this.getCurrentContext();
+        if (this.getMethodMetadata(method, context).isIgnored()) {
             return true;
         }
+        // the cached metadata is shared between all parameterizations of the declaring class, i.e. the (resolved) return type is checked here
+        return method.getArgumentCount() == 0 && !method.isVoid() && this.isIgnoredType(method.getType().getErasedType(),
+                this.getIntrospectionCaches(context, method.getDeclaringType().getErasedType()));
+    }
+
+    /**
+     * Look-up the jackson related metadata for the given method. It is being collected only once per argument-free method (i.e. declaring class
+     * and method name) and then shared between the various resolvers. A getter is sharing the metadata of its field. As it is being shared
+     * between all parameterizations of the declaring class, it does not consider whether the method's (resolved) return type is being ignored.
+     *
+     * @param method method to look-up the metadata for
+     * @param context mapper whose configuration applies
+     * @return metadata for the given method
+     */
+    private MemberMetadata getMethodMetadata(MethodScope method, MapperContext context) {
+        if (method.getArgumentCount() != 0) {
+            // jackson only considers argument-free methods for serialization
+            return NO_METADATA;
+        }
+        Class<?> declaringType = method.getDeclaringType().getErasedType();
+        IntrospectionCaches caches = this.getIntrospectionCaches(context, declaringType);
+        ConcurrentMap<String, MemberMetadata> metadataPerMethod = caches.getMethodMetadata().get(declaringType, this.methodMetadataMapFactory);
+        MemberMetadata metadata = metadataPerMethod.get(method.getDeclaredName());
+        if (metadata == null) {
+            FieldScope getterField = method.findGetterField();
+            metadata = getterField == null ? this.collectMethodMetadata(method, caches) : this.getFieldMetadata(getterField, context);
+            metadataPerMethod.putIfAbsent(method.getDeclaredName(), metadata);
+        }
+        return metadata;
+    }
+
+    /**
+     * Collect the jackson related metadata for the given argument-free method without a field, considering the annotations on the method itself
+     * and the declaring class' property index, which is being shared with the fields of the same class.
+     *
+     * @param method method to collect the metadata for
+     * @param caches group of caches (and associated mapper) to use
+     * @return collected metadata
+     */
+    private MemberMetadata collectMethodMetadata(MethodScope method, IntrospectionCaches caches) {
+        String implicitName = DefaultPropertyDetector.getGetterPropertyName(method.getRawMember());
+        // other methods are only being included by jackson if they are annotated, under their declared name
+        String propertyName = implicitName == null ? method.getDeclaredName() : implicitName;
+        PropertyIndex propertyIndex = this.getPropertyIndex(method.getDeclaringType(), caches);
+        String nameOverride = null;
+        if (this.options.contains(JacksonOption.RESPECT_NAMING_STRATEGY) && propertyIndex.hasExternalNames()
+                && propertyIndex.isIncluded(propertyName)) {
+            nameOverride = propertyIndex.getNameOverride(propertyName);
+        } else {
+            JsonProperty propertyAnnotation = method.getAnnotation(JsonProperty.class);
+            if (propertyAnnotation != null && !propertyAnnotation.value().isEmpty() && !propertyAnnotation.value().equals(propertyName)) {
+                nameOverride = propertyAnnotation.value();
+            }
+        }
+        JsonPropertyDescription descriptionAnnotation = method.getAnnotation(JsonPropertyDescription.class);
+        String description = descriptionAnnotation == null ? null : descriptionAnnotation.value();
+        boolean backReference = method.getAnnotation(JsonBackReference.class) != null;
+        boolean ignored = backReference || implicitName != null && !propertyIndex.isIncluded(implicitName);
+        return new MemberMetadata(nameOverride, description, backReference, ignored);
+    }
+
+    /**
+     * Look-up the jackson related metadata for the given field. It is being collected only once per field (i.e. declaring class and field name)
+     * and then shared between the various resolvers.
+     *
+     * @param field field to look-up the metadata for
+     * @param context mapper whose configuration applies
+     * @return metadata for the given field
+     */
+    private MemberMetadata getFieldMetadata(FieldScope field, MapperContext context) {
+        return this.getFieldMetadata(field, this.getIntrospectionCaches(context, field.getDeclaringType().getErasedType()));
+    }
+
+    /**
+     * Look-up the jackson related metadata for the given field in the given group of caches. As it is being shared between all fields with the
+     * same declaring class and name, it does not consider the field's (resolved) type, i.e. whether that type is being ignored.
+     *
+     * @param field field to look-up the metadata for
+     * @param caches group of caches (and associated mapper) applicable to the field's declaring class
+     * @return metadata for the given field
+     */
+    private MemberMetadata getFieldMetadata(FieldScope field, IntrospectionCaches caches) {
+        Class<?> declaringType = field.getDeclaringType().getErasedType();
+        ConcurrentMap<String, MemberMetadata> metadataPerField = caches.getFieldMetadata().get(declaringType, caches, this.fieldMetadataMapFactory);
+        MemberMetadata metadata = metadataPerField.get(field.getDeclaredName());
+        if (metadata == null) {
+            metadata = this.collectFieldMetadata(field, caches);
+            metadataPerField.putIfAbsent(field.getDeclaredName(), metadata);
+        }
+        return metadata;
+    }
+
+    /**
+     * Create the map for holding the jackson related metadata of the fields declared by the given class, pre-populated with the entries from the
+     * snapshot applicable to the given caches (if there is one covering the given class).
+     *
+     * @param declaringType class declaring the fields
+     * @param caches group of caches the map is being created for
+     * @return (pre-populated) map for the metadata by field name
+     */
+    private ConcurrentMap<String, MemberMetadata> createFieldMetadataMap(Class<?> declaringType, IntrospectionCaches caches) {
+        IntrospectionSnapshot applicableSnapshot = caches.getSnapshot();
+        Map<String, MemberMetadata> snapshotMetadata = applicableSnapshot == null ? null
+                : applicableSnapshot.getFieldMetadata(declaringType, caches.getObjectMapper().getSerializationConfig());
+        return snapshotMetadata == null ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(snapshotMetadata);
+    }
+
+    /**
+     * Collect the jackson related metadata for the given field, considering the annotations on the field itself and on its getter method (or the
+     * generated metadata of its declaring class, if there is any). If {@link JacksonOption#RESPECT_NAMING_STRATEGY} is enabled, the property
+     * name is being taken from the declaring class' property index instead.
+     *
+     * @param field field to collect the metadata for
+     * @param caches group of caches (and associated mapper) to use
+     * @return collected metadata
+     */
+    private MemberMetadata collectFieldMetadata(FieldScope field, IntrospectionCaches caches) {
+        String fieldName = field.getDeclaredName();
+        PropertyIndex propertyIndex = this.getPropertyIndex(field.getDeclaringType(), caches);
+        boolean useIndexedName = this.options.contains(JacksonOption.RESPECT_NAMING_STRATEGY) && propertyIndex.hasExternalNames()
+                && propertyIndex.isIncluded(fieldName);
+        GeneratedMetadataRegistry.Entry generatedEntry = this.getGeneratedMetadata(field.getDeclaringType().getErasedType());
+        if (generatedEntry != null) {
+            return this.collectGeneratedFieldMetadata(field, generatedEntry, propertyIndex, useIndexedName);
+        }
+        // look-up the getter only once, instead of for each annotation
+        MethodScope getter = field.findGetter();
+        String nameOverride = null;
+        if (useIndexedName) {
+            nameOverride = propertyIndex.getNameOverride(fieldName);
+        } else {
+            JsonProperty propertyAnnotation = JacksonModule.getAnnotationFromFieldOrGetter(field, getter, JsonProperty.class);
+            // check for invalid overrides
+            if (propertyAnnotation != null && !propertyAnnotation.value().isEmpty() && !propertyAnnotation.value().equals(fieldName)) {
+                nameOverride = propertyAnnotation.value();
+            }
+        }
+        JsonPropertyDescription descriptionAnnotation = JacksonModule.getAnnotationFromFieldOrGetter(field, getter, JsonPropertyDescription.class);
+        String description = descriptionAnnotation == null ? null : descriptionAnnotation.value();
+        boolean backReference = JacksonModule.getAnnotationFromFieldOrGetter(field, getter, JsonBackReference.class) != null;
         // instead of re-creating the various ways a property may be included/excluded in jackson: just use its built-in introspection
-        BeanDescription beanDescription = this.getBeanDescriptionForClass(field.getDeclaringType());
-        // some kinds of field ignorals are only available via an annotation introspector
-        Set<String> ignoredProperties = this.objectMapper.getSerializationConfig().getAnnotationIntrospector()
-                .findPropertyIgnorals(beanDescription.getClassInfo()).getIgnored();
-        String fieldName = field.getName();
-        if (ignoredProperties.contains(fieldName)) {
-            return true;
+        boolean ignored = backReference || !propertyIndex.isIncluded(fieldName);
+        return new MemberMetadata(nameOverride, description, backReference, ignored);
+    }
+
+    /**
+     * Take the metadata for the given field from the generated metadata of its declaring class, but consider the property name from the property
+     * index (if requested).
+     *
+     * @param field field to collect the metadata for
+     * @param generatedEntry generated metadata of the field's declaring class
+     * @param propertyIndex index of the declaring class' properties
+     * @param useIndexedName whether the property name should be taken from the property index
+     * @return collected metadata
+     */
+    private MemberMetadata collectGeneratedFieldMetadata(FieldScope field, GeneratedMetadataRegistry.Entry generatedEntry,
+            PropertyIndex propertyIndex, boolean useIndexedName) {
+        String fieldName = field.getDeclaredName();
+        MemberMetadata generatedMetadata = generatedEntry.createFieldMetadata(fieldName, propertyIndex);
+        if (!useIndexedName) {
+            return generatedMetadata;
+        }
+        return new MemberMetadata(propertyIndex.getNameOverride(fieldName), generatedMetadata.getDescription(),
+                generatedMetadata.isBackReference(), generatedMetadata.isIgnored());
+    }
+
+    /**
+     * Look-up whether properties of the given type are being ignored altogether. It is being determined only once per class.
+     *
+     * @param rawType (erased) property type to check
+     * @param caches group of caches (and associated mapper) to use
+     * @return whether a property of the given type should be excluded
+     */
+    private boolean isIgnoredType(Class<?> rawType, IntrospectionCaches caches) {
+        return caches.getIgnoredTypes().get(rawType, caches, this.ignoredTypeLoader);
+    }
+
+    /**
+     * Determine whether properties of the given type are being ignored, in the same way as jackson's {@code BeanSerializerFactory} does: via a
+     * config override or {@link JsonIgnoreType} (thereby considering mix-ins and super types). Jackson's property introspection itself does not
+     * take this into account.
+     *
+     * @param rawType (erased) property type to check
+     * @param caches group of caches (and associated mapper) to use
+     * @return whether a property of the given type should be excluded
+     */
+    private Boolean collectIgnoredType(Class<?> rawType, IntrospectionCaches caches) {
+        if (rawType.isPrimitive()) {
+            return Boolean.FALSE;
+        }
+        SerializationConfig config = caches.getObjectMapper().getSerializationConfig();
+        Boolean ignored = config.getConfigOverride(rawType).getIsIgnoredType();
+        if (ignored == null && config.getAnnotationIntrospector() != null) {
+            ignored = config.getAnnotationIntrospector().isIgnorableType(config.introspectClassAnnotations(rawType).getClassInfo());
+        }
+        return Boolean.TRUE.equals(ignored);
+    }
+
+    /**
+     * Look-up the annotation of the given type on the field itself, falling-back on its getter method.
+     *
+     * @param <A> type of annotation to look-up
+     * @param field field to check first
+     * @param getter field's getter method to check second (may be {@code null})
+     * @param annotationType type of annotation to look-up
+     * @return annotation instance (or {@code null})
+     */
+    private static <A extends Annotation> A getAnnotationFromFieldOrGetter(FieldScope field, MethodScope getter, Class<A> annotationType) {
+        A annotation = field.getAnnotation(annotationType);
+        if (annotation == null && getter != null) {
+            annotation = getter.getAnnotation(annotationType);
+        }
+        return annotation;
+    }
+
+    /**
+     * Mapper of a single {@link SchemaGeneratorConfigBuilder} this module has been applied to, along with the keys of the caches to use for it.
+     */
+    private static final class MapperContext {
+
+        final ObjectMapper objectMapper;
+        final MapperConfigKey sharedConfigKey;
+        final MapperConfigKey instanceConfigKey;
+
+        /**
+         * Constructor.
+         *
+         * @param objectMapper mapper being used by a generator configuration
+         * @param options module options - with {@link JacksonOption#USE_SERIALIZER_PROPERTIES}, the caches are never shared with other mappers,
+         *     because the properties are taken from this mapper's own bean serializers
+         */
+        MapperContext(ObjectMapper objectMapper, Set<JacksonOption> options) {
+            this.objectMapper = objectMapper;
+            this.instanceConfigKey = MapperConfigKey.ofInstance(objectMapper);
+            this.sharedConfigKey = options.contains(JacksonOption.USE_SERIALIZER_PROPERTIES)
+                    ? this.instanceConfigKey
+                    : MapperConfigKey.of(objectMapper);
         }
-        // other kinds of field ignorals are handled implicitly, i.e. are only available by way of being absent
-        return beanDescription.findProperties().stream()
-                .noneMatch(propertyDefinition -> fieldName.equals(propertyDefinition.getInternalName()));
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.github.victools.jsonschema.generator.FieldScope;
+
+/**
+ * Callback for observing the {@link JacksonModule}'s internal processing, e.g. for collecting metrics. All methods have an empty default
+ * implementation, i.e. only the relevant ones need to be overridden.
+ * <br>
+ * Implementations must be thread-safe, as a module may be used by multiple generators/threads concurrently. They should also be cheap, since
+ * some of the callbacks are being invoked for each field.
+ *
+ * @see JacksonModule#withListener(JacksonModuleListener)
+ * @see JacksonModuleMetrics
+ */
+public interface JacksonModuleListener {
+
+    /**
+     * Invoked before a class is being introspected via jackson, i.e. when there is no cached introspection result for it yet.
+     *
+     * @param type class about to be introspected
+     */
+    default void onIntrospectionStart(Class<?> type) {
+        // nothing to do by default
+    }
+
+    /**
+     * Invoked after a class has been introspected via jackson.
+     *
+     * @param type introspected class
+     * @param durationNanos time it took to introspect the class (in nanoseconds)
+     */
+    default void onIntrospectionEnd(Class<?> type, long durationNanos) {
+        // nothing to do by default
+    }
+
+    /**
+     * Invoked when the introspection result for a class (i.e. the index of its included and ignored properties) was found in the cache.
+     * <br>
+     * This only refers to the cache of per-class introspection results, that is being consulted once per field or method when its metadata is
+     * being determined for the first time. Subsequent look-ups of the same member's metadata, as well as look-ups of type descriptions, ignored
+     * types, polymorphic type information and enum values are being answered from their own caches without any notification. The number of
+     * hits and misses reported here thereby matches the {@link JacksonModule#getCacheStatistics()}.
+     *
+     * @param type class whose introspection result was looked-up
+     */
+    default void onCacheHit(Class<?> type) {
+        // nothing to do by default
+    }
+
+    /**
+     * Invoked when the introspection result for a class (i.e. the index of its included and ignored properties) was not found in the cache and
+     * is about to be created, which is followed by {@link #onIntrospectionStart(Class)} and {@link #onIntrospectionEnd(Class, long)}.
+     * <br>
+     * As for {@link #onCacheHit(Class)}, this only refers to the cache of per-class introspection results and not to any of the other caches.
+     *
+     * @param type class whose introspection result was looked-up
+     */
+    default void onCacheMiss(Class<?> type) {
+        // nothing to do by default
+    }
+
+    /**
+     * Invoked when the module determined whether a field should be ignored.
+     *
+     * @param field field being checked
+     * @param ignored whether the field is being excluded
+     */
+    default void onIgnoreDecision(FieldScope field, boolean ignored) {
+        // nothing to do by default
+    }
+
+    /**
+     * Invoked after the custom definition for an enum type has been created based on its {@code JsonValue} annotated method.
+     *
+     * @param enumType enum type the definition has been created for
+     * @param created whether a custom definition was created (i.e. {@code false} if there is no applicable {@code JsonValue} annotated method)
+     */
+    default void onEnumDefinitionCreated(Class<?> enumType, boolean created) {
+        // nothing to do by default
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.github.victools.jsonschema.generator.FieldScope;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Ready-made {@link JacksonModuleListener}, collecting counters and an introspection latency histogram as well as the introspection time per class.
+ * <br>
+ * The histogram uses exponentially growing buckets: the first one covering durations below one microsecond, each following one covering durations
+ * up to twice the previous bucket's upper bound, and the last one covering everything above.
+ * <br>
+ * Note that the introspected classes are being referenced strongly, in order to report the slowest ones via {@link #getSlowestTypes(int)}.
+ */
+public class JacksonModuleMetrics implements JacksonModuleListener {
+
+    private static final int BUCKET_COUNT = 24;
+    private static final long FIRST_BUCKET_UPPER_BOUND_NANOS = 1000L;
+
+    private final LongAdder introspectionCount = new LongAdder();
+    private final LongAdder introspectionTimeNanos = new LongAdder();
+    private final LongAdder cacheHitCount = new LongAdder();
+    private final LongAdder cacheMissCount = new LongAdder();
+    private final LongAdder ignoredFieldCount = new LongAdder();
+    private final LongAdder includedFieldCount = new LongAdder();
+    private final LongAdder enumDefinitionCount = new LongAdder();
+    private final AtomicLongArray introspectionLatencyBuckets = new AtomicLongArray(BUCKET_COUNT);
+    private final ConcurrentMap<Class<?>, LongAdder> introspectionTimePerType = new ConcurrentHashMap<>();
+
+    @Override
+    public void onIntrospectionEnd(Class<?> type, long durationNanos) {
+        this.introspectionCount.increment();
+        this.introspectionTimeNanos.add(durationNanos);
+        this.introspectionLatencyBuckets.incrementAndGet(JacksonModuleMetrics.getBucketIndex(durationNanos));
+        this.introspectionTimePerType.computeIfAbsent(type, key -> new LongAdder()).add(durationNanos);
+    }
+
+    @Override
+    public void onCacheHit(Class<?> type) {
+        this.cacheHitCount.increment();
+    }
+
+    @Override
+    public void onCacheMiss(Class<?> type) {
+        this.cacheMissCount.increment();
+    }
+
+    @Override
+    public void onIgnoreDecision(FieldScope field, boolean ignored) {
+        if (ignored) {
+            this.ignoredFieldCount.increment();
+        } else {
+            this.includedFieldCount.increment();
+        }
+    }
+
+    @Override
+    public void onEnumDefinitionCreated(Class<?> enumType, boolean created) {
+        if (created) {
+            this.enumDefinitionCount.increment();
+        }
+    }
+
+    /**
+     * Determine the histogram bucket for the given duration.
+     *
+     * @param durationNanos measured duration (in nanoseconds)
+     * @return index of the histogram bucket
+     */
+    private static int getBucketIndex(long durationNanos) {
+        if (durationNanos < FIRST_BUCKET_UPPER_BOUND_NANOS) {
+            return 0;
+        }
+        // number of times the first bucket's upper bound needs to be doubled to exceed the given duration
+        int bucketIndex = 64 - Long.numberOfLeadingZeros(durationNanos / FIRST_BUCKET_UPPER_BOUND_NANOS);
+        return Math.min(bucketIndex, BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Getter for the number of classes that have been introspected.
+     *
+     * @return introspection count
+     */
+    public long getIntrospectionCount() {
+        return this.introspectionCount.sum();
+    }
+
+    /**
+     * Getter for the accumulated time spent on introspecting classes.
+     *
+     * @return total introspection time
+     */
+    public Duration getTotalIntrospectionTime() {
+        return Duration.ofNanos(this.introspectionTimeNanos.sum());
+    }
+
+    /**
+     * Getter for the number of look-ups that were answered from the cache of per-class introspection results. Look-ups being answered by the
+     * module's other caches (e.g. of the metadata of an already handled field) are not being counted: see
+     * {@link JacksonModuleListener#onCacheHit(Class)}.
+     *
+     * @return cache hit count
+     */
+    public long getCacheHitCount() {
+        return this.cacheHitCount.sum();
+    }
+
+    /**
+     * Getter for the number of look-ups that required a class to be introspected, i.e. that were not answered from the cache of per-class
+     * introspection results: see {@link JacksonModuleListener#onCacheMiss(Class)}.
+     *
+     * @return cache miss count
+     */
+    public long getCacheMissCount() {
+        return this.cacheMissCount.sum();
+    }
+
+    /**
+     * Getter for the number of ignore checks that resulted in a field being excluded.
+     *
+     * @return ignored field count
+     */
+    public long getIgnoredFieldCount() {
+        return this.ignoredFieldCount.sum();
+    }
+
+    /**
+     * Getter for the number of ignore checks that resulted in a field being included.
+     *
+     * @return included field count
+     */
+    public long getIncludedFieldCount() {
+        return this.includedFieldCount.sum();
+    }
+
+    /**
+     * Getter for the number of custom enum definitions that have been created based on a {@code JsonValue} annotated method.
+     *
+     * @return enum definition count
+     */
+    public long getEnumDefinitionCount() {
+        return this.enumDefinitionCount.sum();
+    }
+
+    /**
+     * Create a snapshot of the introspection latency histogram.
+     *
+     * @return number of introspections per bucket, by the bucket's (exclusive) upper bound; the last bucket's upper bound is the maximum duration
+     */
+    public SortedMap<Duration, Long> getIntrospectionLatencyHistogram() {
+        SortedMap<Duration, Long> histogram = new TreeMap<>();
+        long upperBoundNanos = FIRST_BUCKET_UPPER_BOUND_NANOS;
+        for (int bucketIndex = 0; bucketIndex < BUCKET_COUNT; bucketIndex++) {
+            Duration upperBound = bucketIndex == BUCKET_COUNT - 1 ? Duration.ofNanos(Long.MAX_VALUE) : Duration.ofNanos(upperBoundNanos);
+            histogram.put(upperBound, this.introspectionLatencyBuckets.get(bucketIndex));
+            upperBoundNanos *= 2;
+        }
+        return histogram;
+    }
+
+    /**
+     * Look-up the classes that took the longest to be introspected.
+     *
+     * @param limit maximum number of classes to return
+     * @return introspection time by class, ordered from slowest to fastest
+     */
+    public Map<Class<?>, Duration> getSlowestTypes(int limit) {
+        Map<Class<?>, Long> timePerType = new HashMap<>();
+        this.introspectionTimePerType.forEach((type, time) -> timePerType.put(type, time.sum()));
+        return timePerType.entrySet().stream()
+                .sorted(Map.Entry.<Class<?>, Long>comparingByValue().reversed())
+                .limit(limit)
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Duration.ofNanos(entry.getValue()), (first, second) -> first,
+                        LinkedHashMap::new));
+    }
+
+    /**
+     * Reset all collected metrics.
+     */
+    public void reset() {
+        this.introspectionCount.reset();
+        this.introspectionTimeNanos.reset();
+        this.cacheHitCount.reset();
+        this.cacheMissCount.reset();
+        this.ignoredFieldCount.reset();
+        this.includedFieldCount.reset();
+        this.enumDefinitionCount.reset();
+        for (int bucketIndex = 0; bucketIndex < BUCKET_COUNT; bucketIndex++) {
+            this.introspectionLatencyBuckets.set(bucketIndex, 0L);
+        }
+        this.introspectionTimePerType.clear();
+    }
+}
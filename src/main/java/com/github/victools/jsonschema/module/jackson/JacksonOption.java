@@ -28,5 +28,53 @@ public enum JacksonOption {
      * @see com.github.victools.jsonschema.generator.Option#FLATTENED_ENUMS
      * @see com.github.victools.jsonschema.generator.Option#FLATTENED_ENUMS_FROM_TOSTRING
      */
-    FLATTENED_ENUMS_FROM_JSONVALUE;
+    FLATTENED_ENUMS_FROM_JSONVALUE,
+    /**
+     * Use this option to skip jackson's (comparatively expensive) introspection for classes on which jackson's default property detection applies
+     * unchanged: i.e. there are no jackson annotations anywhere in the class hierarchy, no mix-ins or config overrides for it and the
+     * {@code ObjectMapper} uses the default annotation introspector, visibility and naming settings. For such classes (including most JDK types),
+     * the included properties are being derived directly from their public fields, public getters and setters instead. This decision is being
+     * made only once per class.
+     */
+    SKIP_INTROSPECTION_FOR_PLAIN_TYPES,
+    /**
+     * Use this option to take the property names from jackson's introspection of the declaring class, thereby considering the
+     * {@code ObjectMapper}'s {@link com.fasterxml.jackson.databind.PropertyNamingStrategy PropertyNamingStrategy} and
+     * {@link com.fasterxml.jackson.databind.annotation.JsonNaming JsonNaming} annotations in addition to the names given via
+     * {@link com.fasterxml.jackson.annotation.JsonProperty JsonProperty} annotations. The external names of all properties are being collected
+     * once per class (alongside the included/ignored properties), i.e. only a map look-up is being performed per field.
+     */
+    RESPECT_NAMING_STRATEGY,
+    /**
+     * Use this option to represent polymorphic types as jackson serializes them, based on {@link com.fasterxml.jackson.annotation.JsonTypeInfo
+     * JsonTypeInfo}, {@link com.fasterxml.jackson.annotation.JsonSubTypes JsonSubTypes} and {@link com.fasterxml.jackson.annotation.JsonTypeName
+     * JsonTypeName} annotations as well as the subtypes registered with the {@code ObjectMapper}. A type with concrete subtypes is being
+     * represented by an "anyOf" over all of them (being included once and referenced from everywhere else), while each concrete type's
+     * definition is being extended by its type id. The subtypes are being collected only once per type - or taken from a
+     * {@link SubtypeIndex} if one was provided via {@link JacksonModule#withSubtypeIndex(SubtypeIndex)}.
+     */
+    INCLUDE_SUBTYPES,
+    /**
+     * Use this option to take the included properties and their external names from the bean serializer the {@code ObjectMapper} uses for the
+     * declaring class, thereby also considering any {@link com.fasterxml.jackson.databind.ser.BeanSerializerModifier BeanSerializerModifier}
+     * registered with the mapper. The serializer is being taken from the mapper's own cache (or created and cached there), i.e. the introspection
+     * is being shared with the actual serialization. Classes that are not being serialized by a bean serializer (e.g. due to a custom serializer)
+     * are being introspected as usual. As a consequence, the cached properties are never being shared between different {@code ObjectMapper}
+     * instances.
+     */
+    USE_SERIALIZER_PROPERTIES,
+    /**
+     * Use this option to treat enum types as plain strings (or integers) exactly as the {@code ObjectMapper}'s
+     * {@link com.fasterxml.jackson.databind.ser.std.EnumSerializer EnumSerializer} writes them, i.e. considering
+     * {@link com.fasterxml.jackson.annotation.JsonProperty JsonProperty} annotations on the enum constants, the
+     * {@link com.fasterxml.jackson.databind.SerializationFeature#WRITE_ENUMS_USING_TO_STRING WRITE_ENUMS_USING_TO_STRING} and
+     * {@link com.fasterxml.jackson.databind.SerializationFeature#WRITE_ENUMS_USING_INDEX WRITE_ENUMS_USING_INDEX} features as well as a
+     * {@link com.fasterxml.jackson.annotation.JsonFormat JsonFormat} annotation on the enum type. The values are being taken from the serializer's
+     * table of serialized names (being cached by the mapper itself) once per enum type. Enums that are being serialized differently (e.g. via a
+     * {@link com.fasterxml.jackson.annotation.JsonValue JsonValue} annotated method) fall-back on following custom definitions, e.g. from
+     * {@link #FLATTENED_ENUMS_FROM_JSONVALUE}.
+     *
+     * @see CustomEnumSerializerDefinitionProvider
+     */
+    FLATTENED_ENUMS_FROM_SERIALIZER;
 }
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.cfg.SerializerFactoryConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.ser.BasicSerializerFactory;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * Identifier for those parts of an {@link ObjectMapper}'s configuration that affect jackson's introspection results. Two mappers with equal keys
+ * are expected to produce the same introspection results, i.e. they may share the same caches.
+ * <br>
+ * Besides the mapper's features, visibility, naming strategy and introspectors, the key considers the registered subtypes, the types of the
+ * subtype resolver and serializer factory, the registered {@code BeanSerializerModifier}s and the ids of the registered modules.
+ * <br>
+ * Mix-ins and custom serializers cannot be compared between mappers. If there are any, the key is therefore bound to the specific mapper
+ * instance. The same applies to config overrides, which can only be looked-up per class: see {@link #ofInstance(ObjectMapper)}.
+ */
+final class MapperConfigKey {
+
+    private final Set<MapperFeature> enabledFeatures;
+    private final String visibility;
+    private final PropertyNamingStrategy namingStrategy;
+    private final List<Class<?>> annotationIntrospectorTypes;
+    private final Class<?> classIntrospectorType;
+    private final Class<?> subtypeResolverType;
+    private final List<Class<?>> registeredSubtypes;
+    private final List<String> registeredSubtypeNames;
+    private final Class<?> serializerFactoryType;
+    private final List<Class<?>> serializerModifierTypes;
+    private final Set<String> moduleIds;
+    private final ObjectMapper mapperInstance;
+    private final int hashCode;
+
+    /**
+     * Constructor.
+     *
+     * @param mapper mapper whose configuration to derive the key from
+     * @param bindToInstance whether the key should be bound to the given mapper instance
+     */
+    private MapperConfigKey(ObjectMapper mapper, boolean bindToInstance) {
+        SerializationConfig config = mapper.getSerializationConfig();
+        this.enabledFeatures = EnumSet.noneOf(MapperFeature.class);
+        for (MapperFeature feature : MapperFeature.values()) {
+            if (config.isEnabled(feature)) {
+                this.enabledFeatures.add(feature);
+            }
+        }
+        this.visibility = String.valueOf(config.getDefaultVisibilityChecker());
+        this.namingStrategy = config.getPropertyNamingStrategy();
+        this.annotationIntrospectorTypes = new ArrayList<>();
+        AnnotationIntrospector annotationIntrospector = config.getAnnotationIntrospector();
+        if (annotationIntrospector != null) {
+            annotationIntrospector.allIntrospectors().forEach(introspector -> this.annotationIntrospectorTypes.add(introspector.getClass()));
+        }
+        this.classIntrospectorType = config.getClassIntrospector() == null ? null : config.getClassIntrospector().getClass();
+        this.subtypeResolverType = config.getSubtypeResolver().getClass();
+        // all registered subtypes are subtypes of Object; sorted by name, as their collected order is not stable
+        List<NamedType> subtypes = config.getSubtypeResolver()
+                .collectAndResolveSubtypesByClass(config, config.introspectClassAnnotations(Object.class).getClassInfo())
+                .stream()
+                .filter(subtype -> subtype.getType() != Object.class)
+                .sorted(Comparator.comparing((NamedType subtype) -> subtype.getType().getName())
+                        .thenComparing(subtype -> String.valueOf(subtype.getName())))
+                .collect(Collectors.toList());
+        this.registeredSubtypes = subtypes.stream().map(NamedType::getType).collect(Collectors.toList());
+        this.registeredSubtypeNames = subtypes.stream().map(NamedType::getName).collect(Collectors.toList());
+        SerializerFactory serializerFactory = mapper.getSerializerFactory();
+        this.serializerFactoryType = serializerFactory.getClass();
+        this.serializerModifierTypes = new ArrayList<>();
+        if (serializerFactory instanceof BasicSerializerFactory) {
+            ((BasicSerializerFactory) serializerFactory).getFactoryConfig().serializerModifiers()
+                    .forEach(modifier -> this.serializerModifierTypes.add(modifier.getClass()));
+        }
+        this.moduleIds = mapper.getRegisteredModuleIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.toCollection(TreeSet::new));
+        this.mapperInstance = bindToInstance ? mapper : null;
+        this.hashCode = Objects.hash(this.enabledFeatures, this.visibility, this.namingStrategy, this.annotationIntrospectorTypes,
+                this.classIntrospectorType, this.subtypeResolverType, this.registeredSubtypes, this.registeredSubtypeNames,
+                this.serializerFactoryType, this.serializerModifierTypes, this.moduleIds,
+                this.mapperInstance == null ? 0 : System.identityHashCode(this.mapperInstance));
+    }
+
+    /**
+     * Create the key for the given mapper's configuration, that is equal to the key of any other mapper with an equivalent configuration.
+     *
+     * @param mapper mapper to create the key for
+     * @return created key
+     */
+    static MapperConfigKey of(ObjectMapper mapper) {
+        boolean bindToInstance = mapper.getSerializationConfig().mixInCount() != 0 || MapperConfigKey.hasCustomSerializers(mapper);
+        return new MapperConfigKey(mapper, bindToInstance);
+    }
+
+    /**
+     * Check whether the given mapper's serializers may deviate from those of a default mapper in ways that cannot be compared, i.e. whether
+     * there are custom (key) serializers or {@code BeanSerializerModifier}s registered or a custom serializer factory being used.
+     *
+     * @param mapper mapper to check
+     * @return whether there are custom serializers
+     */
+    private static boolean hasCustomSerializers(ObjectMapper mapper) {
+        SerializerFactory serializerFactory = mapper.getSerializerFactory();
+        if (serializerFactory.getClass() != BeanSerializerFactory.class) {
+            return true;
+        }
+        SerializerFactoryConfig factoryConfig = ((BeanSerializerFactory) serializerFactory).getFactoryConfig();
+        return factoryConfig.hasSerializers() || factoryConfig.hasKeySerializers() || factoryConfig.hasSerializerModifiers();
+    }
+
+    /**
+     * Create the key for the given mapper instance, that is only equal to keys of the very same instance.
+     *
+     * @param mapper mapper to create the key for
+     * @return created key
+     */
+    static MapperConfigKey ofInstance(ObjectMapper mapper) {
+        return new MapperConfigKey(mapper, true);
+    }
+
+    /**
+     * Check whether any of the configuration aspects represented by this key (e.g. a custom annotation introspector or naming strategy) or the
+     * bound mapper instance stem from the given class loader (or any of its descendants).
+     *
+     * @param classLoader class loader to check for
+     * @return whether this key references a class of the given class loader
+     */
+    boolean isAssociatedWith(ClassLoader classLoader) {
+        return this.annotationIntrospectorTypes.stream().anyMatch(type -> ClassKeyedCache.isLoadedBy(type, classLoader))
+                || ClassKeyedCache.isLoadedBy(this.classIntrospectorType, classLoader)
+                || ClassKeyedCache.isLoadedBy(this.subtypeResolverType, classLoader)
+                || this.registeredSubtypes.stream().anyMatch(type -> ClassKeyedCache.isLoadedBy(type, classLoader))
+                || ClassKeyedCache.isLoadedBy(this.serializerFactoryType, classLoader)
+                || this.serializerModifierTypes.stream().anyMatch(type -> ClassKeyedCache.isLoadedBy(type, classLoader))
+                || this.namingStrategy != null && ClassKeyedCache.isLoadedBy(this.namingStrategy.getClass(), classLoader)
+                || this.mapperInstance != null && ClassKeyedCache.isLoadedBy(this.mapperInstance.getClass(), classLoader);
+    }
+
+    /**
+     * Calculate a fingerprint of the configuration aspects represented by this key, that - unlike the {@link #hashCode()} - remains the same across
+     * JVM runs. A bound mapper instance is not being considered here.
+     *
+     * @return fingerprint value
+     */
+    long calculateFingerprint() {
+        StringBuilder description = new StringBuilder();
+        this.enabledFeatures.forEach(feature -> description.append(feature.name()).append(','));
+        description.append('|').append(this.visibility)
+                .append('|').append(this.namingStrategy == null ? null : this.namingStrategy.getClass().getName());
+        this.annotationIntrospectorTypes.forEach(type -> description.append('|').append(type.getName()));
+        description.append('|').append(this.classIntrospectorType == null ? null : this.classIntrospectorType.getName())
+                .append('|').append(this.subtypeResolverType.getName());
+        for (int index = 0; index < this.registeredSubtypes.size(); index++) {
+            description.append('|').append(this.registeredSubtypes.get(index).getName()).append('=').append(this.registeredSubtypeNames.get(index));
+        }
+        description.append('|').append(this.serializerFactoryType.getName());
+        this.serializerModifierTypes.forEach(type -> description.append('|').append(type.getName()));
+        this.moduleIds.forEach(moduleId -> description.append('|').append(moduleId));
+        CRC32 checksum = new CRC32();
+        checksum.update(description.toString().getBytes(StandardCharsets.UTF_8));
+        return checksum.getValue();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MapperConfigKey)) {
+            return false;
+        }
+        MapperConfigKey otherKey = (MapperConfigKey) other;
+        return this.hashCode == otherKey.hashCode
+                && this.mapperInstance == otherKey.mapperInstance
+                && this.enabledFeatures.equals(otherKey.enabledFeatures)
+                && this.visibility.equals(otherKey.visibility)
+                && Objects.equals(this.namingStrategy, otherKey.namingStrategy)
+                && this.annotationIntrospectorTypes.equals(otherKey.annotationIntrospectorTypes)
+                && Objects.equals(this.classIntrospectorType, otherKey.classIntrospectorType)
+                && this.subtypeResolverType == otherKey.subtypeResolverType
+                && this.registeredSubtypes.equals(otherKey.registeredSubtypes)
+                && this.registeredSubtypeNames.equals(otherKey.registeredSubtypeNames)
+                && this.serializerFactoryType == otherKey.serializerFactoryType
+                && this.serializerModifierTypes.equals(otherKey.serializerModifierTypes)
+                && this.moduleIds.equals(otherKey.moduleIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hashCode;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+/**
+ * Immutable jackson related metadata of a single field or method, being collected once and then shared between the various {@link JacksonModule}
+ * resolvers.
+ */
+final class MemberMetadata {
+
+    private final String nameOverride;
+    private final String description;
+    private final boolean backReference;
+    private final boolean ignored;
+
+    /**
+     * Constructor.
+     *
+     * @param nameOverride alternative property name (may be {@code null})
+     * @param description property description (may be {@code null})
+     * @param backReference whether the property is marked as back reference
+     * @param ignored whether the property should be excluded regardless of its type (e.g. because it is a back reference)
+     */
+    MemberMetadata(String nameOverride, String description, boolean backReference, boolean ignored) {
+        this.nameOverride = nameOverride;
+        this.description = description;
+        this.backReference = backReference;
+        this.ignored = ignored;
+    }
+
+    /**
+     * Getter for the alternative property name.
+     *
+     * @return name override (or {@code null})
+     */
+    String getNameOverride() {
+        return this.nameOverride;
+    }
+
+    /**
+     * Getter for the property's description.
+     *
+     * @return description (or {@code null})
+     */
+    String getDescription() {
+        return this.description;
+    }
+
+    /**
+     * Getter for the flag indicating whether the property is marked as back reference.
+     *
+     * @return whether the property is a back reference
+     */
+    boolean isBackReference() {
+        return this.backReference;
+    }
+
+    /**
+     * Getter for the flag indicating whether the property should be excluded. Whether the property's (resolved) type is being ignored is not
+     * considered here, as the same member may have different types depending on its declaring class' type parameters.
+     *
+     * @return whether the property should be ignored
+     */
+    boolean isIgnored() {
+        return this.ignored;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.CustomDefinition;
+import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
+import com.github.victools.jsonschema.generator.SchemaGenerationContext;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaKeyword;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Implementation of the {@link CustomDefinitionProviderV2} interface for representing polymorphic types as jackson serializes them:
+ * <ul>
+ * <li>a class with concrete subtypes is being represented by an "anyOf" over all of them (and itself, if it is concrete),</li>
+ * <li>a concrete class' own properties are being extended by its type id, according to the configured type id inclusion.</li>
+ * </ul>
+ * The polymorphism related information is being looked-up once per class. The "anyOf" of a class is part of its regular definition, i.e. it is
+ * being included only once in a schema and then referenced from everywhere else.
+ */
+final class PolymorphicTypeDefinitionProvider implements CustomDefinitionProviderV2 {
+
+    private final Function<Class<?>, PolymorphicTypeInfo> typeInfoLookup;
+
+    /**
+     * Constructor.
+     *
+     * @param typeInfoLookup (cached) look-up of the polymorphism related information per class
+     */
+    PolymorphicTypeDefinitionProvider(Function<Class<?>, PolymorphicTypeInfo> typeInfoLookup) {
+        this.typeInfoLookup = typeInfoLookup;
+    }
+
+    @Override
+    public CustomDefinition provideCustomSchemaDefinition(ResolvedType javaType, SchemaGenerationContext context) {
+        PolymorphicTypeInfo typeInfo = this.typeInfoLookup.apply(javaType.getErasedType());
+        if (typeInfo == null) {
+            return null;
+        }
+        ObjectNode definition;
+        if (!typeInfo.getSubtypes().isEmpty()) {
+            definition = this.createSubtypesDefinition(javaType, typeInfo, context);
+        } else if (typeInfo.getTypeId() != null && PolymorphicTypeDefinitionProvider.isTypeIdIncludedInValue(typeInfo)) {
+            definition = this.createTypedDefinition(javaType, typeInfo, typeInfo.getTypeId(), context);
+        } else {
+            return null;
+        }
+        // the standard definition being referenced already includes the attributes, e.g. a description
+        return new CustomDefinition(definition, CustomDefinition.DefinitionType.STANDARD, CustomDefinition.AttributeInclusion.NO);
+    }
+
+    /**
+     * Create the "anyOf" over the given class (if it is concrete) and all its concrete subtypes.
+     *
+     * @param javaType targeted polymorphic type
+     * @param typeInfo polymorphism related information of the targeted type
+     * @param context generation context
+     * @return created definition
+     */
+    private ObjectNode createSubtypesDefinition(ResolvedType javaType, PolymorphicTypeInfo typeInfo, SchemaGenerationContext context) {
+        SchemaGeneratorConfig config = context.getGeneratorConfig();
+        ArrayNode anyOf = config.createArrayNode();
+        if (typeInfo.getTypeId() != null) {
+            // the type itself cannot be referenced here, as that would be this very definition
+            anyOf.add(this.createTypedDefinition(javaType, typeInfo, typeInfo.getTypeId(), context));
+        }
+        for (Class<?> subtype : typeInfo.getSubtypes()) {
+            ResolvedType resolvedSubtype = context.getTypeContext().resolveSubtype(javaType, subtype);
+            PolymorphicTypeInfo subtypeInfo = this.typeInfoLookup.apply(subtype);
+            String subtypeId = typeInfo.getSubtypeId(subtype);
+            if (subtypeInfo != null && subtypeInfo.getSubtypes().isEmpty() && Objects.equals(subtypeId, subtypeInfo.getTypeId())) {
+                // the subtype's definition is shared with all other references to it
+                anyOf.add(context.createDefinitionReference(resolvedSubtype));
+            } else {
+                // the subtype's own definition is an "anyOf" itself (whose subtypes are already included here) or has a different type id
+                anyOf.add(this.createTypedDefinition(resolvedSubtype, typeInfo, subtypeId, context));
+            }
+        }
+        ObjectNode definition = config.createObjectNode();
+        definition.set(context.getKeyword(SchemaKeyword.TAG_ANYOF), anyOf);
+        return definition;
+    }
+
+    /**
+     * Create the definition of the given concrete class, including its type id.
+     *
+     * @param javaType targeted concrete type
+     * @param typeInfo polymorphism related information of the declared type, determining how the type id is being included
+     * @param typeId type id of the targeted type
+     * @param context generation context
+     * @return created definition
+     */
+    private ObjectNode createTypedDefinition(ResolvedType javaType, PolymorphicTypeInfo typeInfo, String typeId,
+            SchemaGenerationContext context) {
+        ObjectNode standardReference = context.createStandardDefinitionReference(javaType, this);
+        if (!PolymorphicTypeDefinitionProvider.isTypeIdIncludedInValue(typeInfo)) {
+            return standardReference;
+        }
+        SchemaGeneratorConfig config = context.getGeneratorConfig();
+        ObjectNode typeIdSchema = config.createObjectNode()
+                .put(context.getKeyword(SchemaKeyword.TAG_CONST), typeId);
+        ObjectNode definition = config.createObjectNode();
+        switch (typeInfo.getInclusion()) {
+        case WRAPPER_ARRAY:
+            definition.put(context.getKeyword(SchemaKeyword.TAG_TYPE), context.getKeyword(SchemaKeyword.TAG_TYPE_ARRAY));
+            definition.putArray(context.getKeyword(SchemaKeyword.TAG_ITEMS))
+                    .add(typeIdSchema)
+                    .add(standardReference);
+            definition.put(context.getKeyword(SchemaKeyword.TAG_ITEMS_MIN), 2);
+            definition.put(context.getKeyword(SchemaKeyword.TAG_ITEMS_MAX), 2);
+            break;
+        case WRAPPER_OBJECT:
+            definition.put(context.getKeyword(SchemaKeyword.TAG_TYPE), context.getKeyword(SchemaKeyword.TAG_TYPE_OBJECT));
+            definition.putObject(context.getKeyword(SchemaKeyword.TAG_PROPERTIES))
+                    .set(typeId, standardReference);
+            definition.putArray(context.getKeyword(SchemaKeyword.TAG_REQUIRED))
+                    .add(typeId);
+            definition.put(context.getKeyword(SchemaKeyword.TAG_ADDITIONAL_PROPERTIES), false);
+            break;
+        default:
+            // PROPERTY or EXISTING_PROPERTY
+            ObjectNode typeIdPropertySchema = config.createObjectNode();
+            typeIdPropertySchema.putObject(context.getKeyword(SchemaKeyword.TAG_PROPERTIES))
+                    .set(typeInfo.getPropertyName(), typeIdSchema);
+            typeIdPropertySchema.putArray(context.getKeyword(SchemaKeyword.TAG_REQUIRED))
+                    .add(typeInfo.getPropertyName());
+            definition.putArray(context.getKeyword(SchemaKeyword.TAG_ALLOF))
+                    .add(standardReference)
+                    .add(typeIdPropertySchema);
+            break;
+        }
+        return definition;
+    }
+
+    /**
+     * Check whether the type id is part of the serialized value itself, i.e. it is not an external property of the containing object.
+     *
+     * @param typeInfo polymorphism related information to check
+     * @return whether the type id should be included in the definition
+     */
+    private static boolean isTypeIdIncludedInValue(PolymorphicTypeInfo typeInfo) {
+        switch (typeInfo.getInclusion()) {
+        case PROPERTY:
+        case EXISTING_PROPERTY:
+        case WRAPPER_ARRAY:
+        case WRAPPER_OBJECT:
+            return true;
+        default:
+            return false;
+        }
+    }
+}
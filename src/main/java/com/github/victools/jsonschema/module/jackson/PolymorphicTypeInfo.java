@@ -0,0 +1,195 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable summary of how jackson serializes a single polymorphic class: the type id of the class itself, how the type id is being included and
+ * all concrete subtypes that may appear in place of the class.
+ */
+final class PolymorphicTypeInfo {
+
+    private final JsonTypeInfo.As inclusion;
+    private final String propertyName;
+    private final String typeId;
+    private final Map<Class<?>, String> subtypeIds;
+
+    /**
+     * Constructor.
+     *
+     * @param inclusion how the type id is being included in the serialized value
+     * @param propertyName name of the property holding the type id (only relevant for property based inclusions)
+     * @param typeId type id of the class itself (may be {@code null} if the class is abstract)
+     * @param subtypeIds concrete subtypes (excluding the class itself) with their type ids in the context of the class
+     */
+    PolymorphicTypeInfo(JsonTypeInfo.As inclusion, String propertyName, String typeId, Map<Class<?>, String> subtypeIds) {
+        this.inclusion = inclusion;
+        this.propertyName = propertyName;
+        this.typeId = typeId;
+        this.subtypeIds = Collections.unmodifiableMap(subtypeIds);
+    }
+
+    /**
+     * Determine how the given class is being serialized by the given mapper, considering {@code JsonTypeInfo}, {@code JsonSubTypes} and
+     * {@code JsonTypeName} annotations (including those from mix-ins and super types), the subtypes registered with the mapper as well as its
+     * default typing.
+     *
+     * @param type class to look-up the polymorphism related information for
+     * @param objectMapper mapper whose configuration applies
+     * @param subtypeIndex index of known subtypes, to use instead of looking-up the subtypes via reflection (may be {@code null})
+     * @return polymorphism related information (or {@code null} if the given class is not being serialized with a type id)
+     */
+    static PolymorphicTypeInfo of(Class<?> type, ObjectMapper objectMapper, SubtypeIndex subtypeIndex) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum()) {
+            return null;
+        }
+        SerializationConfig config = objectMapper.getSerializationConfig();
+        TypeSerializer typeSerializer;
+        try {
+            typeSerializer = objectMapper.getSerializerFactory().createTypeSerializer(config, objectMapper.constructType(type));
+        } catch (JsonMappingException ex) {
+            // let the generator handle it like any other type
+            return null;
+        }
+        if (typeSerializer == null) {
+            return null;
+        }
+        TypeIdResolver typeIdResolver = typeSerializer.getTypeIdResolver();
+        String typeId = PolymorphicTypeInfo.isConcrete(type) ? typeIdResolver.idFromValueAndType(null, type) : null;
+        List<Class<?>> subtypes;
+        if (subtypeIndex != null && subtypeIndex.contains(type)) {
+            subtypes = PolymorphicTypeInfo.filterConcreteSubtypes(type, subtypeIndex.getSubtypes(type));
+        } else {
+            subtypes = PolymorphicTypeInfo.collectSubtypes(type, config);
+        }
+        // a subtype's id may differ when it is being serialized in place of this type, e.g. if it is only named in a JsonSubTypes annotation
+        Map<Class<?>, String> subtypeIds = new LinkedHashMap<>();
+        for (Class<?> subtype : subtypes) {
+            subtypeIds.put(subtype, typeIdResolver.idFromValueAndType(null, subtype));
+        }
+        return new PolymorphicTypeInfo(typeSerializer.getTypeInclusion(), typeSerializer.getPropertyName(), typeId, subtypeIds);
+    }
+
+    /**
+     * Collect the concrete subtypes of the given class via the mapper's subtype resolver, which is considering the (transitive)
+     * {@code JsonSubTypes} annotations as well as the subtypes registered with the mapper.
+     *
+     * @param type class to collect the subtypes for
+     * @param config jackson configuration to consider
+     * @return concrete subtypes (ordered by their names, as jackson does not retain the declaration order)
+     */
+    private static List<Class<?>> collectSubtypes(Class<?> type, SerializationConfig config) {
+        Collection<NamedType> namedTypes = config.getSubtypeResolver()
+                .collectAndResolveSubtypesByClass(config, config.introspectClassAnnotations(type).getClassInfo());
+        List<Class<?>> candidates = new ArrayList<>(namedTypes.size());
+        for (NamedType namedType : namedTypes) {
+            candidates.add(namedType.getType());
+        }
+        candidates.sort(Comparator.comparing(Class::getName));
+        return PolymorphicTypeInfo.filterConcreteSubtypes(type, candidates);
+    }
+
+    /**
+     * Reduce the given candidates to the distinct, concrete subtypes of the given class.
+     *
+     * @param type class to find the subtypes for
+     * @param candidates potential subtypes
+     * @return concrete subtypes (excluding the given class itself)
+     */
+    private static List<Class<?>> filterConcreteSubtypes(Class<?> type, Collection<Class<?>> candidates) {
+        Set<Class<?>> subtypes = new LinkedHashSet<>();
+        for (Class<?> candidate : candidates) {
+            if (candidate != type && type.isAssignableFrom(candidate) && PolymorphicTypeInfo.isConcrete(candidate)) {
+                subtypes.add(candidate);
+            }
+        }
+        return new ArrayList<>(subtypes);
+    }
+
+    /**
+     * Check whether instances of the given class may exist, i.e. it is neither an interface nor abstract.
+     *
+     * @param type class to check
+     * @return whether the given class is concrete
+     */
+    private static boolean isConcrete(Class<?> type) {
+        return !type.isInterface() && !Modifier.isAbstract(type.getModifiers());
+    }
+
+    /**
+     * Getter for the way the type id is being included in the serialized value.
+     *
+     * @return type id inclusion
+     */
+    JsonTypeInfo.As getInclusion() {
+        return this.inclusion;
+    }
+
+    /**
+     * Getter for the name of the property holding the type id (only relevant for property based inclusions).
+     *
+     * @return type id property name
+     */
+    String getPropertyName() {
+        return this.propertyName;
+    }
+
+    /**
+     * Getter for the type id of the class itself.
+     *
+     * @return type id (or {@code null} if the class is abstract)
+     */
+    String getTypeId() {
+        return this.typeId;
+    }
+
+    /**
+     * Getter for the concrete subtypes, that may appear in place of the class.
+     *
+     * @return concrete subtypes (excluding the class itself)
+     */
+    Set<Class<?>> getSubtypes() {
+        return this.subtypeIds.keySet();
+    }
+
+    /**
+     * Look-up the type id of the given subtype, when it is being serialized in place of the class.
+     *
+     * @param subtype one of the concrete subtypes
+     * @return subtype's type id
+     */
+    String getSubtypeId(Class<?> subtype) {
+        return this.subtypeIds.get(subtype);
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.BeanUtil;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Immutable index of a single class' properties, as per jackson's introspection of that class (or the serializer being derived from it).
+ * <br>
+ * This is the distilled form of jackson's introspection result, which is not being retained itself: the (interned) property names are being held
+ * in a sorted array, alongside a bit set marking the explicitly ignored ones and an array of the deviating external names.
+ */
+final class PropertyIndex {
+
+    private static final String[] NO_NAMES = new String[0];
+
+    /**
+     * Internal names of all included and explicitly ignored properties, in their natural order.
+     */
+    private final String[] names;
+    /**
+     * Indexes of the explicitly ignored properties in the {@link #names} array.
+     */
+    private final BitSet ignoredIndexes;
+    /**
+     * External names of the included properties at the same positions as in the {@link #names} array, where they differ from the internal ones
+     * (or {@code null} if the external names are unknown). If no external name differs, this is an empty array.
+     */
+    private final String[] externalNames;
+
+    /**
+     * Constructor, without knowledge of the included properties' external names.
+     *
+     * @param includedNames internal names of the properties to be included
+     * @param ignoredNames names of the properties to be ignored
+     */
+    PropertyIndex(Set<String> includedNames, Set<String> ignoredNames) {
+        this(includedNames, ignoredNames, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param includedNames internal names of the properties to be included
+     * @param ignoredNames names of the properties to be ignored
+     * @param nameOverrides external names of the included properties by their internal names, only for those where they differ (may be
+     *            {@code null} if the external names are unknown)
+     */
+    PropertyIndex(Set<String> includedNames, Set<String> ignoredNames, Map<String, String> nameOverrides) {
+        SortedSet<String> allNames = new TreeSet<>(includedNames);
+        allNames.addAll(ignoredNames);
+        this.names = allNames.isEmpty() ? NO_NAMES : new String[allNames.size()];
+        this.ignoredIndexes = new BitSet(this.names.length);
+        if (nameOverrides == null) {
+            this.externalNames = null;
+        } else {
+            this.externalNames = nameOverrides.isEmpty() ? NO_NAMES : new String[this.names.length];
+        }
+        int index = 0;
+        for (String name : allNames) {
+            this.names[index] = name.intern();
+            if (!includedNames.contains(name)) {
+                this.ignoredIndexes.set(index);
+            } else if (this.externalNames != null && this.externalNames.length != 0 && nameOverrides.get(name) != null) {
+                this.externalNames[index] = nameOverrides.get(name).intern();
+            }
+            index++;
+        }
+    }
+
+    /**
+     * Create the index for the introspected class.
+     *
+     * @param beanDescription jackson's introspection result for the targeted class
+     * @param config jackson configuration to consider for the explicitly ignored properties
+     * @return created property index
+     */
+    static PropertyIndex of(BeanDescription beanDescription, SerializationConfig config) {
+        // some kinds of field ignorals are only available via an annotation introspector (or a config override)
+        JsonIgnoreProperties.Value ignorals = config.getDefaultPropertyIgnorals(beanDescription.getBeanClass(), beanDescription.getClassInfo());
+        Set<String> ignoredNames = ignorals == null ? Collections.emptySet() : new HashSet<>(ignorals.getIgnored());
+        // other kinds of field ignorals are handled implicitly, i.e. are only available by way of being absent
+        Set<String> includedNames = new HashSet<>();
+        // the external names already consider any naming strategy as well as explicit renamings
+        Map<String, String> nameOverrides = new HashMap<>();
+        for (BeanPropertyDefinition propertyDefinition : beanDescription.findProperties()) {
+            String internalName = propertyDefinition.getInternalName();
+            if (ignoredNames.contains(internalName)) {
+                continue;
+            }
+            // conflicting explicit names on field and getter result in separate properties, the field's one is representing the field
+            if (includedNames.add(internalName) || propertyDefinition.hasField()) {
+                if (internalName.equals(propertyDefinition.getName())) {
+                    nameOverrides.remove(internalName);
+                } else {
+                    nameOverrides.put(internalName, propertyDefinition.getName());
+                }
+            }
+        }
+        return new PropertyIndex(includedNames, ignoredNames, nameOverrides);
+    }
+
+    /**
+     * Create the index for a class from the properties of the bean serializer the mapper uses for it. The serializer's properties already
+     * reflect all (explicit and implicit) ignorals, the external names as well as any {@code BeanSerializerModifier} registered with the mapper.
+     *
+     * @param serializer jackson's serializer for the targeted class
+     * @param config jackson configuration to consider when deriving the internal property names from getter methods
+     * @return created property index
+     */
+    static PropertyIndex of(BeanSerializerBase serializer, SerializationConfig config) {
+        boolean stdBeanNaming = config.isEnabled(MapperFeature.USE_STD_BEAN_NAMING);
+        Set<String> includedNames = new HashSet<>();
+        Map<String, String> nameOverrides = new HashMap<>();
+        Iterator<PropertyWriter> propertyWriters = serializer.properties();
+        while (propertyWriters.hasNext()) {
+            PropertyWriter propertyWriter = propertyWriters.next();
+            String internalName = PropertyIndex.getInternalName(propertyWriter.getMember(), stdBeanNaming);
+            if (internalName != null && includedNames.add(internalName) && !internalName.equals(propertyWriter.getName())) {
+                nameOverrides.put(internalName, propertyWriter.getName());
+            }
+        }
+        // explicitly ignored properties are simply absent from the serializer
+        return new PropertyIndex(includedNames, Collections.emptySet(), nameOverrides);
+    }
+
+    /**
+     * Determine the internal name of the property being represented by the given member, in the same way as jackson's introspection does.
+     *
+     * @param member field or getter method being accessed by a property's serializer (may be {@code null} for virtual properties)
+     * @param stdBeanNaming whether {@code MapperFeature.USE_STD_BEAN_NAMING} is enabled
+     * @return internal property name (or {@code null} for virtual properties)
+     */
+    private static String getInternalName(AnnotatedMember member, boolean stdBeanNaming) {
+        if (member instanceof AnnotatedMethod) {
+            String getterBasedName = BeanUtil.okNameForGetter((AnnotatedMethod) member, stdBeanNaming);
+            // an explicitly annotated method not following the getter naming conventions is a property of its own
+            return getterBasedName == null ? member.getName() : getterBasedName;
+        }
+        return member == null ? null : member.getName();
+    }
+
+    /**
+     * Check whether the property with the given internal name is included, i.e. it is neither explicitly nor implicitly ignored.
+     *
+     * @param internalName name of the property (as declared in the class)
+     * @return whether the property should be included
+     */
+    boolean isIncluded(String internalName) {
+        int index = Arrays.binarySearch(this.names, internalName);
+        return index >= 0 && !this.ignoredIndexes.get(index);
+    }
+
+    /**
+     * Indicate whether the external names of the included properties are known, i.e. {@link #getNameOverride(String)} may be used.
+     *
+     * @return whether the external names are available
+     */
+    boolean hasExternalNames() {
+        return this.externalNames != null;
+    }
+
+    /**
+     * Look-up the external name of the included property with the given internal name, if it differs from the internal one.
+     *
+     * @param internalName name of the property (as declared in the class)
+     * @return external name (or {@code null} if it is the same as the internal name or unknown)
+     */
+    String getNameOverride(String internalName) {
+        if (this.externalNames == null || this.externalNames.length == 0) {
+            return null;
+        }
+        int index = Arrays.binarySearch(this.names, internalName);
+        return index < 0 ? null : this.externalNames[index];
+    }
+
+    /**
+     * Collect the internal names of all properties that are being included.
+     *
+     * @return included properties' names
+     */
+    Set<String> getIncludedNames() {
+        return this.collectNames(false);
+    }
+
+    /**
+     * Collect the names of all properties that are being explicitly ignored, e.g. via {@code JsonIgnoreProperties}.
+     *
+     * @return explicitly ignored properties' names
+     */
+    Set<String> getIgnoredNames() {
+        return this.collectNames(true);
+    }
+
+    /**
+     * Collect the names of either all included or all explicitly ignored properties.
+     *
+     * @param ignored whether the explicitly ignored properties' names should be collected
+     * @return selected properties' names
+     */
+    private Set<String> collectNames(boolean ignored) {
+        Set<String> selectedNames = new HashSet<>();
+        for (int index = 0; index < this.names.length; index++) {
+            if (this.ignoredIndexes.get(index) == ignored) {
+                selectedNames.add(this.names[index]);
+            }
+        }
+        return Collections.unmodifiableSet(selectedNames);
+    }
+}
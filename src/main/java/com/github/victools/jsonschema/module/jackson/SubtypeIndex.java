@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Serializable index of the concrete subtypes of polymorphic classes (i.e. those with a {@link JsonTypeInfo} annotation on themselves or one of
+ * their super types), as an alternative to the reflection based look-up of subtypes via jackson's {@code JsonSubTypes} annotations.
+ * <br>
+ * An index is meant to be created at build time via {@link #of(Collection)} or {@link #of(String)} and written to a file via
+ * {@link #writeTo(OutputStream)}. At runtime, it can then be read via {@link #readFrom(InputStream)} and handed to
+ * {@link JacksonModule#withSubtypeIndex(SubtypeIndex)}. For each class covered by the index, its subtypes are being taken from the index
+ * instead, i.e. subtypes that are only registered with the {@code ObjectMapper} are then not being considered for it.
+ */
+public final class SubtypeIndex {
+
+    private static final int MAGIC_NUMBER = 0x4A535354;
+    private static final int FORMAT_VERSION = 1;
+
+    private final Map<String, List<String>> subtypeNames;
+
+    /**
+     * Constructor.
+     *
+     * @param subtypeNames names of the concrete subtypes by the name of their polymorphic super type
+     */
+    private SubtypeIndex(Map<String, List<String>> subtypeNames) {
+        this.subtypeNames = subtypeNames;
+    }
+
+    /**
+     * Create the index for the given classes, covering each of them that is polymorphic and listing all the given concrete classes extending or
+     * implementing it. Mix-ins are not being considered here, i.e. classes that are only polymorphic due to a mix-in are not being covered.
+     *
+     * @param classes all classes to consider, e.g. a whole package
+     * @return created index
+     */
+    public static SubtypeIndex of(Collection<? extends Class<?>> classes) {
+        List<Class<?>> concreteClasses = new ArrayList<>();
+        for (Class<?> type : classes) {
+            if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+                concreteClasses.add(type);
+            }
+        }
+        concreteClasses.sort(Comparator.comparing(Class::getName));
+        Map<String, List<String>> subtypeNames = new TreeMap<>();
+        for (Class<?> type : classes) {
+            if (!SubtypeIndex.isPolymorphic(type)) {
+                continue;
+            }
+            List<String> names = new ArrayList<>();
+            for (Class<?> candidate : concreteClasses) {
+                if (candidate != type && type.isAssignableFrom(candidate)) {
+                    names.add(candidate.getName());
+                }
+            }
+            subtypeNames.put(type.getName(), Collections.unmodifiableList(names));
+        }
+        return new SubtypeIndex(subtypeNames);
+    }
+
+    /**
+     * Create the index for all classes in the given package (and its sub-packages), being looked-up via the current thread's context class loader.
+     *
+     * @param packageName name of the package to scan for classes, e.g. {@code "com.example.model"}
+     * @return created index
+     * @see #of(Collection)
+     */
+    public static SubtypeIndex of(String packageName) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = SubtypeIndex.class.getClassLoader();
+        }
+        return SubtypeIndex.of(ClassPathScanner.findClasses(packageName, classLoader));
+    }
+
+    /**
+     * Check whether the given class or any of its super types is annotated with {@link JsonTypeInfo}.
+     *
+     * @param type class to check
+     * @return whether the given class is polymorphic (disregarding any mix-ins)
+     */
+    private static boolean isPolymorphic(Class<?> type) {
+        if (type == null || type == Object.class) {
+            return false;
+        }
+        if (type.isAnnotationPresent(JsonTypeInfo.class) || SubtypeIndex.isPolymorphic(type.getSuperclass())) {
+            return true;
+        }
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            if (SubtypeIndex.isPolymorphic(interfaceType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Getter for the number of polymorphic classes covered by this index.
+     *
+     * @return number of covered classes
+     */
+    public int getBaseTypeCount() {
+        return this.subtypeNames.size();
+    }
+
+    /**
+     * Check whether the given class is covered by this index.
+     *
+     * @param type class to check
+     * @return whether the subtypes of the given class should be taken from this index
+     */
+    boolean contains(Class<?> type) {
+        return this.subtypeNames.containsKey(type.getName());
+    }
+
+    /**
+     * Look-up the indexed subtypes of the given class, loading them via the class loader of the given class.
+     *
+     * @param type class to look-up the subtypes for
+     * @return indexed subtypes that could be loaded (or an empty list if the given class is not covered)
+     */
+    List<Class<?>> getSubtypes(Class<?> type) {
+        List<String> names = this.subtypeNames.getOrDefault(type.getName(), Collections.emptyList());
+        List<Class<?>> subtypes = new ArrayList<>(names.size());
+        for (String name : names) {
+            try {
+                subtypes.add(Class.forName(name, false, type.getClassLoader()));
+            } catch (ClassNotFoundException | LinkageError ex) {
+                // the index is outdated, i.e. this subtype does no longer exist
+            }
+        }
+        return subtypes;
+    }
+
+    /**
+     * Write this index in its compact binary form to the given stream. The stream is not being closed.
+     *
+     * @param outputStream stream to write to
+     * @throws IOException when writing to the stream fails
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        output.writeInt(MAGIC_NUMBER);
+        output.writeInt(FORMAT_VERSION);
+        output.writeInt(this.subtypeNames.size());
+        for (Map.Entry<String, List<String>> entry : this.subtypeNames.entrySet()) {
+            output.writeUTF(entry.getKey());
+            output.writeInt(entry.getValue().size());
+            for (String subtypeName : entry.getValue()) {
+                output.writeUTF(subtypeName);
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Read an index in its compact binary form from the given stream. The stream is not being closed.
+     *
+     * @param inputStream stream to read from
+     * @return read index
+     * @throws IOException when reading from the stream fails or the stream does not contain a (compatible) index
+     */
+    public static SubtypeIndex readFrom(InputStream inputStream) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(inputStream));
+        if (input.readInt() != MAGIC_NUMBER) {
+            throw new IOException("Stream does not contain a SubtypeIndex");
+        }
+        int formatVersion = input.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported SubtypeIndex format version: " + formatVersion);
+        }
+        int entryCount = input.readInt();
+        Map<String, List<String>> subtypeNames = new HashMap<>(entryCount * 4 / 3 + 1);
+        for (int entryIndex = 0; entryIndex < entryCount; entryIndex++) {
+            String className = input.readUTF();
+            int subtypeCount = input.readInt();
+            List<String> names = new ArrayList<>(subtypeCount);
+            for (int subtypeIndex = 0; subtypeIndex < subtypeCount; subtypeIndex++) {
+                names.add(input.readUTF());
+            }
+            subtypeNames.put(className, Collections.unmodifiableList(names));
+        }
+        return new SubtypeIndex(subtypeNames);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import java.time.Duration;
+
+/**
+ * Summary of a {@link JacksonModule#warmUp(java.util.Collection) JacksonModule.warmUp()} invocation.
+ */
+public final class WarmUpResult {
+
+    private final int loadedTypeCount;
+    private final Duration duration;
+
+    /**
+     * Constructor.
+     *
+     * @param loadedTypeCount number of types for which the caches were populated
+     * @param duration time it took to populate the caches
+     */
+    WarmUpResult(int loadedTypeCount, Duration duration) {
+        this.loadedTypeCount = loadedTypeCount;
+        this.duration = duration;
+    }
+
+    /**
+     * Getter for the number of types for which the caches were populated.
+     *
+     * @return number of loaded types
+     */
+    public int getLoadedTypeCount() {
+        return this.loadedTypeCount;
+    }
+
+    /**
+     * Getter for the time it took to populate the caches.
+     *
+     * @return warm-up duration
+     */
+    public Duration getDuration() {
+        return this.duration;
+    }
+
+    @Override
+    public String toString() {
+        return "WarmUpResult{loadedTypeCount=" + this.loadedTypeCount + ", duration=" + this.duration + '}';
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test for the {@link AsyncSchemaGenerator}.
+ */
+public class AsyncSchemaGeneratorTest {
+
+    private static SchemaGeneratorConfig createConfig(JacksonModule module) {
+        return new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON)
+                .with(module)
+                .build();
+    }
+
+    @Test
+    public void testGenerateSchema() throws Exception {
+        try (AsyncSchemaGenerator generator = new AsyncSchemaGenerator(AsyncSchemaGeneratorTest.createConfig(new JacksonModule()))) {
+            ObjectNode result = generator.generateSchema(TestClass.class).get(10, TimeUnit.SECONDS);
+
+            JsonNode expectedSchema = new SchemaGenerator(AsyncSchemaGeneratorTest.createConfig(new JacksonModule())).generateSchema(TestClass.class);
+            Assert.assertEquals(expectedSchema, result);
+        }
+    }
+
+    @Test
+    public void testConcurrentRequestsBeingCoalesced() throws Exception {
+        CountDownLatch generationStarted = new CountDownLatch(1);
+        CountDownLatch releaseGeneration = new CountDownLatch(1);
+        AtomicInteger generationCount = new AtomicInteger();
+        SchemaGenerator schemaGenerator = Mockito.mock(SchemaGenerator.class);
+        Mockito.when(schemaGenerator.generateSchema(TestClass.class)).thenAnswer(invocation -> {
+            generationCount.incrementAndGet();
+            generationStarted.countDown();
+            releaseGeneration.await();
+            return new ObjectMapper().createObjectNode().put("type", "object");
+        });
+        try (AsyncSchemaGenerator generator = new AsyncSchemaGenerator(schemaGenerator)) {
+            CompletableFuture<ObjectNode> firstResult = generator.generateSchema(TestClass.class);
+            CompletableFuture<ObjectNode> secondResult = generator.generateSchema(TestClass.class);
+            Assert.assertTrue(generationStarted.await(10, TimeUnit.SECONDS));
+            Assert.assertEquals(1, generator.getPendingGenerationCount());
+            Assert.assertFalse(firstResult.isDone());
+            // cancelling one request does not affect the other
+            firstResult.cancel(false);
+
+            releaseGeneration.countDown();
+            ObjectNode schema = secondResult.get(10, TimeUnit.SECONDS);
+            Assert.assertEquals("object", schema.get("type").asText());
+            Assert.assertEquals(1, generationCount.get());
+
+            // a subsequent request triggers a new generation, with its own result instance
+            Assert.assertNotSame(schema, generator.generateSchema(TestClass.class).get(10, TimeUnit.SECONDS));
+            Assert.assertEquals(2, generationCount.get());
+            Assert.assertEquals(0, generator.getPendingGenerationCount());
+        }
+    }
+
+    @Test
+    public void testFailedGeneration() throws Exception {
+        SchemaGenerator schemaGenerator = Mockito.mock(SchemaGenerator.class);
+        IllegalStateException failure = new IllegalStateException("test failure");
+        Mockito.when(schemaGenerator.generateSchema(TestClass.class)).thenThrow(failure);
+        AsyncSchemaGenerator generator = new AsyncSchemaGenerator(schemaGenerator)
+                .withExecutor(Runnable::run);
+        try {
+            generator.generateSchema(TestClass.class).get();
+            Assert.fail("expected the generation to fail");
+        } catch (ExecutionException ex) {
+            Assert.assertSame(failure, ex.getCause());
+        }
+        Assert.assertEquals(0, generator.getPendingGenerationCount());
+    }
+
+    @Test
+    public void testWithExecutor() throws Exception {
+        AtomicInteger executionCount = new AtomicInteger();
+        AsyncSchemaGenerator generator = new AsyncSchemaGenerator(AsyncSchemaGeneratorTest.createConfig(new JacksonModule()))
+                .withExecutor(task -> {
+                    executionCount.incrementAndGet();
+                    task.run();
+                });
+        CompletableFuture<ObjectNode> result = generator.generateSchema(TestClass.class);
+        Assert.assertTrue(result.isDone());
+        Assert.assertNotNull(result.get());
+        Assert.assertEquals(1, executionCount.get());
+    }
+
+    @Test
+    public void testGenerateSchemaAfterClose() throws Exception {
+        AsyncSchemaGenerator generator = new AsyncSchemaGenerator(AsyncSchemaGeneratorTest.createConfig(new JacksonModule()));
+        generator.generateSchema(TestClass.class).get(10, TimeUnit.SECONDS);
+        generator.close();
+        try {
+            generator.generateSchema(TestClass.class).get(10, TimeUnit.SECONDS);
+            Assert.fail("expected the generation to be rejected");
+        } catch (ExecutionException ex) {
+            Assert.assertTrue(ex.getCause() instanceof RejectedExecutionException);
+        }
+        Assert.assertEquals(0, generator.getPendingGenerationCount());
+    }
+
+    @Test
+    public void testCreateDefaultExecutor() throws Exception {
+        ExecutorService executor = AsyncSchemaGenerator.createDefaultExecutor();
+        try {
+            // virtual threads are always daemon threads as well
+            Assert.assertTrue(CompletableFuture.supplyAsync(() -> Thread.currentThread().isDaemon(), executor).get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static class TestClass {
+
+        public String text;
+        public TestClass nested;
+    }
+}
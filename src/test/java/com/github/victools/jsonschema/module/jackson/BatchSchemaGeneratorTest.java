@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+/**
+ * Test for the {@link BatchSchemaGenerator}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class BatchSchemaGeneratorTest {
+
+    private static SchemaGeneratorConfig createConfig(JacksonModule module) {
+        return new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON)
+                .with(module)
+                .build();
+    }
+
+    @Test
+    @Parameters({"1", "2", "10"})
+    public void testGenerate(int parallelism) {
+        JacksonModule module = new JacksonModule();
+        SchemaGeneratorConfig config = BatchSchemaGeneratorTest.createConfig(module);
+        List<Class<?>> rootTypes = Arrays.asList(TestClassA.class, TestClassB.class, TestClassC.class, TestClassA.class);
+        Map<Type, List<BatchGenerationResult>> results = new BatchSchemaGenerator(config)
+                .withParallelism(parallelism)
+                .generate(rootTypes)
+                .collect(Collectors.groupingBy(BatchGenerationResult::getRootType));
+
+        Assert.assertEquals(3, results.size());
+        Assert.assertEquals(2, results.get(TestClassA.class).size());
+        SchemaGenerator sequentialGenerator = new SchemaGenerator(BatchSchemaGeneratorTest.createConfig(new JacksonModule()));
+        for (Map.Entry<Type, List<BatchGenerationResult>> entry : results.entrySet()) {
+            JsonNode expectedSchema = sequentialGenerator.generateSchema(entry.getKey());
+            for (BatchGenerationResult result : entry.getValue()) {
+                Assert.assertTrue(result.isSuccessful());
+                Assert.assertNull(result.getFailure());
+                Assert.assertNotNull(result.getDuration());
+                Assert.assertEquals(expectedSchema, result.getSchema());
+            }
+        }
+        // the shared module's caches are being populated only once per class
+        Assert.assertEquals(3, module.getCacheStatistics().getSize());
+    }
+
+    @Test
+    public void testGenerateWithoutRootTypes() {
+        SchemaGenerator generator = Mockito.mock(SchemaGenerator.class);
+        Assert.assertEquals(0, new BatchSchemaGenerator(generator).generate(Collections.emptyList()).count());
+        Mockito.verifyNoMoreInteractions(generator);
+    }
+
+    @Test
+    public void testGenerateWithFailure() {
+        SchemaGenerator generator = Mockito.mock(SchemaGenerator.class);
+        IllegalArgumentException failure = new IllegalArgumentException("unsupported");
+        Mockito.when(generator.generateSchema(String.class)).thenThrow(failure);
+        Mockito.when(generator.generateSchema(Integer.class)).thenReturn(TextNode.valueOf("schema"));
+
+        Map<Type, BatchGenerationResult> results = new BatchSchemaGenerator(generator)
+                .withExecutor(Runnable::run)
+                .generate(Arrays.asList(String.class, Integer.class))
+                .collect(Collectors.toMap(BatchGenerationResult::getRootType, result -> result));
+        Assert.assertFalse(results.get(String.class).isSuccessful());
+        Assert.assertSame(failure, results.get(String.class).getFailure());
+        Assert.assertNull(results.get(String.class).getSchema());
+        Assert.assertTrue(results.get(Integer.class).isSuccessful());
+        Assert.assertEquals(TextNode.valueOf("schema"), results.get(Integer.class).getSchema());
+    }
+
+    @Test(timeout = 10000)
+    public void testGenerateWithRejectingExecutor() {
+        SchemaGenerator generator = Mockito.mock(SchemaGenerator.class);
+        RejectedExecutionException rejection = new RejectedExecutionException("saturated");
+
+        List<BatchGenerationResult> results = new BatchSchemaGenerator(generator)
+                .withParallelism(2)
+                .withExecutor(worker -> {
+                    throw rejection;
+                })
+                .generate(Arrays.asList(String.class, Integer.class, Long.class))
+                .collect(Collectors.toList());
+        Assert.assertEquals(3, results.size());
+        for (BatchGenerationResult result : results) {
+            Assert.assertFalse(result.isSuccessful());
+            Assert.assertSame(rejection, result.getFailure());
+        }
+        Mockito.verifyZeroInteractions(generator);
+    }
+
+    @Test(timeout = 10000)
+    public void testGenerateWithPartiallyRejectingExecutor() {
+        SchemaGenerator generator = Mockito.mock(SchemaGenerator.class);
+        Mockito.when(generator.generateSchema(Mockito.any(Type.class))).thenReturn(TextNode.valueOf("schema"));
+        AtomicInteger executionCount = new AtomicInteger();
+
+        List<BatchGenerationResult> results = new BatchSchemaGenerator(generator)
+                .withParallelism(3)
+                .withExecutor(worker -> {
+                    if (executionCount.getAndIncrement() != 0) {
+                        throw new RejectedExecutionException("saturated");
+                    }
+                    new Thread(worker).start();
+                })
+                .generate(Arrays.asList(String.class, Integer.class, Long.class))
+                .collect(Collectors.toList());
+        Assert.assertEquals(3, results.size());
+        Assert.assertTrue(results.stream().allMatch(BatchGenerationResult::isSuccessful));
+    }
+
+    @Test
+    public void testGenerateWithParallelismLimit() throws InterruptedException {
+        AtomicInteger concurrentCount = new AtomicInteger();
+        AtomicInteger maximumConcurrentCount = new AtomicInteger();
+        SchemaGenerator generator = Mockito.mock(SchemaGenerator.class);
+        Mockito.when(generator.generateSchema(Mockito.any())).thenAnswer(invocation -> {
+            maximumConcurrentCount.accumulateAndGet(concurrentCount.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            concurrentCount.decrementAndGet();
+            return TextNode.valueOf("schema");
+        });
+        List<Class<?>> rootTypes = Collections.nCopies(20, Object.class);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            long resultCount = new BatchSchemaGenerator(generator)
+                    .withParallelism(3)
+                    .withExecutor(executor)
+                    .generate(rootTypes)
+                    .filter(BatchGenerationResult::isSuccessful)
+                    .count();
+            Assert.assertEquals(20, resultCount);
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(maximumConcurrentCount.get() <= 3);
+        Mockito.verify(generator, Mockito.times(20)).generateSchema(Object.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWithParallelismInvalid() {
+        new BatchSchemaGenerator(Mockito.mock(SchemaGenerator.class)).withParallelism(0);
+    }
+
+    private static class TestClassA {
+
+        @JsonProperty("renamed")
+        public TestClassB reference;
+        @JsonIgnore
+        public String ignored;
+    }
+
+    private static class TestClassB {
+
+        public TestClassC reference;
+        public int number;
+    }
+
+    private static class TestClassC {
+
+        public String text;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for the {@link ClassKeyedCache}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class ClassKeyedCacheTest {
+
+    @Test
+    @Parameters({"true", "false"})
+    public void testGet(boolean weakKeys) {
+        ClassKeyedCache<String> cache = new ClassKeyedCache<>(0, weakKeys);
+        AtomicInteger loadCount = new AtomicInteger();
+        Assert.assertEquals("String", cache.get(String.class, type -> {
+            loadCount.incrementAndGet();
+            return type.getSimpleName();
+        }));
+        Assert.assertEquals("String", cache.get(String.class, type -> {
+            loadCount.incrementAndGet();
+            return "other";
+        }));
+        Assert.assertEquals(1, loadCount.get());
+
+        CacheStatistics statistics = cache.getStatistics();
+        Assert.assertEquals(1, statistics.getHitCount());
+        Assert.assertEquals(1, statistics.getMissCount());
+        Assert.assertEquals(0, statistics.getEvictionCount());
+        Assert.assertEquals(1, statistics.getSize());
+        Assert.assertEquals(0.5, statistics.getHitRate(), 0.0);
+    }
+
+    @Test
+    @Parameters({"true", "false"})
+    public void testGetWithParameter(boolean weakKeys) {
+        ClassKeyedCache<String> cache = new ClassKeyedCache<>(0, weakKeys);
+        AtomicInteger loadCount = new AtomicInteger();
+        Assert.assertEquals("String-1", cache.get(String.class, "-", (type, separator) -> type.getSimpleName() + separator
+                + loadCount.incrementAndGet()));
+        Assert.assertEquals("String-1", cache.get(String.class, "+", (type, separator) -> type.getSimpleName() + separator
+                + loadCount.incrementAndGet()));
+        // both overloads share the same entries
+        Assert.assertEquals("String-1", cache.get(String.class, type -> "other"));
+        Assert.assertEquals("Integer+2", cache.get(Integer.class, "+", (type, separator) -> type.getSimpleName() + separator
+                + loadCount.incrementAndGet()));
+        Assert.assertEquals(2, loadCount.get());
+        Assert.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testGetWithNullValue() {
+        ClassKeyedCache<String> cache = new ClassKeyedCache<>(0, false);
+        AtomicInteger loadCount = new AtomicInteger();
+        Assert.assertNull(cache.get(String.class, type -> {
+            loadCount.incrementAndGet();
+            return null;
+        }));
+        Assert.assertNull(cache.get(String.class, type -> {
+            loadCount.incrementAndGet();
+            return null;
+        }));
+        Assert.assertEquals(1, loadCount.get());
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    @Parameters({"true", "false"})
+    public void testForEach(boolean weakKeys) {
+        ClassKeyedCache<String> cache = new ClassKeyedCache<>(0, weakKeys);
+        cache.get(String.class, Class::getSimpleName);
+        cache.get(Integer.class, type -> null);
+        Map<Class<?>, String> entries = new HashMap<>();
+        cache.forEach(entries::put);
+        Assert.assertEquals(2, entries.size());
+        Assert.assertEquals("String", entries.get(String.class));
+        Assert.assertTrue(entries.containsKey(Integer.class));
+        Assert.assertNull(entries.get(Integer.class));
+    }
+
+    @Test
+    @Parameters({"true", "false"})
+    public void testEviction(boolean weakKeys) {
+        ClassKeyedCache<String> cache = new ClassKeyedCache<>(2, weakKeys);
+        cache.get(String.class, Class::getName);
+        cache.get(Integer.class, Class::getName);
+        cache.get(Long.class, Class::getName);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals(1, cache.getStatistics().getEvictionCount());
+
+        // the oldest entry should have been evicted
+        Assert.assertEquals("reloaded", cache.get(String.class, type -> "reloaded"));
+        Assert.assertEquals(Long.class.getName(), cache.get(Long.class, type -> "reloaded"));
+    }
+
+    @Test
+    public void testClear() {
+        ClassKeyedCache<String> cache = new ClassKeyedCache<>(0, false);
+        cache.get(String.class, Class::getName);
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals("reloaded", cache.get(String.class, type -> "reloaded"));
+    }
+
+    @Test
+    @Parameters({"true", "false"})
+    public void testSoftValues(boolean weakKeys) throws ReflectiveOperationException {
+        ClassKeyedCache<String> cache = new ClassKeyedCache<>(0, weakKeys, true);
+        Assert.assertEquals("String", cache.get(String.class, Class::getSimpleName));
+        Assert.assertNull(cache.get(Integer.class, type -> null));
+        Assert.assertEquals("String", cache.get(String.class, type -> "reloaded"));
+        Assert.assertNull(cache.get(Integer.class, type -> "reloaded"));
+        Assert.assertEquals(2, cache.getStatistics().getHitCount());
+
+        // simulate the garbage collector reclaiming the values
+        Field entriesField = ClassKeyedCache.class.getDeclaredField("entries");
+        entriesField.setAccessible(true);
+        ((Map<?, ?>) entriesField.get(cache)).values().forEach(value -> ((SoftReference<?>) value).clear());
+        Map<Class<?>, String> entries = new HashMap<>();
+        cache.forEach(entries::put);
+        Assert.assertTrue(entries.isEmpty());
+
+        Assert.assertEquals("reloaded", cache.get(String.class, type -> "reloaded"));
+        Assert.assertEquals(1, cache.getStatistics().getEvictionCount());
+        Assert.assertEquals(3, cache.getStatistics().getMissCount());
+    }
+
+    @Test
+    @Parameters({"true", "false"})
+    public void testEvictionAfterSoftValueWasCollected(boolean weakKeys) throws ReflectiveOperationException {
+        ClassKeyedCache<String> cache = new ClassKeyedCache<>(2, weakKeys, true);
+        cache.get(String.class, Class::getName);
+        cache.get(Integer.class, Class::getName);
+
+        // simulate the garbage collector reclaiming the first value, which is then being loaded again
+        Field entriesField = ClassKeyedCache.class.getDeclaredField("entries");
+        entriesField.setAccessible(true);
+        ((Map<?, ?>) entriesField.get(cache)).forEach((key, value) -> {
+            if ("java.lang.String".equals(((SoftReference<?>) value).get())) {
+                ((SoftReference<?>) value).clear();
+            }
+        });
+        Assert.assertEquals("reloaded", cache.get(String.class, type -> "reloaded"));
+        Field insertionOrderField = ClassKeyedCache.class.getDeclaredField("insertionOrder");
+        insertionOrderField.setAccessible(true);
+        Assert.assertEquals(2, ((Collection<?>) insertionOrderField.get(cache)).size());
+
+        // the reloaded entry is the most recent one, i.e. the other one should be evicted first
+        cache.get(Long.class, Class::getName);
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals("reloaded", cache.get(String.class, type -> "other"));
+        Assert.assertEquals("other", cache.get(Integer.class, type -> "other"));
+    }
+
+    @Test
+    @Parameters({"true", "false"})
+    public void testEvict(boolean weakKeys) {
+        Class<?> isolatedType = new IsolatedClassLoader(TestClass.class).loadIsolatedCopy(TestClass.class);
+        Assert.assertNotSame(TestClass.class, isolatedType);
+        ClassKeyedCache<String> cache = new ClassKeyedCache<>(5, weakKeys);
+        cache.get(String.class, Class::getName);
+        cache.get(TestClass.class, type -> "original");
+        cache.get(isolatedType, type -> "isolated");
+
+        Assert.assertEquals(0, cache.evict(new IsolatedClassLoader()));
+        Assert.assertEquals(1, cache.evict(isolatedType.getClassLoader()));
+        Assert.assertEquals(2, cache.size());
+        Assert.assertEquals("original", cache.get(TestClass.class, type -> "reloaded"));
+        Assert.assertEquals("reloaded", cache.get(isolatedType, type -> "reloaded"));
+        // evicting the parent class loader's classes covers those of its descendants as well
+        Assert.assertEquals(2, cache.evict(TestClass.class.getClassLoader()));
+        Assert.assertEquals(1, cache.size());
+        Assert.assertEquals(0, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    @Parameters({"true", "false"})
+    public void testNoClassLoaderLeakOnRedeployment(boolean weakKeys) throws Exception {
+        // the cache class itself being part of a redeployable application, whose class loader must not be retained by the current thread
+        WeakReference<ClassLoader> applicationClassLoader = this.useIsolatedCache(weakKeys);
+        for (int attempt = 0; attempt < 20 && applicationClassLoader.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        Assert.assertNull(applicationClassLoader.get());
+    }
+
+    private WeakReference<ClassLoader> useIsolatedCache(boolean weakKeys) throws ReflectiveOperationException {
+        Class<?>[] cacheClasses = Stream.concat(Stream.of(ClassKeyedCache.class), Stream.of(ClassKeyedCache.class.getDeclaredClasses()))
+                .toArray(Class<?>[]::new);
+        IsolatedClassLoader classLoader = new IsolatedClassLoader(cacheClasses);
+        Class<?> cacheType = classLoader.loadIsolatedCopy(ClassKeyedCache.class);
+        Constructor<?> constructor = cacheType.getDeclaredConstructor(int.class, boolean.class);
+        constructor.setAccessible(true);
+        Object cache = constructor.newInstance(0, weakKeys);
+        Method getMethod = cacheType.getDeclaredMethod("get", Class.class, Function.class);
+        getMethod.setAccessible(true);
+        Function<Class<?>, String> loader = Class::getSimpleName;
+        Assert.assertEquals("String", getMethod.invoke(cache, String.class, loader));
+        Assert.assertEquals("String", getMethod.invoke(cache, String.class, loader));
+        return new WeakReference<>(classLoader);
+    }
+
+    @Test
+    public void testIsLoadedBy() {
+        ClassLoader isolatedClassLoader = new IsolatedClassLoader(TestClass.class);
+        Class<?> isolatedType = ((IsolatedClassLoader) isolatedClassLoader).loadIsolatedCopy(TestClass.class);
+        Assert.assertTrue(ClassKeyedCache.isLoadedBy(isolatedType, isolatedClassLoader));
+        Assert.assertTrue(ClassKeyedCache.isLoadedBy(isolatedType, TestClass.class.getClassLoader()));
+        Assert.assertFalse(ClassKeyedCache.isLoadedBy(TestClass.class, isolatedClassLoader));
+        Assert.assertFalse(ClassKeyedCache.isLoadedBy(String.class, isolatedClassLoader));
+        Assert.assertFalse(ClassKeyedCache.isLoadedBy(null, isolatedClassLoader));
+    }
+
+    public static class TestClass {
+    }
+}
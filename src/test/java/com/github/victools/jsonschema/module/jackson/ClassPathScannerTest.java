@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.notification.RunListener;
+
+/**
+ * Test for the {@link ClassPathScanner}.
+ */
+public class ClassPathScannerTest {
+
+    @Test
+    public void testFindClassesInDirectories() {
+        List<Class<?>> classes = ClassPathScanner.findClasses("com.github.victools.jsonschema.module.jackson",
+                ClassPathScannerTest.class.getClassLoader());
+
+        Assert.assertTrue(classes.contains(JacksonModule.class));
+        Assert.assertTrue(classes.contains(ClassPathScannerTest.class));
+        Assert.assertTrue(classes.stream().noneMatch(Class::isAnonymousClass));
+        Assert.assertTrue(classes.stream().noneMatch(Class::isAnnotation));
+    }
+
+    @Test
+    public void testFindClassesInJar() {
+        List<Class<?>> classes = ClassPathScanner.findClasses("org.junit.runner", ClassPathScannerTest.class.getClassLoader());
+
+        Assert.assertTrue(classes.contains(JUnitCore.class));
+        // sub-packages are being included as well
+        Assert.assertTrue(classes.contains(RunListener.class));
+    }
+
+    @Test
+    public void testFindClassesInUnknownPackage() {
+        Assert.assertTrue(ClassPathScanner.findClasses("com.example.unknown", ClassPathScannerTest.class.getClassLoader()).isEmpty());
+    }
+}
@@ -29,6 +29,7 @@ import com.github.victools.jsonschema.generator.SchemaKeyword;
 import com.github.victools.jsonschema.generator.SchemaVersion;
 import com.github.victools.jsonschema.generator.TypeContext;
 import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
+import java.io.IOException;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.junit.Assert;
@@ -78,6 +79,20 @@ public class CustomEnumJsonValueDefinitionProviderTest {
         Assert.assertEquals("json-value-ENTRY2", arrayNode.get(1).asText());
     }
 
+    @Test
+    public void testProvideCustomSchemaDefinitionRepeatedly() {
+        ResolvedType type = this.typeContext.resolve(EnumWithJsonValue.class);
+        CustomDefinition firstResult = this.definitionProvider.provideCustomSchemaDefinition(type, this.generationContext);
+        // modifying the returned node should not have any effect on subsequent results
+        firstResult.getValue().put("title", "modified");
+        CustomDefinition secondResult = this.definitionProvider.provideCustomSchemaDefinition(type, this.generationContext);
+        Assert.assertNotSame(firstResult.getValue(), secondResult.getValue());
+        Assert.assertEquals(2, secondResult.getValue().size());
+        Assert.assertFalse(secondResult.getValue().has("title"));
+        // the members should have been resolved only once
+        Mockito.verify(this.generationContext, Mockito.times(1)).getTypeContext();
+    }
+
     public Object[] parametersForTestProvideForInvalidTargetType() {
         return new Object[][]{
             {Enum.class},
@@ -85,7 +100,9 @@ public class CustomEnumJsonValueDefinitionProviderTest {
             {EmptyEnumWithJsonValue.class},
             {EnumWithInvalidJsonValue.class},
             {EnumWithInactiveJsonValue.class},
-            {EnumWithTwoJsonValues.class}};
+            {EnumWithTwoJsonValues.class},
+            {EnumWithFailingJsonValue.class},
+            {EnumWithCheckedExceptionInJsonValue.class}};
     }
 
     @Test
@@ -95,6 +112,11 @@ public class CustomEnumJsonValueDefinitionProviderTest {
         Assert.assertNull(result);
     }
 
+    @Test(expected = StackOverflowError.class)
+    public void testProvideWithErrorInJsonValue() {
+        this.definitionProvider.provideCustomSchemaDefinition(this.typeContext.resolve(EnumWithErrorInJsonValue.class), this.generationContext);
+    }
+
     public Object[] parametersForTestGetJsonValueAnnotatedMethod() {
         return new Object[][]{
             {Enum.class, null},
@@ -166,6 +188,33 @@ public class CustomEnumJsonValueDefinitionProviderTest {
         }
     }
 
+    private static enum EnumWithFailingJsonValue {
+        ENTRY;
+
+        @JsonValue
+        public String getJsonValue() {
+            throw new IllegalStateException("no value");
+        }
+    }
+
+    private static enum EnumWithCheckedExceptionInJsonValue {
+        ENTRY;
+
+        @JsonValue
+        public String getJsonValue() throws IOException {
+            throw new IOException("no value");
+        }
+    }
+
+    private static enum EnumWithErrorInJsonValue {
+        ENTRY;
+
+        @JsonValue
+        public String getJsonValue() {
+            throw new StackOverflowError();
+        }
+    }
+
     private static enum EnumWithJsonValue {
         ENTRY1, ENTRY2;
 
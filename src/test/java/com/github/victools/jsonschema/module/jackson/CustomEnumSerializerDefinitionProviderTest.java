@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.github.victools.jsonschema.generator.CustomDefinition;
+import com.github.victools.jsonschema.generator.SchemaGenerationContext;
+import com.github.victools.jsonschema.generator.SchemaKeyword;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.generator.TypeContext;
+import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mockito;
+
+/**
+ * Test for the {@link CustomEnumSerializerDefinitionProvider}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class CustomEnumSerializerDefinitionProviderTest {
+
+    private final TypeContext typeContext = TypeContextFactory.createDefaultTypeContext();
+    private final List<Class<?>> createdDefinitions = new ArrayList<>();
+    private CustomEnumSerializerDefinitionProvider definitionProvider;
+    private ObjectMapper objectMapper;
+    private SchemaGenerationContext generationContext;
+
+    @Before
+    public void setUp() {
+        this.definitionProvider = new CustomEnumSerializerDefinitionProvider(new ClassKeyedCache<>(0, false), new JacksonModuleListener() {
+            @Override
+            public void onEnumDefinitionCreated(Class<?> enumType, boolean created) {
+                CustomEnumSerializerDefinitionProviderTest.this.createdDefinitions.add(enumType);
+            }
+        });
+        this.objectMapper = new ObjectMapper();
+        this.generationContext = Mockito.mock(SchemaGenerationContext.class, Answers.RETURNS_DEEP_STUBS);
+        Mockito.when(this.generationContext.getTypeContext()).thenReturn(this.typeContext);
+        Mockito.when(this.generationContext.getGeneratorConfig().getObjectMapper()).thenAnswer(_invocation -> this.objectMapper);
+        Mockito.when(this.generationContext.getGeneratorConfig().createObjectNode())
+                .thenAnswer(_invocation -> this.objectMapper.createObjectNode());
+        Mockito.when(this.generationContext.getGeneratorConfig().createArrayNode())
+                .thenAnswer(_invocation -> this.objectMapper.createArrayNode());
+        Mockito.when(this.generationContext.getKeyword(Mockito.any()))
+                .thenAnswer(invocation -> ((SchemaKeyword) invocation.getArgument(0)).forVersion(SchemaVersion.DRAFT_2019_09));
+    }
+
+    private ObjectNode provideDefinitionNode(Class<?> erasedType) {
+        ResolvedType type = this.typeContext.resolve(erasedType);
+        CustomDefinition result = this.definitionProvider.provideCustomSchemaDefinition(type, this.generationContext);
+        Assert.assertNotNull(result);
+        Assert.assertEquals(CustomDefinition.DefinitionType.STANDARD, result.getDefinitionType());
+        Assert.assertTrue(result.shouldIncludeAttributes());
+        return result.getValue();
+    }
+
+    private static String keyword(SchemaKeyword keyword) {
+        return keyword.forVersion(SchemaVersion.DRAFT_2019_09);
+    }
+
+    private static void assertDefinition(ObjectNode definition, SchemaKeyword expectedType, Object... expectedValues) {
+        Assert.assertEquals(2, definition.size());
+        Assert.assertEquals(keyword(expectedType), definition.get(keyword(SchemaKeyword.TAG_TYPE)).asText());
+        String expectedEnum = new ObjectMapper().valueToTree(Arrays.asList(expectedValues)).toString();
+        Assert.assertEquals(expectedEnum, definition.get(keyword(SchemaKeyword.TAG_ENUM)).toString());
+    }
+
+    @Test
+    public void testProvideCustomSchemaDefinition() {
+        ObjectNode definition = this.provideDefinitionNode(EnumWithJsonProperty.class);
+        assertDefinition(definition, SchemaKeyword.TAG_TYPE_STRING, "first-entry", "ENTRY2", "third-entry");
+    }
+
+    @Test
+    public void testProvideCustomSchemaDefinitionUsingToString() {
+        this.objectMapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+        ObjectNode definition = this.provideDefinitionNode(EnumWithJsonProperty.class);
+        assertDefinition(definition, SchemaKeyword.TAG_TYPE_STRING, "entry1", "entry2", "entry3");
+    }
+
+    @Test
+    public void testProvideCustomSchemaDefinitionUsingIndex() {
+        this.objectMapper.enable(SerializationFeature.WRITE_ENUMS_USING_INDEX);
+        ObjectNode definition = this.provideDefinitionNode(EnumWithJsonProperty.class);
+        assertDefinition(definition, SchemaKeyword.TAG_TYPE_INTEGER, 0, 1, 2);
+    }
+
+    @Test
+    public void testProvideCustomSchemaDefinitionWithNumberShape() {
+        ObjectNode definition = this.provideDefinitionNode(EnumWithNumberShape.class);
+        assertDefinition(definition, SchemaKeyword.TAG_TYPE_INTEGER, 0, 1);
+    }
+
+    @Test
+    public void testProvideCustomSchemaDefinitionRepeatedly() {
+        ObjectNode firstResult = this.provideDefinitionNode(EnumWithJsonProperty.class);
+        // modifying the returned node should not have any effect on subsequent results
+        firstResult.put("title", "modified");
+        ObjectNode secondResult = this.provideDefinitionNode(EnumWithJsonProperty.class);
+        Assert.assertNotSame(firstResult, secondResult);
+        Assert.assertFalse(secondResult.has("title"));
+        // the definition should have been created only once
+        Assert.assertEquals(Arrays.asList(EnumWithJsonProperty.class), this.createdDefinitions);
+    }
+
+    public Object[] parametersForTestProvideForInvalidTargetType() {
+        return new Object[][]{
+            {Enum.class},
+            {String.class},
+            {EmptyEnum.class},
+            {EnumWithJsonValue.class},
+            {EnumWithCustomSerializer.class},
+            {EnumWithObjectShape.class}};
+    }
+
+    @Test
+    @Parameters
+    public void testProvideForInvalidTargetType(Class<?> erasedType) {
+        ResolvedType type = this.typeContext.resolve(erasedType);
+        Assert.assertNull(this.definitionProvider.provideCustomSchemaDefinition(type, this.generationContext));
+        Assert.assertNull(this.definitionProvider.provideCustomSchemaDefinition(type, this.generationContext));
+        // the (failed) look-up of an enum's serialized values should have been performed only once
+        Assert.assertTrue(this.createdDefinitions.size() <= 1);
+    }
+
+    private static enum EmptyEnum {
+    }
+
+    private static enum EnumWithJsonProperty {
+        @JsonProperty("first-entry")
+        ENTRY1,
+        ENTRY2,
+        @JsonProperty("third-entry")
+        ENTRY3;
+
+        @Override
+        public String toString() {
+            return this.name().toLowerCase();
+        }
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.NUMBER)
+    private static enum EnumWithNumberShape {
+        ENTRY1, ENTRY2;
+    }
+
+    @JsonFormat(shape = JsonFormat.Shape.OBJECT)
+    private static enum EnumWithObjectShape {
+        ENTRY1, ENTRY2;
+    }
+
+    @JsonSerialize(using = ToStringSerializer.class)
+    private static enum EnumWithCustomSerializer {
+        ENTRY1, ENTRY2;
+    }
+
+    private static enum EnumWithJsonValue {
+        ENTRY1, ENTRY2;
+
+        @JsonValue
+        public String getJsonValue() {
+            return "json-value-" + this.name();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for the {@link DefaultPropertyDetector}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class DefaultPropertyDetectorTest {
+
+    Object parametersForTestCreatePropertyIndexMatchingIntrospection() {
+        return new Object[]{
+            PlainClass.class,
+            PlainSubClass.class,
+            PlainInterface.class,
+            java.util.Date.class,
+            java.util.UUID.class,
+            java.util.ArrayList.class,
+            java.util.HashMap.class,
+            String.class,
+            java.time.LocalDate.class,
+            Thread.class
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testCreatePropertyIndexMatchingIntrospection(Class<?> type) {
+        SerializationConfig config = new ObjectMapper().getSerializationConfig();
+        Assert.assertTrue(DefaultPropertyDetector.isApplicable(type, config));
+
+        BeanDescription beanDescription = config.introspect(config.constructType(type));
+        Assert.assertEquals(PropertyIndex.of(beanDescription, config).getIncludedNames(),
+                DefaultPropertyDetector.createPropertyIndex(type).getIncludedNames());
+    }
+
+    Object parametersForTestIsApplicableWithAnnotations() {
+        return new Object[]{
+            ClassWithAnnotation.class,
+            ClassWithAnnotatedField.class,
+            ClassWithAnnotatedMethod.class,
+            SubClassOfAnnotatedClass.class,
+            ClassImplementingAnnotatedInterface.class
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testIsApplicableWithAnnotations(Class<?> type) {
+        Assert.assertFalse(DefaultPropertyDetector.isApplicable(type, new ObjectMapper().getSerializationConfig()));
+    }
+
+    @Test
+    public void testIsApplicableWithMixIn() {
+        ObjectMapper mapper = new ObjectMapper().addMixIn(PlainClass.class, ClassWithAnnotation.class);
+        Assert.assertFalse(DefaultPropertyDetector.isApplicable(PlainClass.class, mapper.getSerializationConfig()));
+        Assert.assertFalse(DefaultPropertyDetector.isApplicable(PlainSubClass.class, mapper.getSerializationConfig()));
+        Assert.assertTrue(DefaultPropertyDetector.isApplicable(PlainInterface.class, mapper.getSerializationConfig()));
+    }
+
+    @Test
+    public void testIsApplicableWithConfigOverride() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configOverride(PlainClass.class).setIsIgnoredType(Boolean.FALSE);
+        Assert.assertFalse(DefaultPropertyDetector.isApplicable(PlainClass.class, mapper.getSerializationConfig()));
+    }
+
+    @Test
+    public void testIsApplicableWithNamingStrategy() {
+        ObjectMapper mapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        Assert.assertFalse(DefaultPropertyDetector.isApplicable(PlainClass.class, mapper.getSerializationConfig()));
+    }
+
+    @Test
+    public void testIsApplicableWithVisibility() {
+        ObjectMapper mapper = new ObjectMapper().setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        Assert.assertFalse(DefaultPropertyDetector.isApplicable(PlainClass.class, mapper.getSerializationConfig()));
+
+        mapper = new ObjectMapper().disable(MapperFeature.AUTO_DETECT_GETTERS);
+        Assert.assertFalse(DefaultPropertyDetector.isApplicable(PlainClass.class, mapper.getSerializationConfig()));
+    }
+
+    public static class PlainClass {
+
+        public String publicField;
+        public transient String publicTransientField;
+        public static String publicStaticField;
+        protected String protectedField;
+        private String privateFieldWithGetter;
+        private boolean privateFieldWithIsGetter;
+        private Boolean privateFieldWithBoxedIsGetter;
+        private String privateFieldWithSetter;
+        private String privateFieldWithPrivateSetter;
+        private String url;
+        private String privateField;
+
+        public String getPrivateFieldWithGetter() {
+            return this.privateFieldWithGetter;
+        }
+
+        public boolean isPrivateFieldWithIsGetter() {
+            return this.privateFieldWithIsGetter;
+        }
+
+        public Boolean isPrivateFieldWithBoxedIsGetter() {
+            return this.privateFieldWithBoxedIsGetter;
+        }
+
+        public void setPrivateFieldWithSetter(String value) {
+            this.privateFieldWithSetter = value;
+        }
+
+        private void setPrivateFieldWithPrivateSetter(String value) {
+            this.privateFieldWithPrivateSetter = value;
+        }
+
+        public String getURL() {
+            return this.url;
+        }
+
+        public String isNotAGetter() {
+            return null;
+        }
+
+        public void getNothing() {
+            // not a getter either
+        }
+
+        public String getWithParameter(int index) {
+            return null;
+        }
+
+        public static String getStaticValue() {
+            return null;
+        }
+    }
+
+    public static class PlainSubClass extends PlainClass implements PlainInterface {
+
+        public int subClassField;
+
+        @Override
+        public String getInterfaceValue() {
+            return null;
+        }
+    }
+
+    public interface PlainInterface {
+
+        String getInterfaceValue();
+    }
+
+    @JsonIgnoreProperties("field")
+    public static class ClassWithAnnotation {
+
+        public String field;
+    }
+
+    public static class ClassWithAnnotatedField {
+
+        @JsonIgnore
+        public String field;
+    }
+
+    public static class ClassWithAnnotatedMethod {
+
+        @JsonProperty("value")
+        public String getField() {
+            return null;
+        }
+    }
+
+    public static class SubClassOfAnnotatedClass extends ClassWithAnnotation {
+    }
+
+    public interface AnnotatedInterface {
+
+        @JsonIgnore
+        String getValue();
+    }
+
+    public static class ClassImplementingAnnotatedInterface implements AnnotatedInterface {
+
+        @Override
+        public String getValue() {
+            return null;
+        }
+    }
+}
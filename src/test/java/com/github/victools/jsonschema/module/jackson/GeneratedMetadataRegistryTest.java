@@ -0,0 +1,138 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for the {@link GeneratedMetadataRegistry} class.
+ */
+public class GeneratedMetadataRegistryTest {
+
+    @Test
+    public void testLoad() {
+        GeneratedMetadataRegistry registry = GeneratedMetadataRegistry.load(GeneratedMetadataRegistryTest.class.getClassLoader());
+        // the registration of a not existing class is being skipped
+        Assert.assertEquals(2, registry.size());
+        Assert.assertNotNull(registry.get(TestClass.class));
+        Assert.assertNotNull(registry.get(TestEnum.class));
+        Assert.assertNull(registry.get(String.class));
+    }
+
+    @Test
+    public void testEntry() {
+        GeneratedMetadataRegistry.Entry entry = new GeneratedMetadataRegistry(Collections.singleton(new TestClassMetadata())).get(TestClass.class);
+        Assert.assertEquals("generated class description", entry.getClassDescription());
+        Assert.assertNull(entry.getEnumJsonValues());
+
+        PropertyIndex propertyIndex = entry.getPropertyIndex();
+        Assert.assertEquals(new HashSet<>(Arrays.asList("includedField", "backReferenceField")), propertyIndex.getIncludedNames());
+        Assert.assertEquals(Collections.singleton("ignoredField"), propertyIndex.getIgnoredNames());
+
+        MemberMetadata includedField = entry.createFieldMetadata("includedField", propertyIndex);
+        Assert.assertEquals("generated name", includedField.getNameOverride());
+        Assert.assertEquals("generated description", includedField.getDescription());
+        Assert.assertFalse(includedField.isBackReference());
+        Assert.assertFalse(includedField.isIgnored());
+
+        MemberMetadata backReferenceField = entry.createFieldMetadata("backReferenceField", propertyIndex);
+        Assert.assertNull(backReferenceField.getNameOverride());
+        Assert.assertNull(backReferenceField.getDescription());
+        Assert.assertTrue(backReferenceField.isBackReference());
+        Assert.assertTrue(backReferenceField.isIgnored());
+
+        Assert.assertTrue(entry.createFieldMetadata("otherField", propertyIndex).isIgnored());
+    }
+
+    @Test
+    public void testEntryForEnum() {
+        GeneratedMetadataRegistry.Entry entry = new GeneratedMetadataRegistry(Collections.singleton(new TestEnumMetadata())).get(TestEnum.class);
+        Assert.assertNull(entry.getClassDescription());
+        Assert.assertNull(entry.getPropertyIndex());
+        Assert.assertEquals(Arrays.asList("generated-x", "generated-y"), entry.getEnumJsonValues());
+    }
+
+    static class TestClass {
+
+        public String includedField;
+        public String otherField;
+        public String ignoredField;
+        public TestClass backReferenceField;
+    }
+
+    enum TestEnum {
+        X, Y;
+    }
+
+    public static class TestClassMetadata implements GeneratedTypeMetadata {
+
+        @Override
+        public Class<?> getTargetType() {
+            return TestClass.class;
+        }
+
+        @Override
+        public String getClassDescription() {
+            return "generated class description";
+        }
+
+        @Override
+        public Map<String, String> getPropertyNameOverrides() {
+            return Collections.singletonMap("includedField", "generated name");
+        }
+
+        @Override
+        public Map<String, String> getPropertyDescriptions() {
+            return Collections.singletonMap("includedField", "generated description");
+        }
+
+        @Override
+        public Set<String> getBackReferences() {
+            return Collections.singleton("backReferenceField");
+        }
+
+        @Override
+        public Set<String> getIncludedPropertyNames() {
+            return new HashSet<>(Arrays.asList("includedField", "ignoredField", "backReferenceField"));
+        }
+
+        @Override
+        public Set<String> getIgnoredPropertyNames() {
+            return Collections.singleton("ignoredField");
+        }
+    }
+
+    public static class TestEnumMetadata implements GeneratedTypeMetadata {
+
+        @Override
+        public Class<?> getTargetType() {
+            return TestEnum.class;
+        }
+
+        @Override
+        public List<Object> getEnumJsonValues() {
+            return Arrays.asList("generated-x", "generated-y");
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for the {@link IncrementalSchemaGenerator}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class IncrementalSchemaGeneratorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path cacheDirectory;
+    private JacksonModule module;
+
+    @Before
+    public void setUp() {
+        this.cacheDirectory = this.temporaryFolder.getRoot().toPath().resolve("cache");
+    }
+
+    private IncrementalSchemaGenerator createGenerator(String configurationVersion) {
+        this.module = new JacksonModule();
+        SchemaGeneratorConfigBuilder configBuilder = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7,
+                OptionPreset.PLAIN_JSON)
+                .with(this.module);
+        return new IncrementalSchemaGenerator(configBuilder.build(), this.module, this.cacheDirectory)
+                .withConfigurationVersion(configurationVersion);
+    }
+
+    @Test
+    public void testUnchangedSchemaBeingReused() throws IOException {
+        IncrementalSchemaGenerator firstRun = this.createGenerator("1").load();
+        JsonNode generatedSchema = firstRun.generateSchema(TestRootType.class);
+        Assert.assertEquals(1, firstRun.getGeneratedSchemaCount());
+        Assert.assertEquals(0, firstRun.getReusedSchemaCount());
+        firstRun.save();
+        Assert.assertTrue(Files.exists(this.cacheDirectory.resolve("schemas.cache")));
+        Assert.assertTrue(Files.exists(this.cacheDirectory.resolve("introspection.snapshot")));
+
+        IncrementalSchemaGenerator secondRun = this.createGenerator("1").load();
+        Assert.assertEquals(generatedSchema, secondRun.generateSchema(TestRootType.class));
+        Assert.assertEquals(0, secondRun.getGeneratedSchemaCount());
+        Assert.assertEquals(1, secondRun.getReusedSchemaCount());
+        // no introspection was necessary
+        Assert.assertEquals(0, this.module.getCacheStatistics().getSize());
+    }
+
+    @Test
+    public void testChangedConfigurationInvalidatingCache() throws IOException {
+        IncrementalSchemaGenerator firstRun = this.createGenerator("1").load();
+        firstRun.generateSchema(TestRootType.class);
+        firstRun.save();
+
+        IncrementalSchemaGenerator secondRun = this.createGenerator("2").load();
+        secondRun.generateSchema(TestRootType.class);
+        Assert.assertEquals(1, secondRun.getGeneratedSchemaCount());
+        Assert.assertEquals(0, secondRun.getReusedSchemaCount());
+    }
+
+    Object parametersForTestCachedSchemaValidation() {
+        return new Object[][]{
+            {TestNestedType.class.getName(), 0L, true},
+            {TestNestedType.class.getName(), 1L, false},
+            {TestNestedType.class.getName() + "Removed", 0L, false}
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testCachedSchemaValidation(String className, long fingerprintOffset, boolean expectedToBeReused) throws IOException {
+        IncrementalSchemaGenerator generator = this.createGenerator("1");
+        Files.createDirectories(this.cacheDirectory);
+        try (OutputStream outputStream = Files.newOutputStream(this.cacheDirectory.resolve("schemas.cache"))) {
+            DataOutputStream output = new DataOutputStream(outputStream);
+            output.writeInt(0x4A534943);
+            output.writeInt(1);
+            output.writeLong(generator.calculateConfigurationFingerprint());
+            output.writeInt(1);
+            output.writeUTF(TestRootType.class.getName());
+            output.writeInt(2);
+            output.writeUTF(TestRootType.class.getName());
+            output.writeLong(IntrospectionSnapshot.calculateFingerprint(TestRootType.class));
+            output.writeUTF(className);
+            output.writeLong(IntrospectionSnapshot.calculateFingerprint(TestNestedType.class) + fingerprintOffset);
+            output.writeInt(2);
+            output.writeBytes("{}");
+        }
+        JsonNode schema = generator.load().generateSchema(TestRootType.class);
+
+        Assert.assertEquals(expectedToBeReused, schema.size() == 0);
+        Assert.assertEquals(expectedToBeReused ? 1 : 0, generator.getReusedSchemaCount());
+        Assert.assertEquals(expectedToBeReused ? 0 : 1, generator.getGeneratedSchemaCount());
+    }
+
+    @Test
+    public void testCorruptCacheBeingIgnored() throws IOException {
+        Files.createDirectories(this.cacheDirectory);
+        Files.write(this.cacheDirectory.resolve("schemas.cache"), new byte[]{0x4A, 0x53, 0x49, 0x43, 0, 0});
+        Files.write(this.cacheDirectory.resolve("introspection.snapshot"), new byte[]{1, 2, 3});
+
+        IncrementalSchemaGenerator generator = this.createGenerator("1").load();
+        Assert.assertNotNull(generator.generateSchema(TestRootType.class));
+        Assert.assertEquals(1, generator.getGeneratedSchemaCount());
+        generator.save();
+        Assert.assertEquals(1, this.createGenerator("1").load().generateSchema(TestRootType.class).path("properties").size());
+    }
+
+    Object parametersForTestCorruptEntriesBeingIgnored() {
+        return new Object[][]{
+            {"truncated"},
+            {"invalidRootTypeName"},
+            {"excessiveSchemaLength"},
+            {"negativeSchemaLength"}
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testCorruptEntriesBeingIgnored(String corruption) throws IOException {
+        IncrementalSchemaGenerator firstRun = this.createGenerator("1").load();
+        firstRun.generateSchema(TestRootType.class);
+        firstRun.save();
+        Path cacheFile = this.cacheDirectory.resolve("schemas.cache");
+        byte[] content = Files.readAllBytes(cacheFile);
+        // skip the header (magic number, format version, configuration fingerprint and entry count)
+        int rootTypeNameOffset = 4 + 4 + 8 + 4;
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        int schemaLengthOffset = IncrementalSchemaGeneratorTest.findLastSchemaLengthOffset(buffer);
+        switch (corruption) {
+        case "truncated":
+            content = Arrays.copyOf(content, content.length - 10);
+            break;
+        case "invalidRootTypeName":
+            // 0xFF is not valid in any (modified) UTF-8 sequence
+            content[rootTypeNameOffset + 2] = (byte) 0xFF;
+            break;
+        case "excessiveSchemaLength":
+            buffer.putInt(schemaLengthOffset, Integer.MAX_VALUE - 8);
+            break;
+        case "negativeSchemaLength":
+            buffer.putInt(schemaLengthOffset, -1);
+            break;
+        default:
+            throw new IllegalArgumentException(corruption);
+        }
+        Files.write(cacheFile, content);
+
+        IncrementalSchemaGenerator secondRun = this.createGenerator("1").load();
+        Assert.assertEquals(1, secondRun.generateSchema(TestRootType.class).path("properties").size());
+        Assert.assertEquals(1, secondRun.getGeneratedSchemaCount());
+        Assert.assertEquals(0, secondRun.getReusedSchemaCount());
+    }
+
+    private static int findLastSchemaLengthOffset(ByteBuffer content) {
+        // the last entry's schema is at the very end, directly preceded by its length
+        for (int offset = content.limit() - 4; offset >= 0; offset--) {
+            if (content.getInt(offset) == content.limit() - offset - 4) {
+                return offset;
+            }
+        }
+        throw new IllegalStateException("no schema length found");
+    }
+
+    @Test
+    public void testSnapshotRetainingResultsOfUnchangedClasses() throws IOException {
+        IncrementalSchemaGenerator firstRun = this.createGenerator("1").load();
+        firstRun.generateSchema(TestRootType.class);
+        firstRun.generateSchema(TestOtherRootType.class);
+        firstRun.save();
+
+        IncrementalSchemaGenerator secondRun = this.createGenerator("1").load();
+        secondRun.generateSchema(TestOtherRootType.class);
+        secondRun.save();
+
+        IntrospectionSnapshot snapshot;
+        try (InputStream inputStream = Files.newInputStream(this.cacheDirectory.resolve("introspection.snapshot"))) {
+            snapshot = IntrospectionSnapshot.readFrom(inputStream);
+        }
+        // neither type was introspected in the second run, but the results of both are still relevant
+        Assert.assertEquals(0, this.module.getCacheStatistics().getSize());
+        Assert.assertNotNull(snapshot.getFieldMetadata(TestNestedType.class, null));
+        Assert.assertNotNull(snapshot.getFieldMetadata(TestOtherRootType.class, null));
+        Assert.assertEquals("renamed", snapshot.getFieldMetadata(TestNestedType.class, null).get("value").getNameOverride());
+    }
+
+    private static class TestRootType {
+
+        public TestNestedType nested;
+    }
+
+    private static class TestNestedType {
+
+        @JsonProperty("renamed")
+        public int value;
+    }
+
+    private static class TestOtherRootType {
+
+        public String text;
+    }
+}
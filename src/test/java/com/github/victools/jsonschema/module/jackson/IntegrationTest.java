@@ -19,18 +19,27 @@ package com.github.victools.jsonschema.module.jackson;
 import com.fasterxml.jackson.annotation.JsonClassDescription;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
 import com.fasterxml.jackson.annotation.JsonValue;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.github.victools.jsonschema.generator.OptionPreset;
 import com.github.victools.jsonschema.generator.SchemaGenerator;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaKeyword;
 import com.github.victools.jsonschema.generator.SchemaVersion;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Scanner;
+import org.junit.Assert;
 import org.junit.Test;
 import org.skyscreamer.jsonassert.JSONAssert;
 import org.skyscreamer.jsonassert.JSONCompareMode;
@@ -59,6 +68,90 @@ public class IntegrationTest {
                 loadResource("integration-test-result.json"), rawJsonSchema, JSONCompareMode.STRICT);
     }
 
+    /**
+     * Test the representation of polymorphic types.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testIntegrationWithSubtypes() throws Exception {
+        JacksonModule module = new JacksonModule(JacksonOption.INCLUDE_SUBTYPES);
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerSubtypes(new NamedType(TestSubTypeC.class, "c"));
+        SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(objectMapper, SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON)
+                .with(module)
+                .build();
+        SchemaGenerator generator = new SchemaGenerator(config);
+        JsonNode result = generator.generateSchema(TestClassWithSubtypes.class);
+
+        String rawJsonSchema = result.toString();
+        JSONAssert.assertEquals('\n' + rawJsonSchema + '\n',
+                loadResource("integration-test-result-subtypes.json"), rawJsonSchema, JSONCompareMode.STRICT);
+    }
+
+    /**
+     * Test that the subtypes registered on one mapper are not being considered for another mapper, when both are being used with the same module.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testIntegrationWithSubtypesOfDifferentMappers() throws Exception {
+        JacksonModule module = new JacksonModule(JacksonOption.INCLUDE_SUBTYPES);
+        ObjectMapper plainMapper = new ObjectMapper();
+        ObjectMapper registeringMapper = new ObjectMapper();
+        registeringMapper.registerSubtypes(new NamedType(TestSubTypeC.class, "c"));
+        SchemaGenerator plainGenerator = new SchemaGenerator(new SchemaGeneratorConfigBuilder(plainMapper, SchemaVersion.DRAFT_7,
+                OptionPreset.PLAIN_JSON).with(module).build());
+        SchemaGenerator registeringGenerator = new SchemaGenerator(new SchemaGeneratorConfigBuilder(registeringMapper, SchemaVersion.DRAFT_7,
+                OptionPreset.PLAIN_JSON).with(module).build());
+
+        String plainSchema = plainGenerator.generateSchema(TestClassWithSubtypes.class).toString();
+        String registeringSchema = registeringGenerator.generateSchema(TestClassWithSubtypes.class).toString();
+        String plainSchemaAgain = plainGenerator.generateSchema(TestClassWithSubtypes.class).toString();
+
+        Assert.assertFalse(plainSchema, plainSchema.contains("TestSubTypeC"));
+        JSONAssert.assertEquals('\n' + registeringSchema + '\n',
+                loadResource("integration-test-result-subtypes.json"), registeringSchema, JSONCompareMode.STRICT);
+        Assert.assertEquals(plainSchema, plainSchemaAgain);
+    }
+
+    /**
+     * Test that an enum with a {@link JsonValue} annotated method is being defined only once, even when being referenced from various properties.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testIntegrationWithSharedEnumDefinition() throws Exception {
+        List<Class<?>> createdEnumDefinitions = new ArrayList<>();
+        JacksonModule module = new JacksonModule(JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE)
+                .withListener(new JacksonModuleListener() {
+                    @Override
+                    public void onEnumDefinitionCreated(Class<?> enumType, boolean created) {
+                        createdEnumDefinitions.add(enumType);
+                    }
+                });
+        SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON)
+                .with(module)
+                .build();
+        SchemaGenerator generator = new SchemaGenerator(config);
+        JsonNode result = generator.generateSchema(TestClassWithSharedEnum.class);
+        generator.generateSchema(TestClassWithSharedEnum.class);
+
+        Assert.assertEquals(Collections.singletonList(TestEnumWithJsonValueAnnotation.class), createdEnumDefinitions);
+        JsonNode definitions = result.get(SchemaKeyword.TAG_DEFINITIONS.forVersion(SchemaVersion.DRAFT_7));
+        Assert.assertEquals(1, definitions.size());
+        String reference = "#/definitions/" + definitions.fieldNames().next();
+        JsonNode properties = result.get(SchemaKeyword.TAG_PROPERTIES.forVersion(SchemaVersion.DRAFT_7));
+        Assert.assertEquals(reference, properties.at("/first/$ref").asText());
+        Assert.assertEquals(reference, properties.at("/second/allOf/0/$ref").asText());
+        Assert.assertEquals("second description", properties.at("/second/allOf/1/description").asText());
+        Assert.assertEquals(reference, properties.at("/list/items/$ref").asText());
+        Assert.assertEquals(reference, properties.at("/nested/properties/third/$ref").asText());
+        // each value is being included only once
+        String rawJsonSchema = result.toString();
+        Assert.assertEquals(rawJsonSchema.indexOf("\"entry2\""), rawJsonSchema.lastIndexOf("\"entry2\""));
+    }
+
     private static String loadResource(String resourcePath) throws IOException {
         StringBuilder stringBuilder = new StringBuilder();
         try (InputStream inputStream = IntegrationTest.class
@@ -99,4 +192,77 @@ public class IntegrationTest {
             return this.name().toLowerCase();
         }
     }
+
+    static class TestClassWithSharedEnum {
+
+        public TestEnumWithJsonValueAnnotation first;
+
+        @JsonPropertyDescription("second description")
+        public TestEnumWithJsonValueAnnotation second;
+
+        public List<TestEnumWithJsonValueAnnotation> list;
+
+        public TestNestedClassWithSharedEnum nested;
+    }
+
+    static class TestNestedClassWithSharedEnum {
+
+        public TestEnumWithJsonValueAnnotation third;
+    }
+
+    static class TestClassWithSubtypes {
+
+        public TestSuperType first;
+        public TestSuperType second;
+        public TestSubTypeA subTypeA;
+        public TestConcreteSuperType concrete;
+        public TestSuperTypeWithArrayWrapper wrappedInArray;
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "@type")
+    @JsonSubTypes({
+        @JsonSubTypes.Type(value = TestSubTypeA.class, name = "a"),
+        @JsonSubTypes.Type(TestSubTypeB.class)
+    })
+    interface TestSuperType {
+    }
+
+    static class TestSubTypeA implements TestSuperType {
+
+        public String text;
+    }
+
+    @JsonTypeName("b")
+    static class TestSubTypeB implements TestSuperType {
+
+        public int number;
+    }
+
+    static class TestSubTypeC extends TestSubTypeA {
+
+        public boolean flag;
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.WRAPPER_OBJECT)
+    @JsonSubTypes(@JsonSubTypes.Type(value = TestConcreteSubType.class, name = "sub"))
+    @JsonTypeName("super")
+    static class TestConcreteSuperType {
+
+        public String text;
+    }
+
+    static class TestConcreteSubType extends TestConcreteSuperType {
+
+        public int number;
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.WRAPPER_ARRAY)
+    @JsonSubTypes(@JsonSubTypes.Type(value = TestSubTypeWithArrayWrapper.class, name = "wrapped"))
+    abstract static class TestSuperTypeWithArrayWrapper {
+    }
+
+    static class TestSubTypeWithArrayWrapper extends TestSuperTypeWithArrayWrapper {
+
+        public String text;
+    }
 }
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test for the {@link IntrospectionSnapshot}.
+ */
+public class IntrospectionSnapshotTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static IntrospectionSnapshot.Builder createBuilder() {
+        return new IntrospectionSnapshot.Builder(MapperConfigKey.of(new ObjectMapper()), Collections.emptySet(), null);
+    }
+
+    @Test
+    public void testWriteAndReadRoundTrip() throws IOException {
+        Map<String, MemberMetadata> fieldMetadata = new HashMap<>();
+        fieldMetadata.put("renamed", new MemberMetadata("override", null, false, false));
+        fieldMetadata.put("described", new MemberMetadata(null, "description text", false, false));
+        fieldMetadata.put("backReference", new MemberMetadata(null, null, true, true));
+        IntrospectionSnapshot snapshot = IntrospectionSnapshotTest.createBuilder()
+                .withFieldMetadata(TestClass.class, fieldMetadata)
+                .withEnumValues(TestEnum.class, Arrays.asList("a", 2, 3L, 4.5, 0.1f, true, null))
+                .withEnumValues(TestEnumWithoutValues.class, null)
+                .build();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        snapshot.writeTo(outputStream);
+        IntrospectionSnapshot result = IntrospectionSnapshot.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        Assert.assertEquals(3, result.getClassCount());
+        Map<String, MemberMetadata> resultMetadata = result.getFieldMetadata(TestClass.class, null);
+        Assert.assertEquals(3, resultMetadata.size());
+        Assert.assertEquals("override", resultMetadata.get("renamed").getNameOverride());
+        Assert.assertNull(resultMetadata.get("renamed").getDescription());
+        Assert.assertFalse(resultMetadata.get("renamed").isIgnored());
+        Assert.assertEquals("description text", resultMetadata.get("described").getDescription());
+        Assert.assertTrue(resultMetadata.get("backReference").isBackReference());
+        Assert.assertTrue(resultMetadata.get("backReference").isIgnored());
+        Assert.assertFalse(result.containsEnumValues(TestClass.class));
+
+        Assert.assertTrue(result.containsEnumValues(TestEnum.class));
+        Assert.assertEquals(Arrays.asList("a", 2, 3L, 4.5, 0.1f, true, null), result.getEnumValues(TestEnum.class));
+        Assert.assertNull(result.getFieldMetadata(TestEnum.class, null));
+        Assert.assertTrue(result.containsEnumValues(TestEnumWithoutValues.class));
+        Assert.assertNull(result.getEnumValues(TestEnumWithoutValues.class));
+    }
+
+    @Test
+    public void testUnsupportedEnumValuesBeingSkipped() {
+        IntrospectionSnapshot snapshot = IntrospectionSnapshotTest.createBuilder()
+                .withEnumValues(TestEnum.class, Collections.singletonList(new Object()))
+                .build();
+        Assert.assertEquals(0, snapshot.getClassCount());
+        Assert.assertFalse(snapshot.containsEnumValues(TestEnum.class));
+    }
+
+    @Test
+    public void testStaleEntryBeingIgnored() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(0x4A534A53);
+        output.writeInt(3);
+        output.writeLong(MapperConfigKey.of(new ObjectMapper()).calculateFingerprint());
+        output.writeInt(0);
+        output.writeInt(1);
+        byte[] className = TestClass.class.getName().getBytes(StandardCharsets.UTF_8);
+        output.writeInt(className.length);
+        output.write(className);
+        output.writeLong(IntrospectionSnapshot.calculateFingerprint(TestClass.class) + 1);
+        output.writeInt(0);
+        output.writeBoolean(false);
+        IntrospectionSnapshot result = IntrospectionSnapshot.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        Assert.assertEquals(1, result.getClassCount());
+        Assert.assertNull(result.getFieldMetadata(TestClass.class, null));
+    }
+
+    @Test
+    public void testLongStringsRoundTrip() throws IOException {
+        StringBuilder description = new StringBuilder();
+        while (description.length() <= 70000) {
+            description.append("description text \u00e4 ");
+        }
+        IntrospectionSnapshot snapshot = IntrospectionSnapshotTest.createBuilder()
+                .withFieldMetadata(TestClass.class,
+                        Collections.singletonMap("described", new MemberMetadata(null, description.toString(), false, false)))
+                .build();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        snapshot.writeTo(outputStream);
+        IntrospectionSnapshot result = IntrospectionSnapshot.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        Assert.assertEquals(description.toString(), result.getFieldMetadata(TestClass.class, null).get("described").getDescription());
+    }
+
+    @Test
+    public void testHeaderRoundTrip() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        IntrospectionSnapshot snapshot = new IntrospectionSnapshot.Builder(MapperConfigKey.of(mapper),
+                EnumSet.of(JacksonOption.RESPECT_NAMING_STRATEGY, JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE), null)
+                .build();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        snapshot.writeTo(outputStream);
+        IntrospectionSnapshot result = IntrospectionSnapshot.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        Assert.assertEquals(EnumSet.of(JacksonOption.RESPECT_NAMING_STRATEGY, JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE), result.getOptions());
+        Assert.assertTrue(result.isApplicableTo(MapperConfigKey.of(new ObjectMapper())));
+        Assert.assertFalse(result.isApplicableTo(MapperConfigKey.of(new ObjectMapper().enable(MapperFeature.USE_STD_BEAN_NAMING))));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadingUnknownOption() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(0x4A534A53);
+        output.writeInt(3);
+        output.writeLong(0L);
+        output.writeInt(1);
+        byte[] optionName = "UNKNOWN_OPTION".getBytes(StandardCharsets.UTF_8);
+        output.writeInt(optionName.length);
+        output.write(optionName);
+        output.writeInt(0);
+        IntrospectionSnapshot.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
+    @Test
+    public void testEntriesFromOtherConfigurationNotBeingCombined() {
+        Supplier<IntrospectionSnapshot.Builder> otherConfigBuilder = () -> new IntrospectionSnapshot.Builder(
+                MapperConfigKey.of(new ObjectMapper().enable(MapperFeature.USE_STD_BEAN_NAMING)), Collections.emptySet(), null);
+        IntrospectionSnapshot previous = IntrospectionSnapshotTest.createBuilder()
+                .withEnumValues(TestEnum.class, Collections.singletonList("a"))
+                .build();
+        IntrospectionSnapshot current = IntrospectionSnapshotTest.createBuilder()
+                .withEnumValues(TestEnumWithoutValues.class, null)
+                .build();
+        IntrospectionSnapshot currentWithOtherConfig = otherConfigBuilder.get()
+                .withEnumValues(TestEnumWithoutValues.class, null)
+                .build();
+
+        Assert.assertEquals(2, current.withEntriesFrom(previous, className -> true).getClassCount());
+        Assert.assertEquals(1, currentWithOtherConfig.withEntriesFrom(previous, className -> true).getClassCount());
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadingInvalidStream() throws IOException {
+        IntrospectionSnapshot.readFrom(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}));
+    }
+
+    @Test
+    public void testFingerprintConsideringClassAndSuperClass() {
+        long fingerprint = IntrospectionSnapshot.calculateFingerprint(TestClass.class);
+        Assert.assertEquals(fingerprint, IntrospectionSnapshot.calculateFingerprint(TestClass.class));
+        Assert.assertNotEquals(fingerprint, IntrospectionSnapshot.calculateFingerprint(TestSubClass.class));
+    }
+
+    @Test
+    public void testFingerprintConsideringInterfacesAndFieldTypes() throws IOException {
+        Assert.assertEquals(this.calculateOwnFingerprint(TestClass.class), IntrospectionSnapshot.calculateFingerprint(TestClass.class));
+        Assert.assertNotEquals(this.calculateOwnFingerprint(TestClassWithInterface.class),
+                IntrospectionSnapshot.calculateFingerprint(TestClassWithInterface.class));
+        Assert.assertNotEquals(this.calculateOwnFingerprint(TestClassWithField.class),
+                IntrospectionSnapshot.calculateFingerprint(TestClassWithField.class));
+    }
+
+    @Test
+    public void testFingerprintConsideringMixIns() {
+        ObjectMapper mapperWithMixIn = new ObjectMapper();
+        mapperWithMixIn.addMixIn(TestClass.class, TestMixIn.class);
+        long fingerprint = IntrospectionSnapshot.calculateFingerprint(TestClassWithField.class);
+
+        Assert.assertEquals(fingerprint, IntrospectionSnapshot.calculateFingerprint(TestClassWithField.class,
+                new ObjectMapper().getSerializationConfig()));
+        // the mix-in is registered for the type of the declared field
+        Assert.assertNotEquals(fingerprint, IntrospectionSnapshot.calculateFingerprint(TestClassWithField.class,
+                mapperWithMixIn.getSerializationConfig()));
+        Assert.assertNotEquals(IntrospectionSnapshot.calculateFingerprint(TestClass.class),
+                IntrospectionSnapshot.calculateFingerprint(TestClass.class, mapperWithMixIn.getSerializationConfig()));
+    }
+
+    @Test
+    public void testClassChecksumFromJarBeingEqualToClassFileChecksum() throws IOException, ClassNotFoundException {
+        File jarFile = this.temporaryFolder.newFile("classes.jar");
+        String classFileName = TestClass.class.getName().replace('.', '/') + ".class";
+        try (JarOutputStream jarOutput = new JarOutputStream(new FileOutputStream(jarFile));
+                InputStream classFile = TestClass.class.getClassLoader().getResourceAsStream(classFileName)) {
+            jarOutput.putNextEntry(new JarEntry(classFileName));
+            byte[] buffer = new byte[8192];
+            int readCount;
+            while ((readCount = classFile.read(buffer)) != -1) {
+                jarOutput.write(buffer, 0, readCount);
+            }
+            jarOutput.closeEntry();
+        }
+        try (URLClassLoader jarClassLoader = new URLClassLoader(new URL[]{jarFile.toURI().toURL()}, null)) {
+            Class<?> classFromJar = jarClassLoader.loadClass(TestClass.class.getName());
+
+            Assert.assertNotSame(TestClass.class, classFromJar);
+            Assert.assertNotEquals(0L, IntrospectionSnapshot.calculateClassChecksum(classFromJar));
+            Assert.assertEquals(IntrospectionSnapshot.calculateClassChecksum(TestClass.class),
+                    IntrospectionSnapshot.calculateClassChecksum(classFromJar));
+        }
+    }
+
+    private long calculateOwnFingerprint(Class<?> type) throws IOException {
+        CRC32 classChecksum = new CRC32();
+        try (InputStream classFile = type.getClassLoader().getResourceAsStream(type.getName().replace('.', '/') + ".class")) {
+            int readByte;
+            while ((readByte = classFile.read()) != -1) {
+                classChecksum.update(readByte);
+            }
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(type.getName().getBytes(StandardCharsets.UTF_8));
+        checksum.update(ByteBuffer.allocate(Long.BYTES).putLong(classChecksum.getValue()).array());
+        return checksum.getValue();
+    }
+
+    private static class TestClass {
+    }
+
+    private static class TestSubClass extends TestClass {
+    }
+
+    private interface TestInterface {
+    }
+
+    private interface TestOtherInterface {
+    }
+
+    private static class TestClassWithInterface implements TestInterface {
+    }
+
+    private static class TestClassWithField {
+
+        private TestClass[] field;
+    }
+
+    private abstract static class TestMixIn {
+    }
+
+    private enum TestEnum {
+        A;
+    }
+
+    private enum TestEnumWithoutValues {
+        B;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Helper class loader for tests, defining its own copies of the given classes (e.g. simulating those of a redeployable web application).
+ */
+public class IsolatedClassLoader extends ClassLoader {
+
+    private final Set<String> isolatedClassNames;
+
+    public IsolatedClassLoader(Class<?>... isolatedClasses) {
+        super(IsolatedClassLoader.class.getClassLoader());
+        this.isolatedClassNames = Stream.of(isolatedClasses).map(Class::getName).collect(Collectors.toSet());
+    }
+
+    public Class<?> loadIsolatedCopy(Class<?> isolatedClass) {
+        try {
+            return this.loadClass(isolatedClass.getName());
+        } catch (ClassNotFoundException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!this.isolatedClassNames.contains(name)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (this.getClassLoadingLock(name)) {
+            Class<?> loadedClass = this.findLoadedClass(name);
+            if (loadedClass == null) {
+                byte[] bytecode = IsolatedClassLoader.readBytecode(name);
+                loadedClass = this.defineClass(name, bytecode, 0, bytecode.length);
+            }
+            return loadedClass;
+        }
+    }
+
+    private static byte[] readBytecode(String className) {
+        try (InputStream inputStream = IsolatedClassLoader.class.getClassLoader().getResourceAsStream(className.replace('.', '/') + ".class");
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            byte[] buffer = new byte[4096];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
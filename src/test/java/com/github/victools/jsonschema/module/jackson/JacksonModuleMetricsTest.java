@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.SortedMap;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for the {@link JacksonModuleMetrics}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class JacksonModuleMetricsTest {
+
+    @Test
+    public void testCounters() {
+        JacksonModuleMetrics metrics = new JacksonModuleMetrics();
+        metrics.onCacheMiss(String.class);
+        metrics.onIntrospectionStart(String.class);
+        metrics.onIntrospectionEnd(String.class, 1500L);
+        metrics.onCacheHit(String.class);
+        metrics.onCacheHit(String.class);
+        metrics.onIgnoreDecision(null, true);
+        metrics.onIgnoreDecision(null, false);
+        metrics.onIgnoreDecision(null, false);
+        metrics.onEnumDefinitionCreated(Thread.State.class, true);
+        metrics.onEnumDefinitionCreated(Thread.State.class, false);
+
+        Assert.assertEquals(1, metrics.getIntrospectionCount());
+        Assert.assertEquals(Duration.ofNanos(1500L), metrics.getTotalIntrospectionTime());
+        Assert.assertEquals(2, metrics.getCacheHitCount());
+        Assert.assertEquals(1, metrics.getCacheMissCount());
+        Assert.assertEquals(1, metrics.getIgnoredFieldCount());
+        Assert.assertEquals(2, metrics.getIncludedFieldCount());
+        Assert.assertEquals(1, metrics.getEnumDefinitionCount());
+
+        metrics.reset();
+        Assert.assertEquals(0, metrics.getIntrospectionCount());
+        Assert.assertEquals(0, metrics.getCacheHitCount());
+        Assert.assertTrue(metrics.getSlowestTypes(10).isEmpty());
+        Assert.assertTrue(metrics.getIntrospectionLatencyHistogram().values().stream().allMatch(count -> count == 0L));
+    }
+
+    Object parametersForTestHistogram() {
+        return new Object[][]{
+            {0L, Duration.ofNanos(1000L)},
+            {999L, Duration.ofNanos(1000L)},
+            {1000L, Duration.ofNanos(2000L)},
+            {1999L, Duration.ofNanos(2000L)},
+            {2000L, Duration.ofNanos(4000L)},
+            {5_000_000L, Duration.ofNanos(8_192_000L)},
+            {Long.MAX_VALUE, Duration.ofNanos(Long.MAX_VALUE)}
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testHistogram(long durationNanos, Duration expectedBucketUpperBound) {
+        JacksonModuleMetrics metrics = new JacksonModuleMetrics();
+        metrics.onIntrospectionEnd(String.class, durationNanos);
+
+        SortedMap<Duration, Long> histogram = metrics.getIntrospectionLatencyHistogram();
+        Assert.assertEquals(Long.valueOf(1L), histogram.get(expectedBucketUpperBound));
+        Assert.assertEquals(1L, histogram.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @Test
+    public void testSlowestTypes() {
+        JacksonModuleMetrics metrics = new JacksonModuleMetrics();
+        metrics.onIntrospectionEnd(String.class, 100L);
+        metrics.onIntrospectionEnd(Integer.class, 300L);
+        metrics.onIntrospectionEnd(Long.class, 200L);
+        metrics.onIntrospectionEnd(String.class, 150L);
+
+        Map<Class<?>, Duration> slowestTypes = metrics.getSlowestTypes(2);
+        Assert.assertEquals(Arrays.asList(Integer.class, String.class), new ArrayList<>(slowestTypes.keySet()));
+        Assert.assertEquals(Duration.ofNanos(300L), slowestTypes.get(Integer.class));
+        Assert.assertEquals(Duration.ofNanos(250L), slowestTypes.get(String.class));
+    }
+}
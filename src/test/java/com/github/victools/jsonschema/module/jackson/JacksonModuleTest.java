@@ -16,15 +16,66 @@
 
 package com.github.victools.jsonschema.module.jackson;
 
+import com.fasterxml.classmate.ResolvedType;
+import com.fasterxml.classmate.ResolvedTypeWithMembers;
+import com.fasterxml.classmate.members.ResolvedMethod;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonClassDescription;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.NameTransformer;
 import com.github.victools.jsonschema.generator.ConfigFunction;
+import com.github.victools.jsonschema.generator.CustomDefinitionProviderV2;
 import com.github.victools.jsonschema.generator.FieldScope;
+import com.github.victools.jsonschema.generator.MethodScope;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerationContext;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfig;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
 import com.github.victools.jsonschema.generator.SchemaGeneratorConfigPart;
 import com.github.victools.jsonschema.generator.SchemaGeneratorGeneralConfigPart;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.generator.TypeContext;
 import com.github.victools.jsonschema.generator.TypeScope;
+import com.github.victools.jsonschema.generator.impl.TypeContextFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 import org.junit.Assert;
@@ -42,13 +93,17 @@ public class JacksonModuleTest {
 
     private SchemaGeneratorConfigBuilder configBuilder;
     private SchemaGeneratorConfigPart<FieldScope> fieldConfigPart;
+    private SchemaGeneratorConfigPart<MethodScope> methodConfigPart;
     private SchemaGeneratorGeneralConfigPart typesInGeneralConfigPart;
 
     @Before
     public void setUp() {
         this.configBuilder = Mockito.mock(SchemaGeneratorConfigBuilder.class);
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(new ObjectMapper());
         this.fieldConfigPart = Mockito.spy(new SchemaGeneratorConfigPart<>());
         Mockito.when(this.configBuilder.forFields()).thenReturn(this.fieldConfigPart);
+        this.methodConfigPart = Mockito.spy(new SchemaGeneratorConfigPart<>());
+        Mockito.when(this.configBuilder.forMethods()).thenReturn(this.methodConfigPart);
         this.typesInGeneralConfigPart = Mockito.spy(new SchemaGeneratorGeneralConfigPart());
         Mockito.when(this.configBuilder.forTypesInGeneral()).thenReturn(this.typesInGeneralConfigPart);
     }
@@ -59,7 +114,7 @@ public class JacksonModuleTest {
 
         this.verifyCommonConfigurations();
 
-        Mockito.verifyNoMoreInteractions(this.configBuilder, this.fieldConfigPart, this.typesInGeneralConfigPart);
+        Mockito.verifyNoMoreInteractions(this.configBuilder, this.fieldConfigPart, this.methodConfigPart, this.typesInGeneralConfigPart);
     }
 
     @Test
@@ -71,18 +126,48 @@ public class JacksonModuleTest {
 
         Mockito.verify(this.typesInGeneralConfigPart).withCustomDefinitionProvider(Mockito.any());
 
-        Mockito.verifyNoMoreInteractions(this.configBuilder, this.fieldConfigPart, this.typesInGeneralConfigPart);
+        Mockito.verifyNoMoreInteractions(this.configBuilder, this.fieldConfigPart, this.methodConfigPart, this.typesInGeneralConfigPart);
+    }
+
+    @Test
+    public void testApplyToConfigBuilderWithFlattenedEnumFromSerializerOption() {
+        new JacksonModule(JacksonOption.FLATTENED_ENUMS_FROM_SERIALIZER)
+                .applyToConfigBuilder(this.configBuilder);
+
+        this.verifyCommonConfigurations();
+
+        Mockito.verify(this.typesInGeneralConfigPart)
+                .withCustomDefinitionProvider(Mockito.any(CustomEnumSerializerDefinitionProvider.class));
+
+        Mockito.verifyNoMoreInteractions(this.configBuilder, this.fieldConfigPart, this.methodConfigPart, this.typesInGeneralConfigPart);
+    }
+
+    @Test
+    public void testApplyToConfigBuilderWithSubtypesOption() {
+        new JacksonModule(JacksonOption.INCLUDE_SUBTYPES)
+                .applyToConfigBuilder(this.configBuilder);
+
+        this.verifyCommonConfigurations();
+
+        Mockito.verify(this.typesInGeneralConfigPart).withCustomDefinitionProvider(Mockito.any(PolymorphicTypeDefinitionProvider.class));
+
+        Mockito.verifyNoMoreInteractions(this.configBuilder, this.fieldConfigPart, this.methodConfigPart, this.typesInGeneralConfigPart);
     }
 
     private void verifyCommonConfigurations() {
         Mockito.verify(this.configBuilder).getObjectMapper();
         Mockito.verify(this.configBuilder).forFields();
+        Mockito.verify(this.configBuilder).forMethods();
         Mockito.verify(this.configBuilder).forTypesInGeneral();
 
         Mockito.verify(this.fieldConfigPart).withDescriptionResolver(Mockito.any());
         Mockito.verify(this.fieldConfigPart).withIgnoreCheck(Mockito.any());
         Mockito.verify(this.fieldConfigPart).withPropertyNameOverrideResolver(Mockito.any());
 
+        Mockito.verify(this.methodConfigPart).withDescriptionResolver(Mockito.any());
+        Mockito.verify(this.methodConfigPart).withIgnoreCheck(Mockito.any());
+        Mockito.verify(this.methodConfigPart).withPropertyNameOverrideResolver(Mockito.any());
+
         Mockito.verify(this.typesInGeneralConfigPart).withDescriptionResolver(Mockito.any());
     }
 
@@ -110,6 +195,71 @@ public class JacksonModuleTest {
         Assert.assertEquals(expectedOverrideValue, overrideValue);
     }
 
+    @Test
+    @Parameters(method = "parametersForTestPropertyNameOverride")
+    public void testPropertyNameOverrideWithNamingStrategyOption(String fieldName, String expectedOverrideValue) {
+        new JacksonModule(JacksonOption.RESPECT_NAMING_STRATEGY).applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<ConfigFunction<FieldScope, String>> captor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withPropertyNameOverrideResolver(captor.capture());
+
+        FieldScope field = new TestType(TestClassForPropertyNameOverride.class).getMemberField(fieldName);
+        Assert.assertEquals(expectedOverrideValue, captor.getValue().apply(field));
+    }
+
+    Object parametersForTestPropertyNameOverrideWithNamingStrategy() {
+        return new Object[][]{
+            {"unannotatedField", "unannotated_field"},
+            {"fieldWithEmptyPropertyAnnotation", "field_with_empty_property_annotation"},
+            {"fieldWithSameValuePropertyAnnotation", null},
+            {"fieldWithNameOverride", "field override 1"},
+            {"fieldWithNameOverrideOnGetter", "method override 1"},
+            {"fieldWithNameOverrideAndOnGetter", "field override 2"}
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testPropertyNameOverrideWithNamingStrategy(String fieldName, String expectedOverrideValue) {
+        ObjectMapper mapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(mapper);
+        new JacksonModule(JacksonOption.RESPECT_NAMING_STRATEGY).applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<ConfigFunction<FieldScope, String>> captor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withPropertyNameOverrideResolver(captor.capture());
+
+        FieldScope field = new TestType(TestClassForPropertyNameOverride.class).getMemberField(fieldName);
+        Assert.assertEquals(expectedOverrideValue, captor.getValue().apply(field));
+    }
+
+    @Test
+    @Parameters({"true", "false"})
+    public void testPropertyNameOverrideWithJsonNaming(boolean respectNamingStrategy) {
+        JacksonOption[] options = respectNamingStrategy ? new JacksonOption[]{JacksonOption.RESPECT_NAMING_STRATEGY} : new JacksonOption[0];
+        new JacksonModule(options).applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<ConfigFunction<FieldScope, String>> captor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withPropertyNameOverrideResolver(captor.capture());
+
+        TestType testType = new TestType(TestClassWithJsonNaming.class);
+        Assert.assertEquals(respectNamingStrategy ? "kebab-case-field" : null, captor.getValue().apply(testType.getMemberField("kebabCaseField")));
+        Assert.assertEquals("explicitName", captor.getValue().apply(testType.getMemberField("renamedField")));
+    }
+
+    @Test
+    @Parameters(method = "parametersForTestPropertyNameOverrideWithNamingStrategy")
+    public void testPropertyNameOverrideWithSerializerProperties(String fieldName, String expectedOverrideValue) {
+        ObjectMapper mapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(mapper);
+        new JacksonModule(JacksonOption.RESPECT_NAMING_STRATEGY, JacksonOption.USE_SERIALIZER_PROPERTIES).applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<ConfigFunction<FieldScope, String>> captor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withPropertyNameOverrideResolver(captor.capture());
+
+        FieldScope field = new TestType(TestClassForPropertyNameOverride.class).getMemberField(fieldName);
+        Assert.assertEquals(expectedOverrideValue, captor.getValue().apply(field));
+    }
+
     Object parametersForTestDescriptionResolver() {
         return new Object[][]{
             {"unannotatedField", null},
@@ -156,6 +306,753 @@ public class JacksonModuleTest {
         Assert.assertEquals(expectedDescription, description);
     }
 
+    @Test
+    public void testDescriptionForTypeFromSuperTypeAndMixIn() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.addMixIn(TestClassForPropertyNameOverride.class, TestMixInForDescription.class);
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(mapper);
+        new JacksonModule().applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<ConfigFunction<TypeScope, String>> captor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.typesInGeneralConfigPart).withDescriptionResolver(captor.capture());
+        Assert.assertEquals("class description text",
+                captor.getValue().apply(new TestType(TestClassForDescription.class).getMemberField("fieldWithInheritedDescriptionOnType")));
+        Assert.assertEquals("mix-in description",
+                captor.getValue().apply(new TestType(TestClassForDescription.class).getMemberField("fieldWithMixInDescriptionOnType")));
+    }
+
+    @Test
+    public void testDescriptionForTypeBeingCollectedOnce() {
+        AtomicInteger lookUpCount = new AtomicInteger();
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
+            @Override
+            public String findClassDescription(AnnotatedClass ac) {
+                lookUpCount.incrementAndGet();
+                return super.findClassDescription(ac);
+            }
+        });
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(mapper);
+        new JacksonModule().applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<ConfigFunction<TypeScope, String>> captor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.typesInGeneralConfigPart).withDescriptionResolver(captor.capture());
+        TestType testType = new TestType(TestClassForDescription.class);
+        for (int iteration = 0; iteration < 3; iteration++) {
+            Assert.assertEquals("class description text", captor.getValue().apply(testType.getMemberField("fieldWithDescriptionOnType")));
+            // negative results are being cached as well
+            Assert.assertNull(captor.getValue().apply(testType.getMemberField("unannotatedField")));
+        }
+        Assert.assertEquals(2, lookUpCount.get());
+    }
+
+    Object parametersForTestIgnoreCheck() {
+        return new Object[][]{
+            {"includedField", false},
+            {"privateFieldWithGetter", false},
+            {"privateFieldWithoutGetter", true},
+            {"fieldWithJsonIgnore", true},
+            {"fieldIgnoredOnClass", true},
+            {"fieldWithJsonBackReference", true}
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testIgnoreCheck(String fieldName, boolean expectedToBeIgnored) {
+        new JacksonModule().applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        FieldScope field = new TestType(TestClassForIgnoring.class).getMemberField(fieldName);
+        Assert.assertEquals(expectedToBeIgnored, captor.getValue().test(field));
+    }
+
+    Object parametersForTestIgnoreCheckWithSkippedIntrospection() {
+        return new Object[][]{
+            {TestClassForIgnoring.class, "privateFieldWithGetter", false},
+            {TestClassForIgnoring.class, "fieldWithJsonIgnore", true},
+            {TestClassWithoutAnnotations.class, "publicField", false},
+            {TestClassWithoutAnnotations.class, "privateFieldWithGetter", false},
+            {TestClassWithoutAnnotations.class, "privateFieldWithoutGetter", true}
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testIgnoreCheckWithSkippedIntrospection(Class<?> declaringType, String fieldName, boolean expectedToBeIgnored) {
+        new JacksonModule(JacksonOption.SKIP_INTROSPECTION_FOR_PLAIN_TYPES).applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        FieldScope field = new TestType(declaringType).getMemberField(fieldName);
+        Assert.assertEquals(expectedToBeIgnored, captor.getValue().test(field));
+    }
+
+    @Test
+    @Parameters(method = "parametersForTestIgnoreCheck")
+    public void testIgnoreCheckWithSerializerProperties(String fieldName, boolean expectedToBeIgnored) throws JsonMappingException {
+        ObjectMapper mapper = new ObjectMapper();
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(mapper);
+        new JacksonModule(JacksonOption.USE_SERIALIZER_PROPERTIES).applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        FieldScope field = new TestType(TestClassForIgnoring.class).getMemberField(fieldName);
+        Assert.assertEquals(expectedToBeIgnored, captor.getValue().test(field));
+        // the serializer is being cached by the mapper, i.e. it is being reused for the actual serialization
+        int cachedSerializerCount = ((DefaultSerializerProvider) mapper.getSerializerProvider()).cachedSerializersCount();
+        Assert.assertNotEquals(0, cachedSerializerCount);
+        mapper.getSerializerProviderInstance().findValueSerializer(TestClassForIgnoring.class);
+        Assert.assertEquals(cachedSerializerCount, ((DefaultSerializerProvider) mapper.getSerializerProvider()).cachedSerializersCount());
+    }
+
+    @Test
+    @Parameters({"true", "false"})
+    public void testIgnoreCheckWithSerializerModifier(boolean useSerializerProperties) {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new SimpleModule().setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                    List<BeanPropertyWriter> beanProperties) {
+                beanProperties.removeIf(property -> "includedField".equals(property.getName()));
+                beanProperties.replaceAll(property -> "privateFieldWithGetter".equals(property.getName())
+                        ? property.rename(NameTransformer.simpleTransformer("modified_", "")) : property);
+                return beanProperties;
+            }
+        }));
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(mapper);
+        JacksonOption[] options = useSerializerProperties
+                ? new JacksonOption[]{JacksonOption.RESPECT_NAMING_STRATEGY, JacksonOption.USE_SERIALIZER_PROPERTIES}
+                : new JacksonOption[]{JacksonOption.RESPECT_NAMING_STRATEGY};
+        new JacksonModule(options).applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<Predicate<FieldScope>> ignoreCheckCaptor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(ignoreCheckCaptor.capture());
+        ArgumentCaptor<ConfigFunction<FieldScope, String>> nameOverrideCaptor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withPropertyNameOverrideResolver(nameOverrideCaptor.capture());
+        TestType testType = new TestType(TestClassForIgnoring.class);
+        Assert.assertEquals(useSerializerProperties, ignoreCheckCaptor.getValue().test(testType.getMemberField("includedField")));
+        Assert.assertEquals(useSerializerProperties ? "modified_privateFieldWithGetter" : null,
+                nameOverrideCaptor.getValue().apply(testType.getMemberField("privateFieldWithGetter")));
+        Assert.assertTrue(ignoreCheckCaptor.getValue().test(testType.getMemberField("fieldWithJsonIgnore")));
+    }
+
+    @Test
+    public void testIgnoreCheckWithSerializerPropertiesOfDifferentMappers() {
+        // the serializer provider is not part of the mapper's comparable configuration
+        ObjectMapper plainMapper = new ObjectMapper();
+        ObjectMapper modifyingMapper = new ObjectMapper().setSerializerProvider(new TestSerializerProviderRemovingIncludedField());
+        JacksonModule module = new JacksonModule(JacksonOption.USE_SERIALIZER_PROPERTIES);
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(plainMapper, modifyingMapper);
+        module.applyToConfigBuilder(this.configBuilder);
+        module.applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart, Mockito.times(2)).withIgnoreCheck(captor.capture());
+        FieldScope field = new TestType(TestClassForIgnoring.class).getMemberField("includedField");
+        Assert.assertFalse(captor.getAllValues().get(0).test(field));
+        Assert.assertTrue(captor.getAllValues().get(1).test(field));
+    }
+
+    @Test
+    public void testIgnoreCheckWithSerializerPropertiesFallingBackOnIntrospection() {
+        ObjectMapper mapper = new ObjectMapper();
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(mapper);
+        new JacksonModule(JacksonOption.USE_SERIALIZER_PROPERTIES).applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        TestType testType = new TestType(TestClassWithCustomSerializer.class);
+        Assert.assertFalse(captor.getValue().test(testType.getMemberField("includedField")));
+        Assert.assertTrue(captor.getValue().test(testType.getMemberField("fieldWithJsonIgnore")));
+    }
+
+    Object parametersForTestMethodResolvers() {
+        return new Object[][]{
+            {"getFieldWithGetter", false, "renamedField", "field description"},
+            {"getIgnoredFieldWithGetter", true, null, null},
+            {"getGetterWithoutField", false, "renamedGetter", "getter description"},
+            {"getUnannotatedGetter", false, null, null},
+            {"getIgnoredOnClass", true, null, null},
+            {"getIgnoredGetter", true, null, null},
+            {"getIgnoredType", true, null, null},
+            {"getBackReference", true, null, null},
+            {"annotatedMethod", false, "annotatedMethodName", null},
+            {"unannotatedMethod", false, null, null},
+            {"methodWithArgument", false, null, null}
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testMethodResolvers(String methodName, boolean expectedToBeIgnored, String expectedNameOverride, String expectedDescription) {
+        new JacksonModule().applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<Predicate<MethodScope>> ignoreCheckCaptor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.methodConfigPart).withIgnoreCheck(ignoreCheckCaptor.capture());
+        ArgumentCaptor<ConfigFunction<MethodScope, String>> nameOverrideCaptor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.methodConfigPart).withPropertyNameOverrideResolver(nameOverrideCaptor.capture());
+        ArgumentCaptor<ConfigFunction<MethodScope, String>> descriptionCaptor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.methodConfigPart).withDescriptionResolver(descriptionCaptor.capture());
+
+        MethodScope method = new TestType(TestClassForMethods.class).getMemberMethod(methodName);
+        Assert.assertEquals(expectedToBeIgnored, ignoreCheckCaptor.getValue().test(method));
+        Assert.assertEquals(expectedNameOverride, nameOverrideCaptor.getValue().apply(method));
+        Assert.assertEquals(expectedDescription, descriptionCaptor.getValue().apply(method));
+    }
+
+    @Test
+    public void testOverriddenMethodResolversBeingApplied() {
+        new JacksonModule() {
+            @Override
+            protected String resolveDescription(MethodScope method) {
+                String description = super.resolveDescription(method);
+                return description == null ? null : description.toUpperCase();
+            }
+
+            @Override
+            protected String getPropertyNameOverride(MethodScope method) {
+                String nameOverride = super.getPropertyNameOverride(method);
+                return nameOverride == null ? null : "_" + nameOverride;
+            }
+
+            @Override
+            protected boolean shouldIgnoreMethod(MethodScope method) {
+                return super.shouldIgnoreMethod(method) || "unannotatedMethod".equals(method.getDeclaredName());
+            }
+        }.applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<Predicate<MethodScope>> ignoreCheckCaptor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.methodConfigPart).withIgnoreCheck(ignoreCheckCaptor.capture());
+        ArgumentCaptor<ConfigFunction<MethodScope, String>> nameOverrideCaptor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.methodConfigPart).withPropertyNameOverrideResolver(nameOverrideCaptor.capture());
+        ArgumentCaptor<ConfigFunction<MethodScope, String>> descriptionCaptor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.methodConfigPart).withDescriptionResolver(descriptionCaptor.capture());
+
+        TestType testType = new TestType(TestClassForMethods.class);
+        MethodScope getter = testType.getMemberMethod("getFieldWithGetter");
+        Assert.assertEquals("FIELD DESCRIPTION", descriptionCaptor.getValue().apply(getter));
+        Assert.assertEquals("_renamedField", nameOverrideCaptor.getValue().apply(getter));
+        Assert.assertFalse(ignoreCheckCaptor.getValue().test(getter));
+        Assert.assertTrue(ignoreCheckCaptor.getValue().test(testType.getMemberMethod("unannotatedMethod")));
+    }
+
+    @Test
+    public void testMethodResolversWithNamingStrategy() {
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE));
+        new JacksonModule(JacksonOption.RESPECT_NAMING_STRATEGY).applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<ConfigFunction<MethodScope, String>> captor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.methodConfigPart).withPropertyNameOverrideResolver(captor.capture());
+        TestType testType = new TestType(TestClassForMethods.class);
+        Assert.assertEquals("unannotated_getter", captor.getValue().apply(testType.getMemberMethod("getUnannotatedGetter")));
+        Assert.assertEquals("renamedGetter", captor.getValue().apply(testType.getMemberMethod("getGetterWithoutField")));
+        Assert.assertEquals("renamedField", captor.getValue().apply(testType.getMemberMethod("getFieldWithGetter")));
+    }
+
+    @Test
+    public void testMethodResolversSharingIntrospectionWithFields() {
+        JacksonModule module = new JacksonModule();
+        module.applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<Predicate<FieldScope>> fieldCaptor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(fieldCaptor.capture());
+        ArgumentCaptor<Predicate<MethodScope>> methodCaptor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.methodConfigPart).withIgnoreCheck(methodCaptor.capture());
+
+        TestType testType = new TestType(TestClassForMethods.class);
+        Assert.assertFalse(fieldCaptor.getValue().test(testType.getMemberField("fieldWithGetter")));
+        for (String methodName : Arrays.asList("getFieldWithGetter", "getIgnoredFieldWithGetter", "getGetterWithoutField", "getIgnoredGetter")) {
+            methodCaptor.getValue().test(testType.getMemberMethod(methodName));
+            methodCaptor.getValue().test(testType.getMemberMethod(methodName));
+        }
+        // the class is being introspected only once, for its fields and methods alike
+        CacheStatistics statistics = module.getCacheStatistics();
+        Assert.assertEquals(1, statistics.getMissCount());
+        Assert.assertEquals(1, statistics.getSize());
+    }
+
+    @Test
+    public void testIgnoreCheckWithModuleAppliedToMultipleBuilders() {
+        JacksonModule module = new JacksonModule();
+        module.applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        Predicate<FieldScope> defaultIgnoreCheck = captor.getValue();
+
+        this.setUp();
+        Mockito.when(this.configBuilder.getObjectMapper())
+                .thenReturn(new ObjectMapper().setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY));
+        module.applyToConfigBuilder(this.configBuilder);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        Predicate<FieldScope> fieldVisibilityIgnoreCheck = captor.getValue();
+
+        this.setUp();
+        module.applyToConfigBuilder(this.configBuilder);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        Predicate<FieldScope> otherDefaultIgnoreCheck = captor.getValue();
+
+        FieldScope field = new TestType(TestClassForIgnoring.class).getMemberField("privateFieldWithoutGetter");
+        Assert.assertTrue(defaultIgnoreCheck.test(field));
+        Assert.assertFalse(fieldVisibilityIgnoreCheck.test(field));
+        Assert.assertTrue(otherDefaultIgnoreCheck.test(field));
+        Assert.assertFalse(fieldVisibilityIgnoreCheck.test(field));
+
+        // the two mappers with the default configuration are sharing their caches, the other one is separate
+        CacheStatistics statistics = module.getCacheStatistics();
+        Assert.assertEquals(2, statistics.getMissCount());
+        Assert.assertEquals(2, statistics.getSize());
+    }
+
+    @Test
+    public void testIgnoreCheckWithConfigOverride() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configOverride(TestClassForIgnoring.class).setIgnorals(JsonIgnoreProperties.Value.forIgnoredProperties("includedField"));
+        JacksonModule module = new JacksonModule();
+        module.applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        Predicate<FieldScope> defaultIgnoreCheck = captor.getValue();
+
+        this.setUp();
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(mapper);
+        module.applyToConfigBuilder(this.configBuilder);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        Predicate<FieldScope> overrideIgnoreCheck = captor.getValue();
+
+        FieldScope field = new TestType(TestClassForIgnoring.class).getMemberField("includedField");
+        Assert.assertFalse(defaultIgnoreCheck.test(field));
+        Assert.assertTrue(overrideIgnoreCheck.test(field));
+    }
+
+    Object parametersForTestIgnoreCheckWithIgnoredTypes() {
+        return new Object[][]{
+            {"includedField", false},
+            {"fieldIgnoredOnInterface", true},
+            {"ignoredTypeField", true},
+            {"inheritedIgnoredTypeField", true},
+            {"mixInIgnoredTypeField", true},
+            {"overriddenIgnoredTypeField", true},
+            {"listOfIgnoredTypeField", false}
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testIgnoreCheckWithIgnoredTypes(String fieldName, boolean expectedToBeIgnored) {
+        ObjectMapper mapper = new ObjectMapper()
+                .addMixIn(TestTypeIgnoredViaMixIn.class, TestMixInForIgnoredType.class);
+        mapper.configOverride(TestClassWithoutAnnotations.class).setIsIgnoredType(Boolean.TRUE);
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(mapper);
+        new JacksonModule().applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        FieldScope field = new TestType(TestClassWithIgnoredTypes.class).getMemberField(fieldName);
+        Assert.assertEquals(expectedToBeIgnored, captor.getValue().test(field));
+    }
+
+    Object parametersForTestIgnoreCheckWithIgnoredTypeParameter() {
+        return new Object[][]{
+            {TestClassWithIgnoredTypeParameterLast.class},
+            {TestClassWithIgnoredTypeParameterFirst.class}
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testIgnoreCheckWithIgnoredTypeParameter(Class<?> holderType) {
+        SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON)
+                .with(new JacksonModule())
+                .build();
+        JsonNode result = new SchemaGenerator(config).generateSchema(holderType);
+        // the same declared field is only being ignored where its type parameter resolves to an ignored type, regardless of the order
+        Assert.assertEquals("string", result.path("properties").path("first").path("properties").path("value").path("type").asText(null));
+        Assert.assertTrue(result.path("properties").path("second").path("properties").path("value").isMissingNode());
+    }
+
+    @Test
+    @Parameters({"true", "false"})
+    public void testMethodIgnoreCheckWithIgnoredTypeParameter(boolean ignoredTypeFirst) {
+        new JacksonModule().applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<Predicate<MethodScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.methodConfigPart).withIgnoreCheck(captor.capture());
+
+        TypeContext typeContext = TypeContextFactory.createDefaultTypeContext();
+        MethodScope ignoredTypeMethod = JacksonModuleTest.getBoxContentMethod(typeContext, TestIgnoredType.class);
+        MethodScope stringMethod = JacksonModuleTest.getBoxContentMethod(typeContext, String.class);
+        // the same declared method is only being ignored where its type parameter resolves to an ignored type, regardless of the order
+        if (ignoredTypeFirst) {
+            Assert.assertTrue(captor.getValue().test(ignoredTypeMethod));
+            Assert.assertFalse(captor.getValue().test(stringMethod));
+        } else {
+            Assert.assertFalse(captor.getValue().test(stringMethod));
+            Assert.assertTrue(captor.getValue().test(ignoredTypeMethod));
+        }
+    }
+
+    private static MethodScope getBoxContentMethod(TypeContext typeContext, Class<?> typeParameter) {
+        ResolvedTypeWithMembers boxType = typeContext.resolveWithMembers(typeContext.resolve(TestBox.class, typeParameter));
+        ResolvedMethod getter = Arrays.stream(boxType.getMemberMethods())
+                .filter(method -> "getContent".equals(method.getName()))
+                .findAny()
+                .get();
+        return typeContext.createMethodScope(getter, boxType);
+    }
+
+    @Test
+    public void testWarmUpSkippingIgnoredTypes() {
+        JacksonModule module = new JacksonModule();
+        module.applyToConfigBuilder(this.configBuilder);
+
+        WarmUpResult result = module.warmUp(Collections.singleton(TestClassWithIgnoredTypeForWarmUp.class), Runnable::run);
+        // neither the ignored type itself nor any type only reachable through it is being introspected
+        Assert.assertEquals(1, result.getLoadedTypeCount());
+        Assert.assertEquals(1, module.getCacheStatistics().getSize());
+    }
+
+    @Test
+    public void testClearCaches() {
+        JacksonModule module = new JacksonModule();
+        module.applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        FieldScope field = new TestType(TestClassForIgnoring.class).getMemberField("fieldWithJsonIgnore");
+        Assert.assertTrue(captor.getValue().test(field));
+        Assert.assertEquals(1, module.getCacheStatistics().getSize());
+
+        module.clearCaches();
+        Assert.assertEquals(0, module.getCacheStatistics().getSize());
+        Assert.assertTrue(captor.getValue().test(field));
+        Assert.assertEquals(1, module.getCacheStatistics().getSize());
+    }
+
+    @Test
+    public void testEvictClassLoader() {
+        JacksonModule module = new JacksonModule().withWeakCacheKeys().withSoftCacheValues();
+        module.applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        IsolatedClassLoader isolatedClassLoader = new IsolatedClassLoader(TestClassForEviction.class);
+        TestType isolatedType = new TestType(isolatedClassLoader.loadIsolatedCopy(TestClassForEviction.class));
+        Assert.assertTrue(captor.getValue().test(isolatedType.getMemberField("ignoredField")));
+        Assert.assertTrue(captor.getValue().test(new TestType(TestClassForEviction.class).getMemberField("ignoredField")));
+        Assert.assertEquals(2, module.getCacheStatistics().getSize());
+
+        module.evict(isolatedClassLoader);
+        Assert.assertEquals(1, module.getCacheStatistics().getSize());
+        Assert.assertFalse(captor.getValue().test(isolatedType.getMemberField("includedField")));
+        Assert.assertEquals(2, module.getCacheStatistics().getSize());
+    }
+
+    @Test
+    public void testClearCachesNotAffectingMapper() {
+        TypeFactory typeFactory = Mockito.spy(TypeFactory.defaultInstance());
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(new ObjectMapper().setTypeFactory(typeFactory));
+        JacksonModule module = new JacksonModule();
+        module.applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        Assert.assertTrue(captor.getValue().test(new TestType(TestClassForEviction.class).getMemberField("ignoredField")));
+
+        module.evict(new IsolatedClassLoader(TestClassForEviction.class));
+        module.clearCaches();
+        Mockito.verify(typeFactory, Mockito.never()).clearCache();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEvictClassLoaderOfMapper() throws ReflectiveOperationException {
+        IsolatedClassLoader isolatedClassLoader = new IsolatedClassLoader(TestObjectMapperForEviction.class);
+        ObjectMapper isolatedMapper = (ObjectMapper) isolatedClassLoader.loadIsolatedCopy(TestObjectMapperForEviction.class).newInstance();
+        Mockito.when(this.configBuilder.getObjectMapper()).thenReturn(isolatedMapper);
+        JacksonModule module = new JacksonModule();
+        module.applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        Assert.assertTrue(captor.getValue().test(new TestType(TestClassForEviction.class).getMemberField("ignoredField")));
+        Assert.assertEquals(1, module.getCacheStatistics().getSize());
+
+        module.evict(isolatedClassLoader);
+        Assert.assertEquals(0, module.getCacheStatistics().getSize());
+        // the mapper is no longer being referenced either
+        module.warmUp(Collections.singleton(TestClassForEviction.class));
+    }
+
+    @Test
+    public void testBeanDescriptionForClassUnderConcurrency() throws Exception {
+        JacksonModule module = new JacksonModule();
+        module.applyToConfigBuilder(this.configBuilder);
+        ResolvedType type = TypeContextFactory.createDefaultTypeContext().resolve(TestClassForDescription.class);
+        int threadCount = 16;
+        CyclicBarrier barrier = new CyclicBarrier(threadCount);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<BeanDescription>> results = new ArrayList<>();
+            for (int index = 0; index < threadCount; index++) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    return module.getBeanDescriptionForClass(type);
+                }));
+            }
+            // even if the class is being introspected concurrently, all callers receive the same (first) result
+            BeanDescription expected = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<BeanDescription> result : results) {
+                Assert.assertSame(expected, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testFieldMetadataBeingCollectedOnce() {
+        new JacksonModule().applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<ConfigFunction<FieldScope, String>> descriptionCaptor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withDescriptionResolver(descriptionCaptor.capture());
+        ArgumentCaptor<ConfigFunction<FieldScope, String>> nameOverrideCaptor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withPropertyNameOverrideResolver(nameOverrideCaptor.capture());
+        ArgumentCaptor<Predicate<FieldScope>> ignoreCheckCaptor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(ignoreCheckCaptor.capture());
+
+        FieldScope field = Mockito.spy(new TestType(TestClassForDescription.class).getMemberField("fieldWithDescriptionOnGetter"));
+        Assert.assertFalse(ignoreCheckCaptor.getValue().test(field));
+        Assert.assertNull(nameOverrideCaptor.getValue().apply(field));
+        Assert.assertEquals("getter description 1", descriptionCaptor.getValue().apply(field));
+        Assert.assertEquals("getter description 1", descriptionCaptor.getValue().apply(field));
+
+        Mockito.verify(field).findGetter();
+        Mockito.verify(field, Mockito.never()).getAnnotationConsideringFieldAndGetter(Mockito.any());
+    }
+
+    @Test
+    public void testIgnoreCheckCachingIntrospectionResults() {
+        JacksonModule module = new JacksonModule().withCacheMaximumSize(1);
+        module.applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        TestType testType = new TestType(TestClassForPropertyNameOverride.class);
+        captor.getValue().test(testType.getMemberField("unannotatedField"));
+        captor.getValue().test(testType.getMemberField("fieldWithNameOverride"));
+
+        CacheStatistics statistics = module.getCacheStatistics();
+        Assert.assertEquals(1, statistics.getHitCount());
+        Assert.assertEquals(1, statistics.getMissCount());
+        Assert.assertEquals(0, statistics.getEvictionCount());
+        Assert.assertEquals(1, statistics.getSize());
+
+        captor.getValue().test(new TestType(TestClassForDescription.class).getMemberField("unannotatedField"));
+        statistics = module.getCacheStatistics();
+        Assert.assertEquals(2, statistics.getMissCount());
+        Assert.assertEquals(1, statistics.getEvictionCount());
+        Assert.assertEquals(1, statistics.getSize());
+    }
+
+    @Test
+    public void testWarmUp() {
+        JacksonModule module = new JacksonModule(JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE);
+        module.applyToConfigBuilder(this.configBuilder);
+
+        WarmUpResult result = module.warmUp(Collections.singleton(TestClassForWarmUp.class));
+        Assert.assertEquals(4, result.getLoadedTypeCount());
+        Assert.assertNotNull(result.getDuration());
+        CacheStatistics statistics = module.getCacheStatistics();
+        Assert.assertEquals(3, statistics.getSize());
+        long missCount = statistics.getMissCount();
+
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        Assert.assertTrue(captor.getValue().test(new TestType(TestClassForIgnoring.class).getMemberField("fieldWithJsonIgnore")));
+        Assert.assertFalse(captor.getValue().test(new TestType(TestClassForDescription.class).getMemberField("fieldWithDescriptionOnGetter")));
+        Assert.assertEquals(missCount, module.getCacheStatistics().getMissCount());
+    }
+
+    @Test
+    @Parameters({"true", "false"})
+    public void testWarmUpIncludingSubtypes(boolean includeSubtypes) {
+        JacksonModule module = includeSubtypes ? new JacksonModule(JacksonOption.INCLUDE_SUBTYPES) : new JacksonModule();
+        module.applyToConfigBuilder(this.configBuilder);
+
+        WarmUpResult result = module.warmUp(Collections.singleton(TestClassWithPolymorphicField.class), Runnable::run);
+        // the subtype and the type only reachable through it are being introspected as well
+        Assert.assertEquals(includeSubtypes ? 4 : 2, result.getLoadedTypeCount());
+    }
+
+    @Test
+    public void testPolymorphicTypeInfoBeingCollectedOnce() {
+        JacksonModule module = new JacksonModule(JacksonOption.INCLUDE_SUBTYPES);
+        module.applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<CustomDefinitionProviderV2> captor = ArgumentCaptor.forClass(CustomDefinitionProviderV2.class);
+        Mockito.verify(this.typesInGeneralConfigPart).withCustomDefinitionProvider(captor.capture());
+
+        module.warmUp(Collections.singleton(TestClassWithPolymorphicField.class), Runnable::run);
+        long missCount = module.getCacheStatistics().getMissCount();
+        SchemaGenerationContext generationContext = Mockito.mock(SchemaGenerationContext.class);
+        ResolvedType unrelatedType = TypeContextFactory.createDefaultTypeContext().resolve(TestClassForDescription.class);
+        Assert.assertNull(captor.getValue().provideCustomSchemaDefinition(unrelatedType, generationContext));
+        Assert.assertEquals(missCount, module.getCacheStatistics().getMissCount());
+        Mockito.verifyNoMoreInteractions(generationContext);
+    }
+
+    @Test
+    public void testWarmUpWithExecutor() {
+        JacksonModule module = new JacksonModule();
+        module.applyToConfigBuilder(this.configBuilder);
+
+        WarmUpResult result = module.warmUp(Arrays.asList(TestClassForDescription.class, String.class, int[].class), Runnable::run);
+        Assert.assertEquals(1, result.getLoadedTypeCount());
+        Assert.assertEquals(1, module.getCacheStatistics().getSize());
+    }
+
+    @Test
+    public void testSnapshotSkippingIntrospection() {
+        JacksonModule exportingModule = new JacksonModule(JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE);
+        exportingModule.applyToConfigBuilder(this.configBuilder);
+        exportingModule.warmUp(Collections.singleton(TestClassForWarmUp.class));
+        IntrospectionSnapshot snapshot = exportingModule.createSnapshot();
+        Assert.assertEquals(4, snapshot.getClassCount());
+        Assert.assertTrue(snapshot.containsEnumValues(TestEnumForWarmUp.class));
+        Assert.assertEquals(Arrays.asList("a", "b"), snapshot.getEnumValues(TestEnumForWarmUp.class));
+
+        this.setUp();
+        JacksonModule module = new JacksonModule(JacksonOption.FLATTENED_ENUMS_FROM_JSONVALUE).withSnapshot(snapshot);
+        module.applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        Assert.assertTrue(captor.getValue().test(new TestType(TestClassForIgnoring.class).getMemberField("fieldWithJsonIgnore")));
+        Assert.assertFalse(captor.getValue().test(new TestType(TestClassForIgnoring.class).getMemberField("includedField")));
+        // the introspection results were taken from the snapshot
+        Assert.assertEquals(0, module.getCacheStatistics().getMissCount());
+
+        // a class not being covered by the snapshot is still being introspected
+        Assert.assertFalse(captor.getValue().test(new TestType(TestClassForPropertyNameOverride.class).getMemberField("unannotatedField")));
+        Assert.assertEquals(1, module.getCacheStatistics().getMissCount());
+    }
+
+    @Test
+    public void testSnapshotNotBeingAppliedForOtherMapperConfiguration() {
+        JacksonModule exportingModule = new JacksonModule();
+        exportingModule.applyToConfigBuilder(this.configBuilder);
+        exportingModule.warmUp(Collections.singleton(TestClassForIgnoring.class));
+        IntrospectionSnapshot snapshot = exportingModule.createSnapshot();
+
+        this.setUp();
+        Mockito.when(this.configBuilder.getObjectMapper())
+                .thenReturn(new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE));
+        JacksonModule module = new JacksonModule().withSnapshot(snapshot);
+        module.applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        Assert.assertTrue(captor.getValue().test(new TestType(TestClassForIgnoring.class).getMemberField("fieldWithJsonIgnore")));
+        // the snapshot was created for another mapper configuration, i.e. the class is being introspected
+        Assert.assertEquals(1, module.getCacheStatistics().getMissCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSnapshotWithOtherOptionsBeingRejected() {
+        JacksonModule exportingModule = new JacksonModule(JacksonOption.RESPECT_NAMING_STRATEGY);
+        exportingModule.applyToConfigBuilder(this.configBuilder);
+        IntrospectionSnapshot snapshot = exportingModule.createSnapshot();
+
+        new JacksonModule().withSnapshot(snapshot);
+    }
+
+    @Test
+    public void testOverriddenResolverBeingApplied() {
+        JacksonModule module = new JacksonModule() {
+            @Override
+            protected String resolveDescription(FieldScope field) {
+                String description = super.resolveDescription(field);
+                return description == null ? null : description.toUpperCase();
+            }
+        };
+        SchemaGeneratorConfig config = new SchemaGeneratorConfigBuilder(new ObjectMapper(), SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON)
+                .with(module)
+                .build();
+        // applying the module to another mapper afterwards does not affect the first configuration
+        ObjectMapper otherMapper = new ObjectMapper();
+        otherMapper.addMixIn(TestClassForDescription.class, TestMixInIgnoringDescribedField.class);
+        new SchemaGeneratorConfigBuilder(otherMapper, SchemaVersion.DRAFT_7, OptionPreset.PLAIN_JSON)
+                .with(module)
+                .build();
+
+        JsonNode result = new SchemaGenerator(config).generateSchema(TestClassForDescription.class);
+        Assert.assertEquals("FIELD DESCRIPTION 2",
+                result.path("properties").path("fieldWithDescriptionAndOnGetter").path("description").asText(null));
+    }
+
+    @Test
+    public void testListener() {
+        JacksonModuleListener listener = Mockito.mock(JacksonModuleListener.class);
+        JacksonModule module = new JacksonModule().withListener(listener);
+        module.applyToConfigBuilder(this.configBuilder);
+
+        ArgumentCaptor<Predicate<FieldScope>> captor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(captor.capture());
+        TestType testType = new TestType(TestClassForIgnoring.class);
+        FieldScope ignoredField = testType.getMemberField("fieldWithJsonIgnore");
+        FieldScope includedField = testType.getMemberField("includedField");
+        captor.getValue().test(ignoredField);
+        captor.getValue().test(includedField);
+
+        Mockito.verify(listener).onCacheMiss(TestClassForIgnoring.class);
+        Mockito.verify(listener).onIntrospectionStart(TestClassForIgnoring.class);
+        Mockito.verify(listener).onIntrospectionEnd(Mockito.eq(TestClassForIgnoring.class), Mockito.anyLong());
+        Mockito.verify(listener).onCacheHit(TestClassForIgnoring.class);
+        Mockito.verify(listener).onIgnoreDecision(ignoredField, true);
+        Mockito.verify(listener).onIgnoreDecision(includedField, false);
+        Mockito.verifyNoMoreInteractions(listener);
+
+        // the field's metadata is already cached, i.e. the cache of per-class introspection results is not being consulted again
+        captor.getValue().test(includedField);
+        Mockito.verify(listener, Mockito.times(2)).onIgnoreDecision(includedField, false);
+        Mockito.verifyNoMoreInteractions(listener);
+    }
+
+    @Test
+    public void testGeneratedMetadataSkippingReflection() {
+        JacksonModule module = new JacksonModule().withGeneratedMetadata();
+        module.applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<Predicate<FieldScope>> ignoreCheckCaptor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(ignoreCheckCaptor.capture());
+        ArgumentCaptor<ConfigFunction<FieldScope, String>> nameOverrideCaptor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.fieldConfigPart).withPropertyNameOverrideResolver(nameOverrideCaptor.capture());
+        ArgumentCaptor<ConfigFunction<TypeScope, String>> typeDescriptionCaptor = ArgumentCaptor.forClass(ConfigFunction.class);
+        Mockito.verify(this.typesInGeneralConfigPart).withDescriptionResolver(typeDescriptionCaptor.capture());
+
+        TestType testType = new TestType(GeneratedMetadataRegistryTest.TestClass.class);
+        Assert.assertFalse(ignoreCheckCaptor.getValue().test(testType.getMemberField("includedField")));
+        Assert.assertTrue(ignoreCheckCaptor.getValue().test(testType.getMemberField("otherField")));
+        Assert.assertTrue(ignoreCheckCaptor.getValue().test(testType.getMemberField("ignoredField")));
+        Assert.assertTrue(ignoreCheckCaptor.getValue().test(testType.getMemberField("backReferenceField")));
+        Assert.assertEquals("generated name", nameOverrideCaptor.getValue().apply(testType.getMemberField("includedField")));
+        Assert.assertEquals("generated class description", typeDescriptionCaptor.getValue().apply(testType.getMemberField("backReferenceField")));
+        // a class without generated metadata is still being introspected
+        Assert.assertFalse(ignoreCheckCaptor.getValue().test(new TestType(TestClassForIgnoring.class).getMemberField("includedField")));
+        Assert.assertTrue(ignoreCheckCaptor.getValue().test(new TestType(TestClassForIgnoring.class).getMemberField("fieldWithJsonIgnore")));
+    }
+
+    @Test
+    public void testGeneratedMetadataWithNonDefaultMapper() {
+        Mockito.when(this.configBuilder.getObjectMapper())
+                .thenReturn(new ObjectMapper().setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.PUBLIC_ONLY)
+                        .setVisibility(PropertyAccessor.GETTER, JsonAutoDetect.Visibility.NONE));
+        JacksonModule module = new JacksonModule().withGeneratedMetadata();
+        module.applyToConfigBuilder(this.configBuilder);
+        ArgumentCaptor<Predicate<FieldScope>> ignoreCheckCaptor = ArgumentCaptor.forClass(Predicate.class);
+        Mockito.verify(this.fieldConfigPart).withIgnoreCheck(ignoreCheckCaptor.capture());
+
+        // the generated property index is only applicable to the default visibility settings
+        TestType testType = new TestType(GeneratedMetadataRegistryTest.TestClass.class);
+        Assert.assertFalse(ignoreCheckCaptor.getValue().test(testType.getMemberField("otherField")));
+        Assert.assertTrue(ignoreCheckCaptor.getValue().test(testType.getMemberField("backReferenceField")));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testWarmUpBeforeApplyingModule() {
+        new JacksonModule().warmUp(Collections.singleton(TestClassForDescription.class));
+    }
+
     private static class TestClassForPropertyNameOverride {
 
         Integer unannotatedField;
@@ -184,6 +1081,207 @@ public class JacksonModuleTest {
         }
     }
 
+    @JsonNaming(PropertyNamingStrategy.KebabCaseStrategy.class)
+    private static class TestClassWithJsonNaming {
+
+        public String kebabCaseField;
+        @JsonProperty("explicitName")
+        public String renamedField;
+    }
+
+    @JsonIgnoreProperties({"fieldIgnoredOnClass"})
+    private static class TestClassForIgnoring {
+
+        public String includedField;
+        private String privateFieldWithGetter;
+        private String privateFieldWithoutGetter;
+        @JsonIgnore
+        public String fieldWithJsonIgnore;
+        public String fieldIgnoredOnClass;
+        @JsonBackReference
+        public TestClassForIgnoring fieldWithJsonBackReference;
+
+        public String getPrivateFieldWithGetter() {
+            return this.privateFieldWithGetter;
+        }
+    }
+
+    @JsonIgnoreProperties({"ignoredOnClass"})
+    private static class TestClassForMethods {
+
+        @JsonProperty("renamedField")
+        @JsonPropertyDescription("field description")
+        private String fieldWithGetter;
+        @JsonIgnore
+        private String ignoredFieldWithGetter;
+
+        public String getFieldWithGetter() {
+            return this.fieldWithGetter;
+        }
+
+        public String getIgnoredFieldWithGetter() {
+            return this.ignoredFieldWithGetter;
+        }
+
+        @JsonProperty("renamedGetter")
+        @JsonPropertyDescription("getter description")
+        public int getGetterWithoutField() {
+            return 0;
+        }
+
+        public String getUnannotatedGetter() {
+            return null;
+        }
+
+        public String getIgnoredOnClass() {
+            return null;
+        }
+
+        @JsonIgnore
+        public String getIgnoredGetter() {
+            return null;
+        }
+
+        public TestIgnoredType getIgnoredType() {
+            return null;
+        }
+
+        @JsonBackReference
+        public TestClassForMethods getBackReference() {
+            return null;
+        }
+
+        @JsonProperty("annotatedMethodName")
+        public String annotatedMethod() {
+            return null;
+        }
+
+        public String unannotatedMethod() {
+            return null;
+        }
+
+        public String methodWithArgument(int argument) {
+            return null;
+        }
+    }
+
+    private static class TestSerializerProviderRemovingIncludedField extends DefaultSerializerProvider {
+
+        private static final SerializerFactory FACTORY = BeanSerializerFactory.instance.withSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                    List<BeanPropertyWriter> beanProperties) {
+                beanProperties.removeIf(property -> "includedField".equals(property.getName()));
+                return beanProperties;
+            }
+        });
+
+        TestSerializerProviderRemovingIncludedField() {
+            super();
+        }
+
+        private TestSerializerProviderRemovingIncludedField(TestSerializerProviderRemovingIncludedField src, SerializationConfig config) {
+            super(src, config, FACTORY);
+        }
+
+        @Override
+        public DefaultSerializerProvider createInstance(SerializationConfig config, SerializerFactory jsf) {
+            return new TestSerializerProviderRemovingIncludedField(this, config);
+        }
+    }
+
+    @JsonSerialize(using = ToStringSerializer.class)
+    private static class TestClassWithCustomSerializer {
+
+        public String includedField;
+        @JsonIgnore
+        public String fieldWithJsonIgnore;
+    }
+
+    @JsonIgnoreProperties({"fieldIgnoredOnInterface"})
+    private interface TestInterfaceWithIgnorals {
+    }
+
+    private static class TestClassWithIgnoredTypes implements TestInterfaceWithIgnorals {
+
+        public String includedField;
+        public String fieldIgnoredOnInterface;
+        public TestIgnoredType ignoredTypeField;
+        public TestSubClassOfIgnoredType inheritedIgnoredTypeField;
+        public TestTypeIgnoredViaMixIn mixInIgnoredTypeField;
+        public TestClassWithoutAnnotations overriddenIgnoredTypeField;
+        public List<TestIgnoredType> listOfIgnoredTypeField;
+    }
+
+    private static class TestBox<T> {
+
+        public T value;
+
+        public T getContent() {
+            return this.value;
+        }
+    }
+
+    private static class TestClassWithIgnoredTypeParameterLast {
+
+        public TestBox<String> first;
+        public TestBox<TestIgnoredType> second;
+    }
+
+    private static class TestClassWithIgnoredTypeParameterFirst {
+
+        public TestBox<TestIgnoredType> second;
+        public TestBox<String> first;
+    }
+
+    private static class TestClassWithIgnoredTypeForWarmUp {
+
+        public TestIgnoredType ignoredTypeField;
+    }
+
+    @JsonIgnoreType
+    private static class TestIgnoredType {
+
+        public TestClassForDescription nestedField;
+    }
+
+    private static class TestSubClassOfIgnoredType extends TestIgnoredType {
+    }
+
+    private static class TestTypeIgnoredViaMixIn {
+    }
+
+    @JsonIgnoreType
+    private static class TestMixInForIgnoredType {
+    }
+
+    public static class TestClassForEviction {
+
+        public String includedField;
+        @JsonIgnore
+        public String ignoredField;
+    }
+
+    public static class TestObjectMapperForEviction extends ObjectMapper {
+    }
+
+    private static class TestClassWithoutAnnotations {
+
+        public String publicField;
+        private String privateFieldWithGetter;
+        private String privateFieldWithoutGetter;
+
+        public String getPrivateFieldWithGetter() {
+            return this.privateFieldWithGetter;
+        }
+    }
+
+    private abstract static class TestMixInIgnoringDescribedField {
+
+        @JsonIgnore
+        Long fieldWithDescriptionAndOnGetter;
+    }
+
     @JsonClassDescription(value = "class description text")
     private static class TestClassForDescription {
 
@@ -194,6 +1292,8 @@ public class JacksonModuleTest {
         @JsonPropertyDescription(value = "field description 2")
         Long fieldWithDescriptionAndOnGetter;
         TestClassForDescription fieldWithDescriptionOnType;
+        TestSubClassForDescription fieldWithInheritedDescriptionOnType;
+        TestClassForPropertyNameOverride fieldWithMixInDescriptionOnType;
 
         @JsonPropertyDescription(value = "getter description 1")
         public Float getFieldWithDescriptionOnGetter() {
@@ -205,4 +1305,44 @@ public class JacksonModuleTest {
             return fieldWithDescriptionAndOnGetter;
         }
     }
+
+    private static class TestSubClassForDescription extends TestClassForDescription {
+    }
+
+    @JsonClassDescription(value = "mix-in description")
+    private static class TestMixInForDescription {
+    }
+
+    private static class TestClassForWarmUp {
+
+        public List<TestClassForDescription> listField;
+        public TestClassForIgnoring[] arrayField;
+        public TestEnumForWarmUp enumField;
+        @JsonIgnore
+        public TestClassForPropertyNameOverride ignoredField;
+    }
+
+    private static class TestClassWithPolymorphicField {
+
+        public TestPolymorphicType polymorphicField;
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+    @JsonSubTypes(@JsonSubTypes.Type(TestPolymorphicSubType.class))
+    private interface TestPolymorphicType {
+    }
+
+    private static class TestPolymorphicSubType implements TestPolymorphicType {
+
+        public TestClassForDescription fieldOnlyReachableThroughSubtype;
+    }
+
+    private enum TestEnumForWarmUp {
+        A, B;
+
+        @JsonValue
+        public String getJsonValue() {
+            return this.name().toLowerCase();
+        }
+    }
 }
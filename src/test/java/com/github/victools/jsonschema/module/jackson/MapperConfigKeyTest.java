@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.introspect.AnnotationIntrospectorPair;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for the {@link MapperConfigKey}.
+ */
+public class MapperConfigKeyTest {
+
+    @Test
+    public void testEqualConfigurations() {
+        MapperConfigKey key = MapperConfigKey.of(new ObjectMapper());
+        MapperConfigKey otherKey = MapperConfigKey.of(new ObjectMapper());
+        Assert.assertEquals(key, otherKey);
+        Assert.assertEquals(key.hashCode(), otherKey.hashCode());
+
+        Assert.assertEquals(MapperConfigKey.of(new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE)),
+                MapperConfigKey.of(new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE)));
+    }
+
+    @Test
+    public void testDifferentConfigurations() {
+        MapperConfigKey key = MapperConfigKey.of(new ObjectMapper());
+        Assert.assertNotEquals(key, MapperConfigKey.of(new ObjectMapper().disable(MapperFeature.AUTO_DETECT_GETTERS)));
+        Assert.assertNotEquals(key, MapperConfigKey.of(new ObjectMapper().enable(MapperFeature.USE_STD_BEAN_NAMING)));
+        Assert.assertNotEquals(key, MapperConfigKey.of(new ObjectMapper().setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)));
+        Assert.assertNotEquals(key, MapperConfigKey.of(new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.KEBAB_CASE)));
+        Assert.assertNotEquals(key, MapperConfigKey.of(new ObjectMapper().setAnnotationIntrospector(NopAnnotationIntrospector.instance)));
+        Assert.assertNotEquals(key, MapperConfigKey.of(new ObjectMapper().setAnnotationIntrospector(
+                AnnotationIntrospectorPair.pair(new JacksonAnnotationIntrospector(), NopAnnotationIntrospector.instance))));
+    }
+
+    @Test
+    public void testConfigurationWithMixIns() {
+        ObjectMapper mapper = new ObjectMapper().addMixIn(String.class, Integer.class);
+        ObjectMapper otherMapper = new ObjectMapper().addMixIn(String.class, Integer.class);
+        Assert.assertEquals(MapperConfigKey.of(mapper), MapperConfigKey.of(mapper));
+        Assert.assertNotEquals(MapperConfigKey.of(mapper), MapperConfigKey.of(otherMapper));
+    }
+
+    @Test
+    public void testConfigurationsWithRegisteredSubtypes() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerSubtypes(new NamedType(Integer.class, "int"), new NamedType(Long.class, "long"));
+        ObjectMapper equalMapper = new ObjectMapper();
+        equalMapper.registerSubtypes(new NamedType(Long.class, "long"), new NamedType(Integer.class, "int"));
+        ObjectMapper otherNameMapper = new ObjectMapper();
+        otherNameMapper.registerSubtypes(new NamedType(Integer.class, "integer"), new NamedType(Long.class, "long"));
+
+        MapperConfigKey key = MapperConfigKey.of(mapper);
+        Assert.assertEquals(key, MapperConfigKey.of(equalMapper));
+        Assert.assertEquals(key.calculateFingerprint(), MapperConfigKey.of(equalMapper).calculateFingerprint());
+        Assert.assertNotEquals(key, MapperConfigKey.of(new ObjectMapper()));
+        Assert.assertNotEquals(key.calculateFingerprint(), MapperConfigKey.of(new ObjectMapper()).calculateFingerprint());
+        Assert.assertNotEquals(key, MapperConfigKey.of(otherNameMapper));
+        Assert.assertNotEquals(key.calculateFingerprint(), MapperConfigKey.of(otherNameMapper).calculateFingerprint());
+    }
+
+    @Test
+    public void testConfigurationsWithModules() {
+        MapperConfigKey key = MapperConfigKey.of(new ObjectMapper().registerModule(new TestModule()));
+        Assert.assertEquals(key, MapperConfigKey.of(new ObjectMapper().registerModule(new TestModule())));
+        Assert.assertNotEquals(key, MapperConfigKey.of(new ObjectMapper()));
+        Assert.assertNotEquals(key.calculateFingerprint(), MapperConfigKey.of(new ObjectMapper()).calculateFingerprint());
+        Assert.assertNotEquals(key, MapperConfigKey.of(new ObjectMapper().registerModule(new TestOtherModule())));
+    }
+
+    @Test
+    public void testConfigurationsWithCustomSerializers() {
+        ObjectMapper serializerMapper = new ObjectMapper().registerModule(new SimpleModule("serializers")
+                .addSerializer(Long.class, ToStringSerializer.instance));
+        ObjectMapper modifierMapper = new ObjectMapper().registerModule(new SimpleModule("modifiers")
+                .setSerializerModifier(new BeanSerializerModifier() { }));
+        // custom serializers cannot be compared, i.e. the keys are bound to the respective mapper instance
+        Assert.assertEquals(MapperConfigKey.of(serializerMapper), MapperConfigKey.of(serializerMapper));
+        Assert.assertNotEquals(MapperConfigKey.of(serializerMapper), MapperConfigKey.of(new ObjectMapper().registerModule(
+                new SimpleModule("serializers").addSerializer(Long.class, ToStringSerializer.instance))));
+        Assert.assertEquals(MapperConfigKey.of(modifierMapper), MapperConfigKey.of(modifierMapper));
+        Assert.assertNotEquals(MapperConfigKey.of(modifierMapper), MapperConfigKey.of(new ObjectMapper().registerModule(
+                new SimpleModule("modifiers").setSerializerModifier(new BeanSerializerModifier() { }))));
+    }
+
+    @Test
+    public void testInstanceKey() {
+        ObjectMapper mapper = new ObjectMapper();
+        Assert.assertEquals(MapperConfigKey.ofInstance(mapper), MapperConfigKey.ofInstance(mapper));
+        Assert.assertNotEquals(MapperConfigKey.ofInstance(mapper), MapperConfigKey.of(mapper));
+        Assert.assertNotEquals(MapperConfigKey.ofInstance(mapper), MapperConfigKey.ofInstance(new ObjectMapper()));
+    }
+
+    private static class TestModule extends SimpleModule {
+    }
+
+    private static class TestOtherModule extends SimpleModule {
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import java.util.Arrays;
+import java.util.Collections;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for the {@link PolymorphicTypeInfo}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class PolymorphicTypeInfoTest {
+
+    @Test
+    @Parameters({"java.lang.String", "int", "[Ljava.lang.Object;", "java.lang.annotation.ElementType",
+        "com.github.victools.jsonschema.module.jackson.PolymorphicTypeInfoTest$TestUnrelatedClass"})
+    public void testOfNonPolymorphicType(String className) throws ClassNotFoundException {
+        Class<?> type = "int".equals(className) ? int.class : Class.forName(className);
+        Assert.assertNull(PolymorphicTypeInfo.of(type, new ObjectMapper(), null));
+    }
+
+    @Test
+    public void testOfAbstractType() {
+        PolymorphicTypeInfo typeInfo = PolymorphicTypeInfo.of(TestBaseType.class, new ObjectMapper(), null);
+        Assert.assertNotNull(typeInfo);
+        Assert.assertEquals(JsonTypeInfo.As.PROPERTY, typeInfo.getInclusion());
+        Assert.assertEquals("kind", typeInfo.getPropertyName());
+        Assert.assertNull(typeInfo.getTypeId());
+        Assert.assertEquals(Arrays.asList(TestSubClass.class, TestSubSubClass.class), Arrays.asList(typeInfo.getSubtypes().toArray()));
+        Assert.assertEquals("sub", typeInfo.getSubtypeId(TestSubClass.class));
+        Assert.assertEquals("subsub", typeInfo.getSubtypeId(TestSubSubClass.class));
+    }
+
+    @Test
+    public void testOfConcreteType() {
+        PolymorphicTypeInfo typeInfo = PolymorphicTypeInfo.of(TestSubClass.class, new ObjectMapper(), null);
+        Assert.assertNotNull(typeInfo);
+        // the name "sub" is only assigned in the context of the super type, on its own the default name applies
+        Assert.assertEquals("PolymorphicTypeInfoTest$TestSubClass", typeInfo.getTypeId());
+        Assert.assertEquals(Collections.singleton(TestSubSubClass.class), typeInfo.getSubtypes());
+    }
+
+    @Test
+    public void testOfWithSubtypeRegisteredWithMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerSubtypes(new NamedType(TestRegisteredSubClass.class, "registered"));
+        PolymorphicTypeInfo typeInfo = PolymorphicTypeInfo.of(TestBaseType.class, objectMapper, null);
+        Assert.assertNotNull(typeInfo);
+        Assert.assertEquals(Arrays.asList(TestRegisteredSubClass.class, TestSubClass.class, TestSubSubClass.class),
+                Arrays.asList(typeInfo.getSubtypes().toArray()));
+        Assert.assertEquals("registered", typeInfo.getSubtypeId(TestRegisteredSubClass.class));
+    }
+
+    @Test
+    public void testOfWithSubtypeIndex() {
+        SubtypeIndex subtypeIndex = SubtypeIndex.of(Arrays.asList(TestBaseType.class, TestRegisteredSubClass.class));
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerSubtypes(new NamedType(TestSubClass.class, "ignored"));
+        PolymorphicTypeInfo typeInfo = PolymorphicTypeInfo.of(TestBaseType.class, objectMapper, subtypeIndex);
+        Assert.assertNotNull(typeInfo);
+        // neither the annotated nor the registered subtypes are being considered for a class covered by the index
+        Assert.assertEquals(Collections.singleton(TestRegisteredSubClass.class), typeInfo.getSubtypes());
+        // the subtypes of classes not covered by the index are still being looked-up via reflection
+        Assert.assertEquals(Collections.singleton(TestSubSubClass.class),
+                PolymorphicTypeInfo.of(TestSubClass.class, objectMapper, subtypeIndex).getSubtypes());
+    }
+
+    @Test
+    public void testSubtypeIdInContextOfSuperType() {
+        PolymorphicTypeInfo superTypeInfo = PolymorphicTypeInfo.of(TestConcreteSuperType.class, new ObjectMapper(), null);
+        Assert.assertNotNull(superTypeInfo);
+        Assert.assertEquals(JsonTypeInfo.As.WRAPPER_OBJECT, superTypeInfo.getInclusion());
+        Assert.assertEquals("super", superTypeInfo.getTypeId());
+        Assert.assertEquals("sub", superTypeInfo.getSubtypeId(TestConcreteSubType.class));
+        // on its own, the subtype inherits the type name annotation from its super type
+        Assert.assertEquals("super", PolymorphicTypeInfo.of(TestConcreteSubType.class, new ObjectMapper(), null).getTypeId());
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "kind")
+    @JsonSubTypes(@JsonSubTypes.Type(value = TestSubClass.class, name = "sub"))
+    private interface TestBaseType {
+    }
+
+    @JsonSubTypes(@JsonSubTypes.Type(TestSubSubClass.class))
+    private static class TestSubClass implements TestBaseType {
+    }
+
+    @JsonTypeName("subsub")
+    private static class TestSubSubClass extends TestSubClass {
+    }
+
+    private static class TestRegisteredSubClass implements TestBaseType {
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.WRAPPER_OBJECT)
+    @JsonSubTypes(@JsonSubTypes.Type(value = TestConcreteSubType.class, name = "sub"))
+    @JsonTypeName("super")
+    private static class TestConcreteSuperType {
+    }
+
+    private static class TestConcreteSubType extends TestConcreteSuperType {
+    }
+
+    private static class TestUnrelatedClass {
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for the {@link PropertyIndex}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public class PropertyIndexTest {
+
+    Object parametersForTestOfBeanDescription() {
+        return new Object[][]{
+            {"includedField", true, "included_field"},
+            {"renamedField", true, "renamed_field"},
+            {"privateFieldWithGetter", true, "private_field_with_getter"},
+            {"privateFieldWithoutGetter", false, null},
+            {"fieldWithJsonIgnore", false, null},
+            {"fieldIgnoredOnClass", false, null},
+            {"unknownField", false, null}
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testOfBeanDescription(String fieldName, boolean expectedToBeIncluded, String expectedNameOverride) {
+        ObjectMapper mapper = new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+        SerializationConfig config = mapper.getSerializationConfig();
+        PropertyIndex index = PropertyIndex.of(config.introspect(mapper.constructType(TestClass.class)), config);
+
+        Assert.assertTrue(index.hasExternalNames());
+        Assert.assertEquals(expectedToBeIncluded, index.isIncluded(fieldName));
+        if (expectedToBeIncluded) {
+            Assert.assertEquals(expectedNameOverride, index.getNameOverride(fieldName));
+        }
+    }
+
+    @Test
+    public void testIncludedAndIgnoredNames() {
+        Map<String, String> nameOverrides = new HashMap<>();
+        nameOverrides.put("b", "external b");
+        PropertyIndex index = new PropertyIndex(new HashSet<>(Arrays.asList("c", "a", "b")), new HashSet<>(Arrays.asList("d", "0")),
+                nameOverrides);
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), index.getIncludedNames());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("0", "d")), index.getIgnoredNames());
+        Assert.assertTrue(index.isIncluded("a"));
+        Assert.assertTrue(index.isIncluded("c"));
+        Assert.assertFalse(index.isIncluded("0"));
+        Assert.assertFalse(index.isIncluded("d"));
+        Assert.assertFalse(index.isIncluded("e"));
+        Assert.assertNull(index.getNameOverride("a"));
+        Assert.assertEquals("external b", index.getNameOverride("b"));
+        Assert.assertNull(index.getNameOverride("e"));
+    }
+
+    @Test
+    public void testWithoutExternalNames() {
+        PropertyIndex index = new PropertyIndex(Collections.singleton("a"), Collections.emptySet());
+        Assert.assertFalse(index.hasExternalNames());
+        Assert.assertTrue(index.isIncluded("a"));
+        Assert.assertNull(index.getNameOverride("a"));
+
+        PropertyIndex indexWithoutOverrides = new PropertyIndex(Collections.singleton("a"), Collections.emptySet(), Collections.emptyMap());
+        Assert.assertTrue(indexWithoutOverrides.hasExternalNames());
+        Assert.assertNull(indexWithoutOverrides.getNameOverride("a"));
+    }
+
+    @Test
+    public void testNamesBeingInterned() {
+        String name = new String(new char[]{'a', 'b'});
+        String externalName = new String(new char[]{'c', 'd'});
+        PropertyIndex index = new PropertyIndex(Collections.singleton(name), Collections.emptySet(), Collections.singletonMap(name, externalName));
+
+        Assert.assertSame("ab", index.getIncludedNames().iterator().next());
+        Assert.assertSame("cd", index.getNameOverride("ab"));
+    }
+
+    @JsonIgnoreProperties({"fieldIgnoredOnClass"})
+    private static class TestClass {
+
+        public String includedField;
+        @JsonProperty("renamed_field")
+        public String renamedField;
+        private String privateFieldWithGetter;
+        private String privateFieldWithoutGetter;
+        @JsonIgnore
+        public String fieldWithJsonIgnore;
+        public String fieldIgnoredOnClass;
+
+        public String getPrivateFieldWithGetter() {
+            return this.privateFieldWithGetter;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 VicTools.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.github.victools.jsonschema.module.jackson;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test for the {@link SubtypeIndex}.
+ */
+public class SubtypeIndexTest {
+
+    @Test
+    public void testOf() {
+        SubtypeIndex index = SubtypeIndex.of(Arrays.asList(TestSubClass.class, TestBaseType.class, TestAbstractType.class,
+                TestUnrelatedClass.class, TestOtherSubClass.class));
+
+        // the interface and the abstract class are polymorphic, the concrete sub classes inherit the JsonTypeInfo annotation
+        Assert.assertEquals(4, index.getBaseTypeCount());
+        Assert.assertTrue(index.contains(TestBaseType.class));
+        Assert.assertFalse(index.contains(TestUnrelatedClass.class));
+        Assert.assertEquals(Arrays.asList(TestOtherSubClass.class, TestSubClass.class), index.getSubtypes(TestBaseType.class));
+        Assert.assertEquals(Collections.singletonList(TestOtherSubClass.class), index.getSubtypes(TestAbstractType.class));
+        Assert.assertEquals(Collections.emptyList(), index.getSubtypes(TestSubClass.class));
+        Assert.assertEquals(Collections.emptyList(), index.getSubtypes(TestUnrelatedClass.class));
+    }
+
+    @Test
+    public void testWriteAndReadRoundTrip() throws IOException {
+        SubtypeIndex index = SubtypeIndex.of(Arrays.asList(TestBaseType.class, TestAbstractType.class, TestSubClass.class,
+                TestOtherSubClass.class));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        index.writeTo(outputStream);
+        SubtypeIndex result = SubtypeIndex.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        Assert.assertEquals(4, result.getBaseTypeCount());
+        Assert.assertEquals(Arrays.asList(TestOtherSubClass.class, TestSubClass.class), result.getSubtypes(TestBaseType.class));
+        Assert.assertEquals(Collections.singletonList(TestOtherSubClass.class), result.getSubtypes(TestAbstractType.class));
+    }
+
+    @Test
+    public void testStaleEntryBeingSkipped() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(0x4A535354);
+        output.writeInt(1);
+        output.writeInt(1);
+        output.writeUTF(TestBaseType.class.getName());
+        output.writeInt(2);
+        output.writeUTF(TestBaseType.class.getName() + "Removed");
+        output.writeUTF(TestSubClass.class.getName());
+        SubtypeIndex result = SubtypeIndex.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        Assert.assertTrue(result.contains(TestBaseType.class));
+        Assert.assertEquals(Collections.singletonList(TestSubClass.class), result.getSubtypes(TestBaseType.class));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadingInvalidStream() throws IOException {
+        SubtypeIndex.readFrom(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}));
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadingUnsupportedFormatVersion() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(0x4A535354);
+        output.writeInt(2);
+        SubtypeIndex.readFrom(new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
+    @JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+    private interface TestBaseType {
+    }
+
+    private static class TestSubClass implements TestBaseType {
+    }
+
+    private abstract static class TestAbstractType implements TestBaseType {
+    }
+
+    private static class TestOtherSubClass extends TestAbstractType {
+    }
+
+    private static class TestUnrelatedClass {
+    }
+}